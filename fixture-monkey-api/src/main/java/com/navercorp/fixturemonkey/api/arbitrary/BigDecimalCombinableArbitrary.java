@@ -127,6 +127,10 @@ public interface BigDecimalCombinableArbitrary extends CombinableArbitrary<BigDe
 
 	@Override
 	default BigDecimalCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new BigDecimalCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
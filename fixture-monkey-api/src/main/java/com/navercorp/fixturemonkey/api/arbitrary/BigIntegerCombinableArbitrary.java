@@ -128,6 +128,10 @@ public interface BigIntegerCombinableArbitrary extends CombinableArbitrary<BigIn
 
 	@Override
 	default BigIntegerCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new BigIntegerCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -97,6 +97,10 @@ public interface ByteCombinableArbitrary extends CombinableArbitrary<Byte> {
 
 	@Override
 	default ByteCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new ByteCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
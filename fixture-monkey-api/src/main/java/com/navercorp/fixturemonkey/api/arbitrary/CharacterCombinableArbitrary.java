@@ -116,6 +116,10 @@ public interface CharacterCombinableArbitrary extends CombinableArbitrary<Charac
 
 	@Override
 	default CharacterCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new CharacterCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
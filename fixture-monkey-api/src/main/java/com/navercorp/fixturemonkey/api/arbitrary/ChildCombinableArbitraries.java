@@ -0,0 +1,138 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * The child {@link CombinableArbitrary}s of an object,
+ * it is a read-only map ordered by the {@link CombinedPropertyValues.Slots}.
+ * <p>
+ * {@link ObjectCombineArbitraryBuilder#properties(java.util.Map)} keeps it as it is,
+ * the object {@link CombinableArbitrary} uses its slots instead of building new ones.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class ChildCombinableArbitraries extends AbstractMap<ArbitraryProperty, CombinableArbitrary<?>> {
+	private final CombinedPropertyValues.Slots slots;
+	private final ArbitraryProperty[] properties;
+	private final CombinableArbitrary<?>[] combinableArbitraries;
+
+	/**
+	 * The child properties should have the same slots as {@code slots}.
+	 *
+	 * @param slots                 the slots of the child properties
+	 * @param properties            the child properties in the order of their slots
+	 * @param combinableArbitraries the child arbitraries in the order of their slots
+	 */
+	public ChildCombinableArbitraries(
+		CombinedPropertyValues.Slots slots,
+		ArbitraryProperty[] properties,
+		CombinableArbitrary<?>[] combinableArbitraries
+	) {
+		this.slots = slots;
+		this.properties = properties;
+		this.combinableArbitraries = combinableArbitraries;
+	}
+
+	CombinedPropertyValues.Slots getSlots() {
+		return slots;
+	}
+
+	ArbitraryProperty[] getProperties() {
+		return properties;
+	}
+
+	CombinableArbitrary<?>[] getCombinableArbitraries() {
+		return combinableArbitraries;
+	}
+
+	@Override
+	public int size() {
+		return properties.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return slots.indexOf(key) != null;
+	}
+
+	@Nullable
+	@Override
+	public CombinableArbitrary<?> get(Object key) {
+		Integer index = slots.indexOf(key);
+		return index == null ? null : combinableArbitraries[index];
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super ArbitraryProperty, ? super CombinableArbitrary<?>> action) {
+		for (int i = 0; i < properties.length; i++) {
+			action.accept(properties[i], combinableArbitraries[i]);
+		}
+	}
+
+	@Override
+	public Collection<CombinableArbitrary<?>> values() {
+		return Collections.unmodifiableList(Arrays.asList(combinableArbitraries));
+	}
+
+	@Override
+	public Set<Entry<ArbitraryProperty, CombinableArbitrary<?>>> entrySet() {
+		return new AbstractSet<Entry<ArbitraryProperty, CombinableArbitrary<?>>>() {
+			@Override
+			public Iterator<Entry<ArbitraryProperty, CombinableArbitrary<?>>> iterator() {
+				return new Iterator<Entry<ArbitraryProperty, CombinableArbitrary<?>>>() {
+					private int index = 0;
+
+					@Override
+					public boolean hasNext() {
+						return index < properties.length;
+					}
+
+					@Override
+					public Entry<ArbitraryProperty, CombinableArbitrary<?>> next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						int current = index++;
+						return new SimpleImmutableEntry<>(properties[current], combinableArbitraries[current]);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return properties.length;
+			}
+		};
+	}
+}
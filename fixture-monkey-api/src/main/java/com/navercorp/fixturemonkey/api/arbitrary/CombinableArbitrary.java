@@ -18,6 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
+import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -26,6 +27,7 @@ import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
@@ -91,6 +93,18 @@ public interface CombinableArbitrary<T> {
 		return new LazyCombinableArbitrary<>(lazyArbitrary);
 	}
 
+	/**
+	 * Generates a {@link CombinableArbitrary} which returns one of the given values.
+	 * Its {@link #unique()} draws the values without replacement.
+	 *
+	 * @param values the candidates
+	 * @return a {@link CombinableArbitrary} returns one of the given values
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static <T> CombinableArbitrary<T> oneOf(List<T> values) {
+		return new OneOfCombinableArbitrary<>(values);
+	}
+
 	/**
 	 * Generates a builder for generating {@link ObjectCombinableArbitrary}.
 	 *
@@ -175,11 +189,16 @@ public interface CombinableArbitrary<T> {
 
 	/**
 	 * Makes it return {@code null} with a {@code nullProbability}% chance.
+	 * It returns itself if {@code nullProbability} is too small to return {@code null}, for example a primitive type.
 	 *
 	 * @param nullProbability a probability to be {@code null}
 	 * @return A {@link CombinableArbitrary} may return {@code null}
 	 */
 	default CombinableArbitrary<T> injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new NullInjectCombinableArbitrary<>(
 			this,
 			nullProbability
@@ -193,9 +212,25 @@ public interface CombinableArbitrary<T> {
 	 * @return A {@link CombinableArbitrary} returns a unique value
 	 */
 	default CombinableArbitrary<T> unique() {
+		ValueDomain<T> domain = domain();
+		if (domain != null) {
+			return new DomainUniqueCombinableArbitrary<>(domain.newSampler());
+		}
 		return new UniqueCombinableArbitrary<>(this, new ConcurrentHashMap<>());
 	}
 
+	/**
+	 * Returns the finite set of values it may generate.
+	 * If it is known, {@link #unique()} draws the domain without replacement instead of filtering duplicates.
+	 *
+	 * @return the domain of generated values, {@code null} if it is unknown
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	@Nullable
+	default ValueDomain<T> domain() {
+		return null;
+	}
+
 	/**
 	 * Forces it to generate a new populated object.
 	 */
@@ -0,0 +1,229 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * The combined values of the child properties of an object, it is a read-only view indexed by the slots.
+ * <p>
+ * Each child {@link ArbitraryProperty} has a fixed slot in {@link Slots}, the slots are built once for a tree node
+ * and shared by the samples. The values are written into an array for each combination instead of a new map.
+ * It could be also read as a {@link Map} keyed by {@link ArbitraryProperty}.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class CombinedPropertyValues extends AbstractMap<ArbitraryProperty, Object> {
+	private final Slots slots;
+	private final ArbitraryProperty[] properties;
+	private final Object[] values;
+
+	CombinedPropertyValues(Slots slots, ArbitraryProperty[] properties, Object[] values) {
+		this.slots = slots;
+		this.properties = properties;
+		this.values = values;
+	}
+
+	public ArbitraryProperty getProperty(int index) {
+		return properties[index];
+	}
+
+	@Nullable
+	public Object getValue(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Returns the value of the property of the given resolved property name.
+	 *
+	 * @see com.navercorp.fixturemonkey.api.property.PropertyNameResolver
+	 */
+	@Nullable
+	public Object getByResolvedName(String resolvedPropertyName) {
+		Integer index = slots.indexOfResolvedName(resolvedPropertyName);
+		return index == null ? null : values[index];
+	}
+
+	/**
+	 * Returns the value of the property of the given property name.
+	 */
+	@Nullable
+	public Object getByPropertyName(String propertyName) {
+		Integer index = slots.indexOfPropertyName(propertyName);
+		return index == null ? null : values[index];
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return slots.indexOf(key) != null;
+	}
+
+	@Nullable
+	@Override
+	public Object get(Object key) {
+		Integer index = slots.indexOf(key);
+		return index == null ? null : values[index];
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super ArbitraryProperty, ? super Object> action) {
+		for (int i = 0; i < values.length; i++) {
+			action.accept(properties[i], values[i]);
+		}
+	}
+
+	@Override
+	public Set<Entry<ArbitraryProperty, Object>> entrySet() {
+		return new AbstractSet<Entry<ArbitraryProperty, Object>>() {
+			@Override
+			public Iterator<Entry<ArbitraryProperty, Object>> iterator() {
+				return new Iterator<Entry<ArbitraryProperty, Object>>() {
+					private int index = 0;
+
+					@Override
+					public boolean hasNext() {
+						return index < values.length;
+					}
+
+					@Override
+					public Entry<ArbitraryProperty, Object> next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						int current = index++;
+						return new SimpleImmutableEntry<>(properties[current], values[current]);
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.length;
+			}
+		};
+	}
+
+	/**
+	 * The fixed slots of the child properties of an object.
+	 * It is immutable and built once for a tree node, the combinations of all samples share it.
+	 * The slots could be looked up by an equal {@link ArbitraryProperty} of another sample,
+	 * the indexes are built lazily when they are looked up first.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public static final class Slots {
+		private final ArbitraryProperty[] properties;
+		@Nullable
+		private volatile Map<ArbitraryProperty, Integer> indexByProperty = null;
+		@Nullable
+		private volatile Map<String, Integer> indexByResolvedName = null;
+		@Nullable
+		private volatile Map<String, Integer> indexByPropertyName = null;
+
+		public Slots(List<ArbitraryProperty> properties) {
+			this.properties = properties.toArray(new ArbitraryProperty[0]);
+		}
+
+		public int size() {
+			return properties.length;
+		}
+
+		/**
+		 * Returns whether the given child properties have the same slots as this.
+		 *
+		 * @param properties the child properties in the order of their slots
+		 * @return {@code true} if this could be used for the given child properties
+		 */
+		public boolean matches(List<ArbitraryProperty> properties) {
+			if (this.properties.length != properties.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < this.properties.length; i++) {
+				if (!this.properties[i].equals(properties.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Nullable
+		Integer indexOf(Object property) {
+			Map<ArbitraryProperty, Integer> indexByProperty = this.indexByProperty;
+			if (indexByProperty == null) {
+				Map<ArbitraryProperty, Integer> result = new HashMap<>();
+				for (int i = 0; i < properties.length; i++) {
+					result.put(properties[i], i);
+				}
+				indexByProperty = Collections.unmodifiableMap(result);
+				this.indexByProperty = indexByProperty;
+			}
+			return indexByProperty.get(property);
+		}
+
+		@Nullable
+		Integer indexOfResolvedName(String resolvedPropertyName) {
+			Map<String, Integer> indexByResolvedName = this.indexByResolvedName;
+			if (indexByResolvedName == null) {
+				Map<String, Integer> result = new HashMap<>();
+				for (int i = 0; i < properties.length; i++) {
+					result.put(properties[i].getObjectProperty().getResolvedPropertyName(), i);
+				}
+				indexByResolvedName = Collections.unmodifiableMap(result);
+				this.indexByResolvedName = indexByResolvedName;
+			}
+			return indexByResolvedName.get(resolvedPropertyName);
+		}
+
+		@Nullable
+		Integer indexOfPropertyName(String propertyName) {
+			Map<String, Integer> indexByPropertyName = this.indexByPropertyName;
+			if (indexByPropertyName == null) {
+				Map<String, Integer> result = new HashMap<>();
+				for (int i = 0; i < properties.length; i++) {
+					String name = properties[i].getObjectProperty().getProperty().getName();
+					if (name != null) {
+						result.put(name, i);
+					}
+				}
+				indexByPropertyName = Collections.unmodifiableMap(result);
+				this.indexByPropertyName = indexByPropertyName;
+			}
+			return indexByPropertyName.get(propertyName);
+		}
+	}
+}
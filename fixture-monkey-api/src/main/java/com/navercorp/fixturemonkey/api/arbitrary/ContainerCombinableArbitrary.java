@@ -18,6 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -50,9 +51,10 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	@SuppressWarnings("type.arguments.not.inferred")
 	public T combined() {
-		List<Object> combinedList = combinableArbitraryList.stream()
-			.map(CombinableArbitrary::combined)
-			.collect(Collectors.toList());
+		List<Object> combinedList = new ArrayList<>(combinableArbitraryList.size());
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraryList) {
+			combinedList.add(combinableArbitrary.combined());
+		}
 
 		return combinator.apply(combinedList);
 	}
@@ -60,9 +62,10 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	@SuppressWarnings({"return"})
 	public Object rawValue() {
-		List<Object> rawValues = combinableArbitraryList.stream()
-			.map(CombinableArbitrary::rawValue)
-			.collect(Collectors.toList());
+		List<Object> rawValues = new ArrayList<>(combinableArbitraryList.size());
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraryList) {
+			rawValues.add(combinableArbitrary.rawValue());
+		}
 
 		return combinator.apply(rawValues);
 	}
@@ -89,6 +92,13 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	@SuppressWarnings("argument")
 	public CombinableArbitrary<T> unique() {
+		ValueDomain<?> sharedDomain = ValueDomain.sharedBy(this.combinableArbitraryList);
+		if (sharedDomain != null) {
+			return CombinableArbitrary.containerBuilder()
+				.uniqueElements(sharedDomain, this.combinableArbitraryList.size())
+				.build(this.combinator);
+		}
+
 		List<CombinableArbitrary<?>> uniqueCombinableArbitraryList = this.combinableArbitraryList.stream()
 			.map(arbitrary -> arbitrary.filter(it -> {
 				if (!generatedMap.containsKey(it)) {
@@ -103,4 +113,5 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 			.elements(uniqueCombinableArbitraryList)
 			.build(this.combinator);
 	}
+
 }
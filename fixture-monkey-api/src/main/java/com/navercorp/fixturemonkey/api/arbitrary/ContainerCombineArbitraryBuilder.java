@@ -25,12 +25,15 @@ import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 @API(since = "0.6.0", status = Status.MAINTAINED)
 public final class ContainerCombineArbitraryBuilder {
 	private final List<CombinableArbitrary<?>> elementArbitraryList;
 	private Runnable postBuild = () -> {
 	};
+	@Nullable
+	private UniqueSampler<?> uniqueSampler = null;
 
 	ContainerCombineArbitraryBuilder() {
 		elementArbitraryList = new ArrayList<>();
@@ -46,18 +49,50 @@ public final class ContainerCombineArbitraryBuilder {
 		return this;
 	}
 
+	/**
+	 * Adds the elements generating distinct values of the given domain.
+	 * The values are drawn without replacement, the domain is drawable again whenever a container is built.
+	 *
+	 * @param domain the domain of the elements
+	 * @param size   the number of the elements, it should not exceed the size of the domain
+	 * @return this builder
+	 * @see ValueDomain#sharedBy(List)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public ContainerCombineArbitraryBuilder uniqueElements(ValueDomain<?> domain, int size) {
+		if (domain.size() < size) {
+			throw new IllegalArgumentException(
+				"Given domain is too small to generate " + size + " unique elements. domain size: " + domain.size()
+			);
+		}
+
+		UniqueSampler<?> sampler = domain.newSampler();
+		for (int i = 0; i < size; i++) {
+			elementArbitraryList.add(new DomainUniqueCombinableArbitrary<>(sampler));
+		}
+		this.uniqueSampler = sampler;
+		return this;
+	}
+
 	public ContainerCombineArbitraryBuilder postBuild(Runnable postBuilderAction) {
 		this.postBuild = postBuilderAction;
 		return this;
 	}
 
 	public <T> CombinableArbitrary<T> build(Function<List<Object>, T> combinator) {
+		UniqueSampler<?> sampler = this.uniqueSampler;
 		return new ContainerCombinableArbitrary<>(
 			elementArbitraryList,
 			elements -> {
-				T container = combinator.apply(elements);
-				postBuild.run();
-				return container;
+				try {
+					T container = combinator.apply(elements);
+					postBuild.run();
+					return container;
+				} finally {
+					if (sampler != null) {
+						sampler.reset();
+					}
+				}
 			},
 			new ConcurrentHashMap<>()
 		);
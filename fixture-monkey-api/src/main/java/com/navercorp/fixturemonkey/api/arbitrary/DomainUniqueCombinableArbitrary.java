@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * It would generate a unique value by drawing the {@link ValueDomain} without replacement.
+ * It throws {@link com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException}
+ * if all the values of the domain are generated.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+final class DomainUniqueCombinableArbitrary<T> implements CombinableArbitrary<T> {
+	private final UniqueSampler<T> sampler;
+
+	DomainUniqueCombinableArbitrary(UniqueSampler<T> sampler) {
+		this.sampler = sampler;
+	}
+
+	@Override
+	public T combined() {
+		return sampler.next();
+	}
+
+	@Override
+	public Object rawValue() {
+		return sampler.next();
+	}
+
+	@Override
+	public void clear() {
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -142,6 +142,10 @@ public interface DoubleCombinableArbitrary extends CombinableArbitrary<Double> {
 
 	@Override
 	default DoubleCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new DoubleCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
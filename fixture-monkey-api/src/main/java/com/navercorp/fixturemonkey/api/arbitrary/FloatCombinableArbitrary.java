@@ -142,6 +142,10 @@ public interface FloatCombinableArbitrary extends CombinableArbitrary<Float> {
 
 	@Override
 	default FloatCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new FloatCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -80,6 +80,10 @@ public interface IntegerCombinableArbitrary extends CombinableArbitrary<Integer>
 
 	@Override
 	default IntegerCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new IntegerCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -97,6 +97,10 @@ public interface LongCombinableArbitrary extends CombinableArbitrary<Long> {
 
 	@Override
 	default LongCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new LongCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -76,13 +76,36 @@ final class NullInjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		return combinableArbitrary.unique();
 	}
 
+	/**
+	 * Returns {@code null} if it could inject {@code null}, {@code null} is not a value of the domain.
+	 */
+	@Override
+	@Nullable
+	public ValueDomain<T> domain() {
+		if (isNullInjectable(nullProbability)) {
+			return null;
+		}
+		return combinableArbitrary.domain();
+	}
+
+	/**
+	 * Checks if it could return {@code null} with given {@code nullProbability}.
+	 */
+	static boolean isNullInjectable(double nullProbability) {
+		return toFrequencyNull(nullProbability) > 0;
+	}
+
 	@Nullable
 	private Object injectNull(Object object) {
-		int frequencyNull = (int)Math.round(nullProbability * 1000);
+		int frequencyNull = toFrequencyNull(nullProbability);
 		if (frequencyNull <= 0) {
 			return object;
 		}
 		int currentSeed = Randoms.nextInt(1000);
 		return currentSeed < frequencyNull ? null : object;
 	}
+
+	private static int toFrequencyNull(double nullProbability) {
+		return (int)Math.round(nullProbability * 1000);
+	}
 }
@@ -18,7 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -29,55 +29,80 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 
 /**
  * It combines given {@link CombinableArbitrary} list into an object type {@link CombinableArbitrary}.
+ * The child properties have the fixed slots, the combined values are written into an array for each combination.
+ * The slots of {@link ChildCombinableArbitraries} are reused, they are built once for a tree node.
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 final class ObjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
-	private final Map<ArbitraryProperty, CombinableArbitrary<?>> combinableArbitrariesByArbitraryProperty;
-	private final Function<Map<ArbitraryProperty, Object>, T> combinator;
+	private final CombinedPropertyValues.Slots slots;
+	private final ArbitraryProperty[] properties;
+	private final CombinableArbitrary<?>[] combinableArbitraries;
+	private final Function<CombinedPropertyValues, T> combinator;
+
+	ObjectCombinableArbitrary(
+		ChildCombinableArbitraries childCombinableArbitraries,
+		Function<CombinedPropertyValues, T> combinator
+	) {
+		this.slots = childCombinableArbitraries.getSlots();
+		this.properties = childCombinableArbitraries.getProperties();
+		this.combinableArbitraries = childCombinableArbitraries.getCombinableArbitraries();
+		this.combinator = combinator;
+	}
 
 	ObjectCombinableArbitrary(
 		Map<ArbitraryProperty, CombinableArbitrary<?>> combinableArbitrariesByArbitraryProperty,
-		Function<Map<ArbitraryProperty, Object>, T> combinator
+		Function<CombinedPropertyValues, T> combinator
 	) {
-		this.combinableArbitrariesByArbitraryProperty = combinableArbitrariesByArbitraryProperty;
+		int size = combinableArbitrariesByArbitraryProperty.size();
+		this.properties = new ArbitraryProperty[size];
+		this.combinableArbitraries = new CombinableArbitrary<?>[size];
+		int index = 0;
+		for (Map.Entry<ArbitraryProperty, CombinableArbitrary<?>> entry :
+			combinableArbitrariesByArbitraryProperty.entrySet()) {
+			properties[index] = entry.getKey();
+			combinableArbitraries[index] = entry.getValue();
+			index++;
+		}
+		this.slots = new CombinedPropertyValues.Slots(Arrays.asList(properties));
 		this.combinator = combinator;
 	}
 
-	@SuppressWarnings("argument")
 	@Override
 	public T combined() {
-		Map<ArbitraryProperty, Object> combinedPropertyValuesByArbitraryProperty = new HashMap<>();
-
-		combinableArbitrariesByArbitraryProperty.forEach(
-			(key, value) -> combinedPropertyValuesByArbitraryProperty.put(key, value.combined())
-		);
+		Object[] values = new Object[combinableArbitraries.length];
+		for (int i = 0; i < combinableArbitraries.length; i++) {
+			values[i] = combinableArbitraries[i].combined();
+		}
 
-		return combinator.apply(combinedPropertyValuesByArbitraryProperty);
+		return combinator.apply(new CombinedPropertyValues(slots, properties, values));
 	}
 
-	@SuppressWarnings({"return", "argument"})
 	@Override
 	public Object rawValue() {
-		Map<ArbitraryProperty, Object> rawPropertyValuesByArbitraryProperty = new HashMap<>();
+		Object[] values = new Object[combinableArbitraries.length];
+		for (int i = 0; i < combinableArbitraries.length; i++) {
+			values[i] = combinableArbitraries[i].rawValue();
+		}
 
-		combinableArbitrariesByArbitraryProperty.forEach(
-			(key, value) -> rawPropertyValuesByArbitraryProperty.put(key, value.rawValue())
-		);
-
-		return combinator.apply(rawPropertyValuesByArbitraryProperty);
+		return combinator.apply(new CombinedPropertyValues(slots, properties, values));
 	}
 
 	@Override
 	public void clear() {
-		combinableArbitrariesByArbitraryProperty.forEach((property, arbitrary) -> {
-			if (!arbitrary.fixed()) {
-				arbitrary.clear();
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraries) {
+			if (!combinableArbitrary.fixed()) {
+				combinableArbitrary.clear();
 			}
-		});
+		}
 	}
 
 	@Override
 	public boolean fixed() {
-		return combinableArbitrariesByArbitraryProperty.values().stream().allMatch(CombinableArbitrary::fixed);
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraries) {
+			if (!combinableArbitrary.fixed()) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
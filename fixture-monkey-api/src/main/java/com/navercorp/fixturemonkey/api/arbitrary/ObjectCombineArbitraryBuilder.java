@@ -24,18 +24,25 @@ import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 
 @API(since = "0.6.0", status = Status.MAINTAINED)
 public final class ObjectCombineArbitraryBuilder {
 	private final Map<ArbitraryProperty, CombinableArbitrary<?>> arbitraryListByArbitraryProperty;
+	/**
+	 * It is kept as it is if it is the only given properties, its slots would be reused.
+	 */
+	@Nullable
+	private ChildCombinableArbitraries childCombinableArbitraries = null;
 
 	ObjectCombineArbitraryBuilder() {
 		this.arbitraryListByArbitraryProperty = new HashMap<>();
 	}
 
 	public ObjectCombineArbitraryBuilder property(ArbitraryProperty property, CombinableArbitrary<?> arbitrary) {
+		flushChildCombinableArbitraries();
 		arbitraryListByArbitraryProperty.put(property, arbitrary);
 		return this;
 	}
@@ -43,14 +50,42 @@ public final class ObjectCombineArbitraryBuilder {
 	public ObjectCombineArbitraryBuilder properties(
 		Map<ArbitraryProperty, CombinableArbitrary<?>> arbitraryListByArbitraryProperty
 	) {
+		if (arbitraryListByArbitraryProperty instanceof ChildCombinableArbitraries
+			&& this.arbitraryListByArbitraryProperty.isEmpty()
+			&& this.childCombinableArbitraries == null) {
+			this.childCombinableArbitraries = (ChildCombinableArbitraries)arbitraryListByArbitraryProperty;
+			return this;
+		}
+
+		flushChildCombinableArbitraries();
 		this.arbitraryListByArbitraryProperty.putAll(arbitraryListByArbitraryProperty);
 		return this;
 	}
 
 	public <T> CombinableArbitrary<T> build(Function<Map<ArbitraryProperty, Object>, T> combinator) {
+		return buildWithValues(combinator::apply);
+	}
+
+	/**
+	 * Builds an object {@link CombinableArbitrary} which combines the values read by the slots of the properties.
+	 * It is the same as {@link #build(Function)}, but the combinator could read the values by the names.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> CombinableArbitrary<T> buildWithValues(Function<CombinedPropertyValues, T> combinator) {
+		if (childCombinableArbitraries != null) {
+			return new ObjectCombinableArbitrary<>(childCombinableArbitraries, combinator);
+		}
+
 		return new ObjectCombinableArbitrary<>(
 			arbitraryListByArbitraryProperty,
 			combinator
 		);
 	}
+
+	private void flushChildCombinableArbitraries() {
+		if (childCombinableArbitraries != null) {
+			this.arbitraryListByArbitraryProperty.putAll(childCombinableArbitraries);
+			this.childCombinableArbitraries = null;
+		}
+	}
 }
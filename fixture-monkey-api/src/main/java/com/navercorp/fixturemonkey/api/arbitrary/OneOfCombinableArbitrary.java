@@ -0,0 +1,64 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * It would generate one of the given values, the values are its {@link ValueDomain}.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+final class OneOfCombinableArbitrary<T> implements CombinableArbitrary<T> {
+	private final List<T> values;
+	private final ValueDomain<T> domain;
+
+	OneOfCombinableArbitrary(List<T> values) {
+		this.values = values;
+		this.domain = ValueDomain.of(values);
+	}
+
+	@Override
+	public T combined() {
+		return values.get(Randoms.nextInt(values.size()));
+	}
+
+	@Override
+	public Object rawValue() {
+		return combined();
+	}
+
+	@Override
+	public void clear() {
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+
+	@Override
+	public ValueDomain<T> domain() {
+		return domain;
+	}
+}
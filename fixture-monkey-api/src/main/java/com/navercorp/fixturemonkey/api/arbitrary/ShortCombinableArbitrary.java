@@ -145,6 +145,10 @@ public interface ShortCombinableArbitrary extends CombinableArbitrary<Short> {
 
 	@Override
 	default ShortCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new ShortCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -168,6 +168,10 @@ public interface StringCombinableArbitrary extends CombinableArbitrary<String> {
 
 	@Override
 	default StringCombinableArbitrary injectNull(double nullProbability) {
+		if (!NullInjectCombinableArbitrary.isNullInjectable(nullProbability)) {
+			return this;
+		}
+
 		return new StringCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
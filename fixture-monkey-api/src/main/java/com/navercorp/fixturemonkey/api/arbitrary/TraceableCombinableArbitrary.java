@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.api.arbitrary;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.Traceable;
@@ -62,6 +63,12 @@ public final class TraceableCombinableArbitrary<T> implements CombinableArbitrar
 		return combinableArbitrary.unique();
 	}
 
+	@Override
+	@Nullable
+	public ValueDomain<T> domain() {
+		return combinableArbitrary.domain();
+	}
+
 	@Override
 	public PropertyPath getPropertyPath() {
 		return propertyPath;
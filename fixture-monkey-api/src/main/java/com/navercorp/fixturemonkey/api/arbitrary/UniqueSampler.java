@@ -0,0 +1,146 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Draws the values of a {@link ValueDomain} without replacement, each value is returned once.
+ */
+abstract class UniqueSampler<T> {
+	abstract T next();
+
+	/**
+	 * Makes all the values of the domain drawable again, in a new random order.
+	 */
+	abstract void reset();
+
+	static RetryableFilterMissException exhausted(long size) {
+		return new RetryableFilterMissException(
+			new NoSuchElementException("All " + size + " values of the domain are already generated.")
+		);
+	}
+
+	/**
+	 * Shuffles the values lazily by the Fisher-Yates algorithm, a swap per draw.
+	 */
+	static final class Shuffled<T> extends UniqueSampler<T> {
+		private final Object[] values;
+		private int remaining;
+
+		Shuffled(List<T> values) {
+			this.values = values.toArray();
+			this.remaining = this.values.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		synchronized T next() {
+			if (remaining == 0) {
+				throw exhausted(values.length);
+			}
+
+			int index = Randoms.nextInt(remaining);
+			remaining--;
+			Object value = values[index];
+			values[index] = values[remaining];
+			values[remaining] = value;
+			return (T)value;
+		}
+
+		@Override
+		synchronized void reset() {
+			remaining = values.length;
+		}
+	}
+
+	/**
+	 * Maps a counter into the range by a keyed Feistel network, which is a bijection.
+	 * The network works on the smallest even number of bits covering the range,
+	 * the outputs out of the range are permuted again until they are in the range (cycle-walking).
+	 */
+	static final class Permuted<T> extends UniqueSampler<T> {
+		private static final int ROUNDS = 4;
+
+		private final long min;
+		private final long size;
+		private final LongFunction<T> mapper;
+		private final int halfBits;
+		private final long halfMask;
+		private final long[] keys = new long[ROUNDS];
+		private long counter;
+
+		Permuted(long min, long size, LongFunction<T> mapper) {
+			this.min = min;
+			this.size = size;
+			this.mapper = mapper;
+			int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+			this.halfBits = Math.max(1, (bits + 1) / 2);
+			this.halfMask = (1L << halfBits) - 1;
+			this.reset();
+		}
+
+		@Override
+		synchronized T next() {
+			if (counter >= size) {
+				throw exhausted(size);
+			}
+
+			long index = counter++;
+
+			long permuted = index;
+			do {
+				permuted = permute(permuted);
+			} while (Long.compareUnsigned(permuted, size) >= 0);
+			return mapper.apply(min + permuted);
+		}
+
+		@Override
+		synchronized void reset() {
+			Random random = Randoms.current();
+			for (int i = 0; i < ROUNDS; i++) {
+				keys[i] = random.nextLong();
+			}
+			counter = 0L;
+		}
+
+		private long permute(long value) {
+			long left = value >>> halfBits;
+			long right = value & halfMask;
+			for (int i = 0; i < ROUNDS; i++) {
+				long next = left ^ (mix(right ^ keys[i]) & halfMask);
+				left = right;
+				right = next;
+			}
+			return (left << halfBits) | right;
+		}
+
+		private static long mix(long value) {
+			long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+			mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+			return mixed ^ (mixed >>> 31);
+		}
+	}
+}
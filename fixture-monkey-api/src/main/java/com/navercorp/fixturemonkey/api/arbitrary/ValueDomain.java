@@ -0,0 +1,145 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The values a {@link CombinableArbitrary} could generate.
+ * It is used to generate unique values without retrying until a value is not generated before.
+ * <p>
+ * The values of a finite domain are shuffled without replacement,
+ * the values of a numeric range are permuted by a Feistel network.
+ * <p>
+ * The values are drawn uniformly, they are not biased to the edge cases like the arbitraries of jqwik.
+ * The numeric arbitraries only provide a range up to {@value #MAX_RANGE_SIZE} values,
+ * the unique values of a wider range are rarely duplicated, they are generated and filtered instead.
+ *
+ * @see CombinableArbitrary#domain()
+ * @see CombinableArbitrary#unique()
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class ValueDomain<T> {
+	public static final long MAX_RANGE_SIZE = 1L << 16;
+
+	@Nullable
+	private final List<T> values;
+	private final long min;
+	private final long size;
+	@Nullable
+	private final LongFunction<T> mapper;
+
+	private ValueDomain(@Nullable List<T> values, long min, long size, @Nullable LongFunction<T> mapper) {
+		this.values = values;
+		this.min = min;
+		this.size = size;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Creates a finite domain of the given values.
+	 *
+	 * @param values the values of the domain, they should be distinct
+	 */
+	public static <T> ValueDomain<T> of(List<T> values) {
+		return new ValueDomain<>(Collections.unmodifiableList(new ArrayList<>(values)), 0L, values.size(), null);
+	}
+
+	/**
+	 * Creates a domain of the integral numbers from {@code min} to {@code max}, both inclusive.
+	 * The mapper should be shared between the domains of the same type to make them equal.
+	 *
+	 * @param min    the minimum value
+	 * @param max    the maximum value, the size of the range should not exceed {@link Long#MAX_VALUE}
+	 * @param mapper converts the number into the value of the domain
+	 */
+	public static <T> ValueDomain<T> range(long min, long max, LongFunction<T> mapper) {
+		long size = max - min + 1;
+		if (max < min || size <= 0) {
+			throw new IllegalArgumentException("Given range is too large or empty. min: " + min + ", max: " + max);
+		}
+		return new ValueDomain<>(null, min, size, mapper);
+	}
+
+	/**
+	 * Returns the domain shared by all the given arbitraries.
+	 * It is {@code null} if any of them has a different or unknown domain,
+	 * or the domain is too small to generate a distinct value for each of them.
+	 *
+	 * @param combinableArbitraryList the arbitraries to check
+	 * @return the shared domain, {@code null} if it is not shared
+	 */
+	@Nullable
+	public static ValueDomain<?> sharedBy(List<? extends CombinableArbitrary<?>> combinableArbitraryList) {
+		if (combinableArbitraryList.isEmpty()) {
+			return null;
+		}
+
+		ValueDomain<?> sharedDomain = combinableArbitraryList.get(0).domain();
+		if (sharedDomain == null || sharedDomain.size() < combinableArbitraryList.size()) {
+			return null;
+		}
+
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraryList) {
+			if (!sharedDomain.equals(combinableArbitrary.domain())) {
+				return null;
+			}
+		}
+		return sharedDomain;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	UniqueSampler<T> newSampler() {
+		if (values != null) {
+			return new UniqueSampler.Shuffled<>(values);
+		}
+		return new UniqueSampler.Permuted<>(min, size, Objects.requireNonNull(mapper));
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ValueDomain<?> that = (ValueDomain<?>)obj;
+		return min == that.min
+			&& size == that.size
+			&& Objects.equals(values, that.values)
+			&& Objects.equals(mapper, that.mapper);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(values, min, size, mapper);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * A {@link JavaConstraintGenerator} which memoizes the constraints of the delegate by the resolved {@link Property}.
+ * <p>
+ * The constraints are resolved from the annotations of the property, they never change for the same property.
+ * It resolves each constraint once and shares it between the arbitrary resolvers and the validating generators.
+ * The delegate should generate the constraints only from the resolved property of the given context.
+ * It is not applied to the given generator automatically, the generator should opt in by being wrapped.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class CachedJavaConstraintGenerator implements JavaConstraintGenerator {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final JavaConstraintGenerator delegate;
+	private final ConcurrentLruCache<Property, Optional<JavaStringConstraint>> stringConstraintsByProperty;
+	private final ConcurrentLruCache<Property, Optional<JavaIntegerConstraint>> integerConstraintsByProperty;
+	private final ConcurrentLruCache<Property, Optional<JavaDecimalConstraint>> decimalConstraintsByProperty;
+	private final ConcurrentLruCache<Property, Optional<JavaContainerConstraint>> containerConstraintsByProperty;
+	private final ConcurrentLruCache<Property, Optional<JavaDateTimeConstraint>> dateTimeConstraintsByProperty;
+
+	public CachedJavaConstraintGenerator(JavaConstraintGenerator delegate) {
+		this(delegate, DEFAULT_CACHE_SIZE);
+	}
+
+	public CachedJavaConstraintGenerator(JavaConstraintGenerator delegate, int cacheSize) {
+		this.delegate = delegate;
+		this.stringConstraintsByProperty = new ConcurrentLruCache<>(cacheSize);
+		this.integerConstraintsByProperty = new ConcurrentLruCache<>(cacheSize);
+		this.decimalConstraintsByProperty = new ConcurrentLruCache<>(cacheSize);
+		this.containerConstraintsByProperty = new ConcurrentLruCache<>(cacheSize);
+		this.dateTimeConstraintsByProperty = new ConcurrentLruCache<>(cacheSize);
+	}
+
+	/**
+	 * Wraps the given generator if it is not cached already.
+	 */
+	public static JavaConstraintGenerator of(JavaConstraintGenerator javaConstraintGenerator) {
+		if (javaConstraintGenerator instanceof CachedJavaConstraintGenerator
+			|| javaConstraintGenerator == DEFAULT_JAVA_CONSTRAINT_GENERATOR) {
+			return javaConstraintGenerator;
+		}
+		return new CachedJavaConstraintGenerator(javaConstraintGenerator);
+	}
+
+	@Nullable
+	@Override
+	public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+		return resolve(stringConstraintsByProperty, context, delegate::generateStringConstraint);
+	}
+
+	@Nullable
+	@Override
+	public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+		return resolve(integerConstraintsByProperty, context, delegate::generateIntegerConstraint);
+	}
+
+	@Nullable
+	@Override
+	public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+		return resolve(decimalConstraintsByProperty, context, delegate::generateDecimalConstraint);
+	}
+
+	@Nullable
+	@Override
+	public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+		return resolve(containerConstraintsByProperty, context, delegate::generateContainerConstraint);
+	}
+
+	@Nullable
+	@Override
+	public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+		return resolve(dateTimeConstraintsByProperty, context, delegate::generateDateTimeConstraint);
+	}
+
+	public JavaConstraintGenerator getDelegate() {
+		return delegate;
+	}
+
+	@Nullable
+	private static <T> T resolve(
+		ConcurrentLruCache<Property, Optional<T>> constraintsByProperty,
+		ArbitraryGeneratorContext context,
+		Function<ArbitraryGeneratorContext, T> generateConstraint
+	) {
+		return constraintsByProperty.computeIfAbsent(
+			context.getResolvedProperty(),
+			property -> Optional.ofNullable(generateConstraint.apply(context))
+		).orElse(null);
+	}
+}
@@ -15,12 +15,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+
 package com.navercorp.fixturemonkey.api.container;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -28,7 +39,14 @@ import org.jspecify.annotations.Nullable;
 
 /**
  * It is the Concurrent Least Recently Used cache.
- * It would remove the least recently used element when it is full.
+ * It would remove the approximately least recently used element when it is full.
+ * <p>
+ * The reads are non-blocking, they only mark the element as referenced.
+ * The eviction follows the second-chance (CLOCK) policy, the referenced elements are kept for one more round.
+ * Only one thread evicts at a time, the other threads do not wait for the eviction.
+ * The size of the cache may exceed the maximum size for a moment while the elements are being added concurrently.
+ * The removed elements are left in the eviction queue, they are purged when the queue is twice as big as
+ * the maximum size.
  *
  * @param <K> key of the cache
  * @param <V> value of the cache
@@ -36,69 +54,293 @@ import org.jspecify.annotations.Nullable;
 @API(since = "0.5.10", status = Status.MAINTAINED)
 @SuppressWarnings({"contracts", "override", "return"})
 public final class ConcurrentLruCache<K, V> implements Map<K, V> {
-	private final Map<K, V> lruCache;
+	private final int maxSize;
+	private final ConcurrentHashMap<K, Node<K, V>> cache;
+	private final Queue<Node<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger evictionQueueSize = new AtomicInteger();
+	private final ReentrantLock evictionLock = new ReentrantLock();
 
 	public ConcurrentLruCache(int maxSize) {
-		lruCache = Collections.synchronizedMap(new LruCache<>(maxSize));
+		this.maxSize = maxSize;
+		this.cache = new ConcurrentHashMap<>(Math.max(16, maxSize / 4));
 	}
 
 	@Override
 	public int size() {
-		return lruCache.size();
+		return cache.size();
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return lruCache.isEmpty();
+		return cache.isEmpty();
 	}
 
 	@Override
 	public boolean containsKey(Object key) {
-		return lruCache.containsKey(key);
+		return cache.containsKey(key);
 	}
 
 	@Override
 	public boolean containsValue(Object value) {
-		return lruCache.containsValue(value);
+		for (Node<K, V> node : cache.values()) {
+			if (Objects.equals(node.value, value)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
 	public @Nullable V get(Object key) {
-		return lruCache.get(key);
+		Node<K, V> node = cache.get(key);
+		if (node == null) {
+			return null;
+		}
+
+		node.markReferenced();
+		return node.value;
+	}
+
+	/**
+	 * The value of the existing element is replaced in place, it does not affect the eviction order.
+	 */
+	@Override
+	public @Nullable V put(K key, V value) {
+		while (true) {
+			Node<K, V> existing = cache.get(key);
+			if (existing != null) {
+				V previous = existing.value;
+				existing.value = value;
+				existing.markReferenced();
+				return previous;
+			}
+
+			Node<K, V> node = new Node<>(key, value);
+			if (cache.putIfAbsent(key, node) == null) {
+				offerEvictionQueue(node);
+				evictIfFull();
+				return null;
+			}
+		}
+	}
+
+	@Override
+	public @Nullable V putIfAbsent(K key, V value) {
+		Node<K, V> node = new Node<>(key, value);
+		Node<K, V> existing = cache.putIfAbsent(key, node);
+		if (existing != null) {
+			existing.markReferenced();
+			return existing.value;
+		}
+
+		offerEvictionQueue(node);
+		evictIfFull();
+		return null;
 	}
 
+	/**
+	 * The mapping function is called outside of any lock, it may be called more than once for the same key
+	 * when the key is requested concurrently, but the same value is returned for all of them.
+	 * It also allows the mapping function to access this cache recursively.
+	 */
 	@Override
-	public V put(K key, V value) {
-		return lruCache.put(key, value);
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+
+		V newValue = mappingFunction.apply(key);
+		if (newValue == null) {
+			return null;
+		}
+
+		V existing = putIfAbsent(key, newValue);
+		return existing != null ? existing : newValue;
 	}
 
 	@Override
-	public V remove(Object key) {
-		return lruCache.remove(key);
+	public @Nullable V remove(Object key) {
+		Node<K, V> removed = cache.remove(key);
+		return removed != null ? removed.value : null;
 	}
 
 	@Override
 	public void putAll(Map<? extends K, ? extends V> map) {
-		lruCache.putAll(map);
+		for (Entry<? extends K, ? extends V> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
 	}
 
 	@Override
 	public void clear() {
-		lruCache.clear();
+		cache.clear();
+		while (evictionQueue.poll() != null) {
+			evictionQueueSize.decrementAndGet();
+		}
 	}
 
 	@Override
 	public Set<K> keySet() {
-		return lruCache.keySet();
+		return cache.keySet();
 	}
 
 	@Override
 	public Collection<V> values() {
-		return lruCache.values();
+		return new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				Iterator<Node<K, V>> iterator = cache.values().iterator();
+				return new Iterator<V>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public V next() {
+						return iterator.next().value;
+					}
+
+					@Override
+					public void remove() {
+						iterator.remove();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return cache.size();
+			}
+		};
 	}
 
 	@Override
 	public Set<Entry<K, V>> entrySet() {
-		return lruCache.entrySet();
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				Iterator<Node<K, V>> iterator = cache.values().iterator();
+				return new Iterator<Entry<K, V>>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						Node<K, V> node = iterator.next();
+						return new SimpleImmutableEntry<>(node.key, node.value);
+					}
+
+					@Override
+					public void remove() {
+						iterator.remove();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return cache.size();
+			}
+		};
+	}
+
+	int evictionQueueSize() {
+		return evictionQueueSize.get();
+	}
+
+	private void offerEvictionQueue(Node<K, V> node) {
+		evictionQueue.offer(node);
+		evictionQueueSize.incrementAndGet();
+	}
+
+	/**
+	 * The thread failed to acquire the lock does not evict, the thread holding the lock checks the size again
+	 * after releasing it, so the elements added while evicting are not left over.
+	 */
+	private void evictIfFull() {
+		while (cache.size() > maxSize && evictionLock.tryLock()) {
+			try {
+				if (!evict()) {
+					return;
+				}
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+
+		if (evictionQueueSize.get() > 2 * maxSize && evictionLock.tryLock()) {
+			try {
+				purgeRemoved();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Purges the elements removed by {@link #remove(Object)} or the views of the cache,
+	 * they are not in the cache anymore but left in the eviction queue.
+	 */
+	private void purgeRemoved() {
+		Iterator<Node<K, V>> iterator = evictionQueue.iterator();
+		while (iterator.hasNext()) {
+			Node<K, V> node = iterator.next();
+			if (cache.get(node.key) != node) {
+				iterator.remove();
+				evictionQueueSize.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the elements until the size of the cache is not bigger than the maximum size.
+	 *
+	 * @return false if there is no element to evict
+	 */
+	private boolean evict() {
+		while (cache.size() > maxSize) {
+			Node<K, V> candidate = evictionQueue.poll();
+			if (candidate == null) {
+				return false;
+			}
+			evictionQueueSize.decrementAndGet();
+
+			if (cache.get(candidate.key) != candidate) {
+				continue; // already removed
+			}
+
+			if (candidate.referenced) {
+				candidate.referenced = false;
+				offerEvictionQueue(candidate);
+				continue;
+			}
+
+			cache.remove(candidate.key, candidate);
+		}
+		return true;
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+		private volatile boolean referenced = false;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		/**
+		 * Writes only if it is not referenced yet to avoid invalidating the cache line on every read.
+		 */
+		private void markReferenced() {
+			if (!referenced) {
+				referenced = true;
+			}
+		}
 	}
 }
@@ -0,0 +1,137 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * It is an immutable list which shares its elements with the list it is derived from.
+ * Adding an element creates a new list in constant time, the previous list is not changed.
+ * <p>
+ * It is for the contexts copied frequently but appended rarely,
+ * the copies of a context share the same list until one of them adds an element.
+ *
+ * @param <E> type of the elements
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class PersistentList<E> {
+	private static final PersistentList<?> EMPTY = new PersistentList<>(null, null, 0);
+
+	@Nullable
+	private final PersistentList<E> previous;
+	@Nullable
+	private final E last;
+	private final int size;
+
+	@Nullable
+	private volatile List<E> list;
+
+	private PersistentList(@Nullable PersistentList<E> previous, @Nullable E last, int size) {
+		this.previous = previous;
+		this.last = last;
+		this.size = size;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentList<E> empty() {
+		return (PersistentList<E>)EMPTY;
+	}
+
+	public PersistentList<E> add(E element) {
+		return new PersistentList<>(this, element, size + 1);
+	}
+
+	public PersistentList<E> addAll(Collection<? extends E> elements) {
+		PersistentList<E> added = this;
+		for (E element : elements) {
+			added = added.add(element);
+		}
+		return added;
+	}
+
+	/**
+	 * Returns the last added element in constant time.
+	 *
+	 * @return the last element, {@code null} if it is empty
+	 */
+	@Nullable
+	public E getLast() {
+		return last;
+	}
+
+	/**
+	 * Returns the list without the last added element in constant time.
+	 *
+	 * @return the list it is derived from, itself if it is empty
+	 */
+	public PersistentList<E> removeLast() {
+		return previous != null ? previous : this;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the elements in the order they are added.
+	 * It is materialized once and cached, the returned list is unmodifiable.
+	 *
+	 * @return the unmodifiable elements
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> asList() {
+		List<E> list = this.list;
+		if (list != null) {
+			return list;
+		}
+
+		if (size == 0) {
+			list = Collections.emptyList();
+		} else {
+			Object[] elements = new Object[size];
+			PersistentList<E> current = this;
+			while (current != null && current.size > 0) {
+				List<E> cached = current.list;
+				if (cached != null) {
+					for (int i = 0; i < current.size; i++) {
+						elements[i] = cached.get(i);
+					}
+					break;
+				}
+
+				elements[current.size - 1] = current.last;
+				current = current.previous;
+			}
+			list = Collections.unmodifiableList(Arrays.asList((E[])elements));
+		}
+		this.list = list;
+		return list;
+	}
+}
@@ -20,8 +20,16 @@ package com.navercorp.fixturemonkey.api.context;
 
 import static com.navercorp.fixturemonkey.api.type.Types.isJavaType;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.List;
-import java.util.TreeMap;
+import java.util.Map;
+import java.util.Objects;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -34,6 +42,8 @@ import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.tree.DefaultTraverseNode;
+import com.navercorp.fixturemonkey.api.tree.TraverseContext;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 /**
@@ -50,18 +60,40 @@ public final class MonkeyContext {
 	private final ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty;
 	private final ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty;
 	private final ConcurrentLruCache<TreeRootProperty, MonkeyGeneratorContext> generatorContextByRootProperty;
+	@Nullable
+	private final ConcurrentLruCache<TemplateKey, DefaultTraverseNode> templateRootNodesByKey;
 	private final List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders;
 	private final FixtureMonkeyOptions fixtureMonkeyOptions;
+
+	public MonkeyContext(
+		ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty,
+		ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty,
+		ConcurrentLruCache<TreeRootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders,
+		FixtureMonkeyOptions fixtureMonkeyOptions
+	) {
+		this(
+			arbitrariesByProperty,
+			javaArbitrariesByProperty,
+			generatorContextByRootProperty,
+			0,
+			registeredArbitraryBuilders,
+			fixtureMonkeyOptions
+		);
+	}
+
 	public MonkeyContext(
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> arbitrariesByProperty,
 		ConcurrentLruCache<Property, CombinableArbitrary<?>> javaArbitrariesByProperty,
 		ConcurrentLruCache<TreeRootProperty, MonkeyGeneratorContext> generatorContextByRootProperty,
+		int templateSize,
 		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders,
 		FixtureMonkeyOptions fixtureMonkeyOptions
 	) {
 		this.arbitrariesByProperty = arbitrariesByProperty;
 		this.javaArbitrariesByProperty = javaArbitrariesByProperty;
 		this.generatorContextByRootProperty = generatorContextByRootProperty;
+		this.templateRootNodesByKey = templateSize > 0 ? new ConcurrentLruCache<>(templateSize) : null;
 		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
 		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
 	}
@@ -93,7 +125,44 @@ public final class MonkeyContext {
 	) {
 		return generatorContextByRootProperty.computeIfAbsent(
 			rootProperty,
-			property -> new MonkeyGeneratorContext(new TreeMap<>())
+			property -> new MonkeyGeneratorContext()
+		);
+	}
+
+	/**
+	 * Returns the template of the tree for the given root property.
+	 * The template is generated only once for the same type of root property and the same property configurers,
+	 * it is instantiated for each sample by {@link DefaultTraverseNode#instantiateRootNode}.
+	 *
+	 * @param rootProperty    the root property of the tree
+	 * @param traverseContext the context of the root node
+	 * @return the root node of the template, null if the template is disabled or not available for the root property
+	 */
+	public @Nullable DefaultTraverseNode getTemplateRootNode(
+		TreeRootProperty rootProperty,
+		TraverseContext traverseContext
+	) {
+		if (templateRootNodesByKey == null) {
+			return null;
+		}
+
+		AnnotatedType rootAnnotatedType = rootProperty.getAnnotatedType();
+		if (hasTypeArgumentAnnotations(rootAnnotatedType)) {
+			return null;
+		}
+
+		TemplateKey templateKey = new TemplateKey(
+			rootAnnotatedType.getType(),
+			Arrays.asList(rootAnnotatedType.getAnnotations()),
+			traverseContext.getPropertyConfigurers()
+		);
+
+		return templateRootNodesByKey.computeIfAbsent(
+			templateKey,
+			key -> DefaultTraverseNode.generateTemplateRootNode(
+				rootProperty,
+				traverseContext.forTemplate()
+			)
 		);
 	}
 
@@ -104,4 +173,71 @@ public final class MonkeyContext {
 	public FixtureMonkeyOptions getFixtureMonkeyOptions() {
 		return fixtureMonkeyOptions;
 	}
+
+	/**
+	 * The annotations of the type arguments are not a part of {@link Type}, the template can not distinguish them.
+	 */
+	private static boolean hasTypeArgumentAnnotations(AnnotatedType annotatedType) {
+		AnnotatedType[] typeArguments;
+		if (annotatedType instanceof AnnotatedParameterizedType) {
+			typeArguments = ((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments();
+		} else if (annotatedType instanceof AnnotatedArrayType) {
+			typeArguments = new AnnotatedType[] {
+				((AnnotatedArrayType)annotatedType).getAnnotatedGenericComponentType()
+			};
+		} else if (annotatedType instanceof AnnotatedWildcardType) {
+			AnnotatedWildcardType wildcardType = (AnnotatedWildcardType)annotatedType;
+			typeArguments = concat(wildcardType.getAnnotatedUpperBounds(), wildcardType.getAnnotatedLowerBounds());
+		} else {
+			return false;
+		}
+
+		for (AnnotatedType typeArgument : typeArguments) {
+			if (typeArgument.getAnnotations().length != 0 || hasTypeArgumentAnnotations(typeArgument)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static AnnotatedType[] concat(AnnotatedType[] first, AnnotatedType[] second) {
+		AnnotatedType[] concat = Arrays.copyOf(first, first.length + second.length);
+		System.arraycopy(second, 0, concat, first.length, second.length);
+		return concat;
+	}
+
+	private static final class TemplateKey {
+		private final Type rootType;
+		private final List<Annotation> rootAnnotations;
+		private final Map<Class<?>, List<Property>> propertyConfigurers;
+
+		private TemplateKey(
+			Type rootType,
+			List<Annotation> rootAnnotations,
+			Map<Class<?>, List<Property>> propertyConfigurers
+		) {
+			this.rootType = rootType;
+			this.rootAnnotations = rootAnnotations;
+			this.propertyConfigurers = propertyConfigurers;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			TemplateKey that = (TemplateKey)obj;
+			return rootType.equals(that.rootType)
+				&& rootAnnotations.equals(that.rootAnnotations)
+				&& propertyConfigurers.equals(that.propertyConfigurers);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(rootType, rootAnnotations, propertyConfigurers);
+		}
+	}
 }
@@ -42,6 +42,7 @@ public final class MonkeyContextBuilder {
 	private List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredObjectBuilders;
 	private int cacheSize = 2048;
 	private int generatorContextSize = 1000;
+	private int templateSize = 256;
 
 	public MonkeyContextBuilder(FixtureMonkeyOptions fixtureMonkeyOptions) {
 		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
@@ -78,6 +79,18 @@ public final class MonkeyContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the maximum number of the tree templates cached by root type.
+	 * The tree template is disabled if the size is zero.
+	 *
+	 * @param templateSize the maximum number of the tree templates
+	 * @return this builder
+	 */
+	public MonkeyContextBuilder templateSize(int templateSize) {
+		this.templateSize = templateSize;
+		return this;
+	}
+
 	public MonkeyContextBuilder registeredObjectBuilder(
 		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredObjectBuilders
 	) {
@@ -106,6 +119,7 @@ public final class MonkeyContextBuilder {
 			arbitrariesByProperty,
 			javaArbitrariesByProperty,
 			generatorContextByRootProperty,
+			templateSize,
 			registeredObjectBuilders,
 			fixtureMonkeyOptions
 		);
@@ -18,9 +18,10 @@
 
 package com.navercorp.fixturemonkey.api.context;
 
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -32,30 +33,39 @@ import com.navercorp.fixturemonkey.api.property.PropertyPath;
 /**
  * It is the same context as {@code TraverseContext}, but exposed as public by {@link ArbitraryGeneratorContext}.
  * It focuses mainly on generation.
+ * <p>
+ * The generated values are tracked by each {@link PropertyPath} in a concurrent set,
+ * checking and adding a value is a single atomic operation without locking the whole context.
+ * The set of a property is evicted as soon as the unique container of the property is generated.
  */
 @API(since = "0.4.3", status = Status.MAINTAINED)
 public final class MonkeyGeneratorContext {
-	private final SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty;
+	private static final Object NULL = new Object();
 
-	public MonkeyGeneratorContext(SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty) {
-		this.uniqueSetsByProperty = uniqueSetsByProperty;
+	private final Map<PropertyPath, Set<Object>> uniqueSetsByProperty;
+
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public MonkeyGeneratorContext() {
+		this.uniqueSetsByProperty = new ConcurrentHashMap<>();
 	}
 
-	@SuppressWarnings("argument")
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
-		Set<Object> set = uniqueSetsByProperty.computeIfAbsent(property, p -> new HashSet<>());
-		boolean unique = !set.contains(value);
-		if (unique) {
-			set.add(value);
-			return true;
-		}
+	/**
+	 * Creates a context which starts with the given unique values.
+	 *
+	 * @deprecated Use {@link #MonkeyGeneratorContext()} instead, the given map is copied.
+	 */
+	@Deprecated
+	public MonkeyGeneratorContext(SortedMap<PropertyPath, Set<Object>> uniqueSetsByProperty) {
+		this();
+		uniqueSetsByProperty.forEach((property, values) -> values.forEach(value -> isUniqueAndCheck(property, value)));
+	}
 
-		return false;
+	public boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
+		return uniqueSetsByProperty.computeIfAbsent(property, p -> ConcurrentHashMap.newKeySet())
+			.add(value == null ? NULL : value);
 	}
 
 	public void evictUnique(PropertyPath propertyPath) {
-		if (uniqueSetsByProperty.containsKey(propertyPath)) {
-			uniqueSetsByProperty.get(propertyPath).clear();
-		}
+		uniqueSetsByProperty.remove(propertyPath);
 	}
 }
@@ -25,7 +25,6 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,7 +36,9 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.arbitrary.ChildCombinableArbitraries;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -49,13 +50,14 @@ public final class ArbitraryGeneratorContext implements Traceable {
 	private final Property resolvedProperty;
 	private final ArbitraryProperty property;
 	private final List<ArbitraryProperty> children;
+	private final CombinedPropertyValues.@Nullable Slots childSlots;
 	@Nullable
 	private final ArbitraryGeneratorContext ownerContext;
 	private final BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>> resolveArbitrary;
 	private final MonkeyGeneratorContext monkeyGeneratorContext;
 	private final LazyArbitrary<PropertyPath> lazyPropertyPath;
 	@SuppressWarnings("methodref.receiver.bound")
-	private final LazyArbitrary<Map<ArbitraryProperty, CombinableArbitrary<?>>> arbitraryListByArbitraryProperty =
+	private final LazyArbitrary<ChildCombinableArbitraries> arbitraryListByArbitraryProperty =
 		LazyArbitrary.lazy(this::initArbitraryListByArbitraryProperty);
 	private final int generateUniqueMaxTries;
 	private final double nullInject;
@@ -74,10 +76,44 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		int generateUniqueMaxTries,
 		double nullInject,
 		ArbitraryGeneratorLoggingContext loggingContext
+	) {
+		this(
+			resolvedProperty,
+			property,
+			children,
+			null,
+			ownerContext,
+			resolveArbitrary,
+			lazyPropertyPath,
+			monkeyGeneratorContext,
+			generateUniqueMaxTries,
+			nullInject,
+			loggingContext
+		);
+	}
+
+	/**
+	 * The {@code childSlots} are the slots of {@code children} built once for the tree node,
+	 * they are built for this context if {@code null}.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public ArbitraryGeneratorContext(
+		Property resolvedProperty,
+		ArbitraryProperty property,
+		List<ArbitraryProperty> children,
+		CombinedPropertyValues.@Nullable Slots childSlots,
+		@Nullable ArbitraryGeneratorContext ownerContext,
+		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>> resolveArbitrary,
+		LazyArbitrary<PropertyPath> lazyPropertyPath,
+		MonkeyGeneratorContext monkeyGeneratorContext,
+		int generateUniqueMaxTries,
+		double nullInject,
+		ArbitraryGeneratorLoggingContext loggingContext
 	) {
 		this.resolvedProperty = resolvedProperty;
 		this.property = property;
 		this.children = new ArrayList<>(children);
+		this.childSlots = childSlots;
 		this.ownerContext = ownerContext;
 		this.resolveArbitrary = resolveArbitrary;
 		this.lazyPropertyPath = lazyPropertyPath;
@@ -115,9 +151,12 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return nullInject;
 	}
 
+	/**
+	 * Returns the read-only map of the child {@link CombinableArbitrary}s by their {@link ArbitraryProperty}s.
+	 * It is ordered by the children, the object {@link CombinableArbitrary} built by it reuses their slots.
+	 */
 	public Map<ArbitraryProperty, CombinableArbitrary<?>> getCombinableArbitrariesByArbitraryProperty() {
-		return arbitraryListByArbitraryProperty.getValue().entrySet().stream()
-			.collect(toMap(Entry::getKey, Entry::getValue));
+		return arbitraryListByArbitraryProperty.getValue();
 	}
 
 	public Map<String, CombinableArbitrary<?>> getCombinableArbitrariesByResolvedName() {
@@ -144,7 +183,7 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return this.property.getObjectProperty().isRoot();
 	}
 
-	public synchronized boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
+	public boolean isUniqueAndCheck(PropertyPath property, @Nullable Object value) {
 		return monkeyGeneratorContext.isUniqueAndCheck(property, value);
 	}
 
@@ -172,13 +211,19 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		this.generated.set(generated);
 	}
 
-	private Map<ArbitraryProperty, CombinableArbitrary<?>> initArbitraryListByArbitraryProperty() {
-		Map<ArbitraryProperty, CombinableArbitrary<?>> childrenValues = new LinkedHashMap<>();
-		for (ArbitraryProperty child : this.getChildren()) {
-			CombinableArbitrary<?> arbitrary = this.resolveArbitrary.apply(this, child);
-			childrenValues.put(child, arbitrary);
+	private ChildCombinableArbitraries initArbitraryListByArbitraryProperty() {
+		int size = this.children.size();
+		ArbitraryProperty[] properties = new ArbitraryProperty[size];
+		CombinableArbitrary<?>[] combinableArbitraries = new CombinableArbitrary<?>[size];
+		for (int i = 0; i < size; i++) {
+			ArbitraryProperty child = this.children.get(i);
+			properties[i] = child;
+			combinableArbitraries[i] = this.resolveArbitrary.apply(this, child);
 		}
 
-		return childrenValues;
+		CombinedPropertyValues.Slots slots = this.childSlots != null
+			? this.childSlots
+			: new CombinedPropertyValues.Slots(this.children);
+		return new ChildCombinableArbitraries(slots, properties, combinableArbitraries);
 	}
 }
@@ -30,6 +30,7 @@ import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 /**
  * Generates a {@link CombinableArbitrary} by {@link ArbitraryIntrospector}.
@@ -62,10 +63,14 @@ public final class IntrospectedArbitraryGenerator implements ArbitraryGenerator
 
 		ArbitraryIntrospectorResult result = this.arbitraryIntrospector.introspect(context);
 		if (result != ArbitraryIntrospectorResult.NOT_INTROSPECTED && result.getValue() != null) {
-			double nullInject = context.getNullInject();
+			CombinableArbitrary<?> generated = result.getValue();
+			// a primitive type could not be null
+			if (!Types.getActualType(context.getResolvedType()).isPrimitive()) {
+				generated = generated.injectNull(context.getNullInject());
+			}
+
 			return new TraceableCombinableArbitrary<>(
-				result.getValue()
-					.injectNull(nullInject),
+				generated,
 				context.getPropertyPath()
 			);
 		}
@@ -41,6 +41,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -86,78 +87,16 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 				constraintGenerator.generateStringConstraint(context);
 
 			if (javaStringConstraint != null) {
-				generated = generated.filter(
-					it -> {
-						String string = (String)it;
-						if (javaStringConstraint.isNotNull() && string == null) {
-							return false;
-						}
-
-						if (javaStringConstraint.isNotBlank()) {
-							if (string == null) {
-								return false;
-							}
-							return !isBlank(string);
-						}
-
-						BigInteger minSize = javaStringConstraint.getMinSize();
-						if (minSize != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(minSize)
-								>= 0;
-						}
-
-						BigInteger maxSize = javaStringConstraint.getMaxSize();
-						if (maxSize != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(maxSize)
-								<= 0;
-						}
-
-						return true;
-					}
-				);
+				Predicate<Object> stringPredicate = toStringPredicate(javaStringConstraint);
+				generated = generated.filter(stringPredicate::test);
 			}
 		}
 
 		if (isDecimalType(type)) {
 			JavaDecimalConstraint javaDecimalConstraint = constraintGenerator.generateDecimalConstraint(context);
 			if (javaDecimalConstraint != null) {
-				generated = generated.filter(
-					it -> {
-						if (it == null) {
-							return true;
-						}
-
-						BigDecimal value = toBigDecimal(it);
-
-						BigDecimal min = javaDecimalConstraint.getMin();
-						if (min != null) {
-							if (value.compareTo(min) == 0
-								&& Boolean.FALSE.equals(javaDecimalConstraint.getMinInclusive())) {
-								return false;
-							}
-
-							return value.compareTo(min) >= 0;
-						}
-
-						BigDecimal max = javaDecimalConstraint.getMax();
-						if (max != null) {
-							if (value.compareTo(max) == 0
-								&& Boolean.FALSE.equals(javaDecimalConstraint.getMaxInclusive())) {
-								return false;
-							}
-
-							return value.compareTo(max) <= 0;
-						}
-
-						return true;
-					}
-				);
+				Predicate<Object> decimalPredicate = toDecimalPredicate(javaDecimalConstraint);
+				generated = generated.filter(decimalPredicate::test);
 			}
 		}
 
@@ -246,29 +185,8 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		if (isIntegerType(type)) {
 			JavaIntegerConstraint javaIntegerConstraint = constraintGenerator.generateIntegerConstraint(context);
 			if (javaIntegerConstraint != null) {
-				generated = generated.filter(
-					it -> {
-						if (it == null) {
-							return true;
-						}
-
-						BigInteger value = toBigInteger(it);
-
-						BigInteger min = javaIntegerConstraint.getMin();
-						if (min != null
-							&& value.compareTo(min) < 0) {
-							return false;
-						}
-
-						BigInteger max = javaIntegerConstraint.getMax();
-						if (max != null
-							&& value.compareTo(max) > 0) {
-							return false;
-						}
-
-						return true;
-					}
-				);
+				Predicate<Object> integerPredicate = toIntegerPredicate(javaIntegerConstraint);
+				generated = generated.filter(integerPredicate::test);
 			}
 		}
 
@@ -316,6 +234,112 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		return generated;
 	}
 
+	static Predicate<Object> toStringPredicate(JavaStringConstraint javaStringConstraint) {
+		boolean notNull = javaStringConstraint.isNotNull();
+		if (javaStringConstraint.isNotBlank()) {
+			return it -> it != null && !isBlank((String)it);
+		}
+
+		BigInteger minSize = javaStringConstraint.getMinSize();
+		BigInteger maxSize = javaStringConstraint.getMaxSize();
+		if (minSize == null && maxSize == null) {
+			return it -> !notNull || it != null;
+		}
+
+		boolean checkMin = minSize != null;
+		BigInteger size = checkMin ? minSize : maxSize;
+		if (!isIntRange(size)) {
+			int signum = checkMin ? -size.signum() : size.signum();
+			return it -> it == null ? !notNull : signum >= 0;
+		}
+
+		int sizeValue = size.intValue();
+		if (checkMin) {
+			return it -> it == null ? !notNull : ((String)it).length() >= sizeValue;
+		}
+		return it -> it == null ? !notNull : ((String)it).length() <= sizeValue;
+	}
+
+	static Predicate<Object> toDecimalPredicate(JavaDecimalConstraint javaDecimalConstraint) {
+		BigDecimal min = javaDecimalConstraint.getMin();
+		BigDecimal max = javaDecimalConstraint.getMax();
+		if (min == null && max == null) {
+			return it -> true;
+		}
+
+		boolean checkMin = min != null;
+		BigDecimal bound = checkMin ? min : max;
+		boolean exclusive = checkMin
+			? Boolean.FALSE.equals(javaDecimalConstraint.getMinInclusive())
+			: Boolean.FALSE.equals(javaDecimalConstraint.getMaxInclusive());
+		int expectedSign = checkMin ? 1 : -1;
+
+		boolean doubleBound = isDoubleRange(bound);
+		double doubleBoundValue = bound.doubleValue();
+		return it -> {
+			if (it == null) {
+				return true;
+			}
+
+			// a finite double is ordered against another double as its decimal string is,
+			// a Float, NaN, infinity or a value equal to the bound is compared by its decimal string
+			int compared;
+			double value = it instanceof Double ? (Double)it : Double.NaN;
+			if (doubleBound && Double.isFinite(value) && value != doubleBoundValue) {
+				compared = value < doubleBoundValue ? -1 : 1;
+			} else {
+				compared = toBigDecimal(it).compareTo(bound);
+			}
+
+			if (compared == 0) {
+				return !exclusive;
+			}
+			return Integer.signum(compared) == expectedSign;
+		};
+	}
+
+	static Predicate<Object> toIntegerPredicate(JavaIntegerConstraint javaIntegerConstraint) {
+		BigInteger min = javaIntegerConstraint.getMin();
+		BigInteger max = javaIntegerConstraint.getMax();
+		boolean longBounds = (min == null || isLongRange(min)) && (max == null || isLongRange(max));
+		long minValue = min == null ? Long.MIN_VALUE : min.longValue();
+		long maxValue = max == null ? Long.MAX_VALUE : max.longValue();
+
+		return it -> {
+			if (it == null) {
+				return true;
+			}
+
+			if (longBounds && isPrimitiveInteger(it)) {
+				long value = ((Number)it).longValue();
+				return minValue <= value && value <= maxValue;
+			}
+
+			BigInteger value = toBigInteger(it);
+			if (min != null && value.compareTo(min) < 0) {
+				return false;
+			}
+			return max == null || value.compareTo(max) <= 0;
+		};
+	}
+
+	private static boolean isPrimitiveInteger(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	private static boolean isIntRange(BigInteger value) {
+		return value.bitLength() < Integer.SIZE;
+	}
+
+	private static boolean isLongRange(BigInteger value) {
+		return value.bitLength() < Long.SIZE;
+	}
+
+	private static boolean isDoubleRange(BigDecimal value) {
+		double doubleValue = value.doubleValue();
+		return !Double.isInfinite(doubleValue) && new BigDecimal(doubleValue).compareTo(value) == 0;
+	}
+
 	private LocalDate toLocalDate(Object value) {
 		if (value instanceof Year) {
 			return ((Year)value).atMonthDay(MonthDay.of(1, 1));
@@ -359,7 +383,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to OffsetTime. " + value.getClass());
 	}
 
-	private BigDecimal toBigDecimal(Object value) {
+	private static BigDecimal toBigDecimal(Object value) {
 		if (value instanceof Float || value instanceof Double) {
 			return new BigDecimal(value.toString());
 		} else {
@@ -370,7 +394,7 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to BigDecimal. " + value.getClass());
 	}
 
-	private BigInteger toBigInteger(Object value) {
+	private static BigInteger toBigInteger(Object value) {
 		if (value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Integer) {
 			return new BigInteger(value.toString());
 		} else {
@@ -381,14 +405,12 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 		throw new IllegalArgumentException("Given type is not convertible to BigInteger. " + value.getClass());
 	}
 
-	private boolean isBlank(String value) {
-		char[] charArray = value.toCharArray();
-		int length = 0;
-		for (char c : charArray) {
-			if (Character.isWhitespace(c)) {
-				length++;
+	private static boolean isBlank(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (!Character.isWhitespace(value.charAt(i))) {
+				return false;
 			}
 		}
-		return value.length() == length;
+		return true;
 	}
 }
@@ -18,10 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
-import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
-import java.util.ArrayList;
-import java.util.List;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -53,56 +50,14 @@ public final class ArrayIntrospector implements ArbitraryIntrospector, Matcher {
 			return ArbitraryIntrospectorResult.NOT_INTROSPECTED;
 		}
 
+		Class<?> componentType = Types.getArrayComponentType(
+			property.getObjectProperty().getProperty().getAnnotatedType()
+		);
+
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.containerBuilder()
 				.elements(context.getElementCombinableArbitraryList())
-				.build(
-					elements -> {
-						ArrayBuilder arrayBuilder = new ArrayBuilder(
-							Types.getArrayComponentType(
-								property.getObjectProperty().getProperty().getAnnotatedType()
-							),
-							elements.size()
-						);
-						for (Object element : elements) {
-							arrayBuilder.add(element);
-						}
-						return arrayBuilder.build();
-					}
-				)
+				.build(elements -> ContainerAssemblers.array(componentType, elements))
 		);
 	}
-
-	private static final class ArrayBuilder {
-		private final List<Object> array;
-		private final Class<?> componentType;
-		private final int size;
-
-		public ArrayBuilder(Class<?> componentType, int size) {
-			this.array = new ArrayList<>();
-			this.componentType = componentType;
-			this.size = size;
-		}
-
-		@SuppressWarnings("UnusedReturnValue")
-		ArrayBuilder add(Object value) {
-			if (array.size() >= size) {
-				return this;
-			}
-
-			array.add(value);
-			return this;
-		}
-
-		// cast to Object for preventing ClassCastException when primitive type
-		Object build() {
-			Object array = Array.newInstance(componentType, size);
-
-			for (int i = 0; i < this.array.size(); i++) {
-				Array.set(array, i, this.array.get(i));
-			}
-
-			return array;
-		}
-	}
 }
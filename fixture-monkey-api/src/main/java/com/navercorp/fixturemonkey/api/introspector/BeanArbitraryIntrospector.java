@@ -41,6 +41,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContex
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.type.Accessors;
 import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -112,7 +113,7 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 					Method writeMethod = propertyDescriptor.getWriteMethod();
 					try {
 						if (value != null) {
-							writeMethod.invoke(object, value);
+							Accessors.getMethodInvoker(writeMethod).invoke(object, value);
 						}
 					} catch (IllegalAccessException | InvocationTargetException ex) {
 						LOGGER.warn("set bean property is failed. name: {} value: {}",
@@ -19,7 +19,6 @@
 package com.navercorp.fixturemonkey.api.introspector;
 
 import java.util.Arrays;
-import java.util.List;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -29,10 +28,12 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher {
+	private static final CombinableArbitrary<Boolean> BOOLEAN_COMBINABLE_ARBITRARY =
+		CombinableArbitrary.oneOf(Arrays.asList(true, false));
+
 	@Override
 	public boolean match(Property property) {
 		return Matchers.BOOLEAN_TYPE_MATCHER.match(property);
@@ -44,10 +45,6 @@ public final class BooleanIntrospector implements ArbitraryIntrospector, Matcher
 			throw new IllegalArgumentException("Given type is not Boolean. type: " + context.getResolvedType());
 		}
 
-		List<Boolean> booleans = Arrays.asList(true, false);
-
-		return new ArbitraryIntrospectorResult(
-			CombinableArbitrary.from(() -> booleans.get(Randoms.nextInt(2)))
-		);
+		return new ArbitraryIntrospectorResult(BOOLEAN_COMBINABLE_ARBITRARY);
 	}
 }
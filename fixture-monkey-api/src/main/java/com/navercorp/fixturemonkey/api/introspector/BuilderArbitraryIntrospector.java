@@ -18,10 +18,14 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import static com.navercorp.fixturemonkey.api.exception.Exceptions.throwAsUnchecked;
+
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apiguardian.api.API;
@@ -37,6 +41,8 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Accessors;
+import com.navercorp.fixturemonkey.api.type.Accessors.MethodInvoker;
 import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -46,7 +52,8 @@ public final class BuilderArbitraryIntrospector implements ArbitraryIntrospector
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(BuilderArbitraryIntrospector.class);
 	private static final Map<Class<?>, Method> BUILDER_CACHE = new ConcurrentHashMap<>(2048);
-	private static final Map<String, Method> BUILD_FIELD_METHOD_CACHE = new ConcurrentHashMap<>(2048);
+	private static final Map<Class<?>, Map<String, Optional<MethodInvoker>>> BUILD_FIELD_METHOD_CACHE =
+		new ConcurrentHashMap<>(2048);
 	private static final Map<Class<?>, Method> BUILD_METHOD_CACHE = new ConcurrentHashMap<>(2048);
 	private static final Map<Class<?>, Class<?>> BUILDER_TYPE_CACHE = new ConcurrentHashMap<>(2048);
 
@@ -99,38 +106,41 @@ public final class BuilderArbitraryIntrospector implements ArbitraryIntrospector
 			}
 			return ArbitraryIntrospectorResult.NOT_INTROSPECTED;
 		}
-		Method builderMethod = BUILDER_CACHE.get(type);
+		MethodInvoker builderInvoker = Accessors.getMethodInvoker(BUILDER_CACHE.get(type));
+		MethodInvoker buildInvoker = Accessors.getMethodInvoker(buildMethod);
+		Map<String, Optional<MethodInvoker>> buildFieldInvokersByName =
+			BUILD_FIELD_METHOD_CACHE.computeIfAbsent(builderType, t -> new ConcurrentHashMap<>());
+
+		List<BuildFieldStep> buildFieldSteps = new ArrayList<>(childrenProperties.size());
+		for (ArbitraryProperty arbitraryProperty : childrenProperties) {
+			String methodName = getFieldName(arbitraryProperty.getObjectProperty().getProperty());
+			Class<?> actualType = getActualType(arbitraryProperty.getObjectProperty().getProperty());
+
+			Optional<MethodInvoker> buildFieldInvoker = buildFieldInvokersByName.computeIfAbsent(methodName, f -> {
+				Method buildFieldMethod = Reflections.findMethod(builderType, methodName, actualType);
+				return Optional.ofNullable(buildFieldMethod).map(Accessors::getMethodInvoker);
+			});
+
+			if (buildFieldInvoker.isPresent()) {
+				String resolvePropertyName = arbitraryProperty.getObjectProperty().getResolvedPropertyName();
+				buildFieldSteps.add(
+					new BuildFieldStep(buildFieldInvoker.get(), arbitrariesByResolvedName.get(resolvePropertyName))
+				);
+			}
+		}
 
 		LazyArbitrary<Object> generateArbitrary = LazyArbitrary.lazy(
 			() -> {
-				Object builder = Reflections.invokeMethod(builderMethod, null);
-
-				for (ArbitraryProperty arbitraryProperty : childrenProperties) {
-					String methodName = getFieldName(arbitraryProperty.getObjectProperty().getProperty());
-					Class<?> actualType = getActualType(arbitraryProperty.getObjectProperty().getProperty());
-					String buildFieldMethodName = builderType.getName() + "#" + methodName;
-
-					String resolvePropertyName =
-						arbitraryProperty.getObjectProperty().getResolvedPropertyName();
-					CombinableArbitrary<?> combinableArbitrary =
-						arbitrariesByResolvedName.get(resolvePropertyName);
-
-					Method method = BUILD_FIELD_METHOD_CACHE.computeIfAbsent(buildFieldMethodName, f -> {
-						Method buildFieldMethod = Reflections.findMethod(builderType, methodName, actualType);
-						if (buildFieldMethod != null) {
-							buildFieldMethod.setAccessible(true);
-						}
-						return buildFieldMethod;
-					});
-					if (method != null) {
-						Object child = combinableArbitrary.combined();
-						if (child != null) {
-							Reflections.invokeMethod(method, builder, child);
-						}
+				Object builder = invoke(builderInvoker, null);
+
+				for (BuildFieldStep buildFieldStep : buildFieldSteps) {
+					Object child = buildFieldStep.combinableArbitrary.combined();
+					if (child != null) {
+						invoke(buildFieldStep.buildFieldInvoker, builder, child);
 					}
 				}
 
-				return Reflections.invokeMethod(buildMethod, builder);
+				return invoke(buildInvoker, builder);
 			}
 		);
 		return new ArbitraryIntrospectorResult(CombinableArbitrary.from(generateArbitrary));
@@ -180,6 +190,15 @@ public final class BuilderArbitraryIntrospector implements ArbitraryIntrospector
 		});
 	}
 
+	@Nullable
+	private static Object invoke(MethodInvoker methodInvoker, @Nullable Object target, Object... args) {
+		try {
+			return methodInvoker.invoke(target, args);
+		} catch (Throwable throwable) {
+			throw throwAsUnchecked(throwable);
+		}
+	}
+
 	@SuppressWarnings("return")
 	private String getFieldName(Property property) {
 		return getActualProperty(property).getName();
@@ -200,4 +219,14 @@ public final class BuilderArbitraryIntrospector implements ArbitraryIntrospector
 		}
 		return property;
 	}
+
+	private static final class BuildFieldStep {
+		private final MethodInvoker buildFieldInvoker;
+		private final CombinableArbitrary<?> combinableArbitrary;
+
+		private BuildFieldStep(MethodInvoker buildFieldInvoker, CombinableArbitrary<?> combinableArbitrary) {
+			this.buildFieldInvoker = buildFieldInvoker;
+			this.combinableArbitrary = combinableArbitrary;
+		}
+	}
 }
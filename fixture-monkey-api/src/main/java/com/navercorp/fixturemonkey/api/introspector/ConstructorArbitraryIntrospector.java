@@ -22,11 +22,8 @@ import static com.navercorp.fixturemonkey.api.type.TypeCache.getParameterNames;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,8 +32,8 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.ConstructorParameterPropertyGenerator;
 import com.navercorp.fixturemonkey.api.property.ConstructorPropertyGeneratorContext;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -69,7 +66,7 @@ public final class ConstructorArbitraryIntrospector implements ArbitraryIntrospe
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
 				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(
+				.buildWithValues(
 					combine(
 						constructorWithParamNames.getConstructor(),
 						parameterNames
@@ -104,32 +101,20 @@ public final class ConstructorArbitraryIntrospector implements ArbitraryIntrospe
 		);
 	}
 
-	@SuppressWarnings({"argument", "return"})
-	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
+	@SuppressWarnings("argument")
+	private static Function<CombinedPropertyValues, Object> combine(
 		Constructor<?> constructor,
 		List<@Nullable String> parameterNames
 	) {
 		int parameterSize = parameterNames.size();
 
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByResolvedName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByResolvedName.put(
-					key.getObjectProperty().getResolvedPropertyName(),
-					value
-				)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByResolvedName.getOrDefault(
-					parameterName,
-					null
-				);
-				list.add(combined);
+		return combinedPropertyValues -> {
+			Object[] arguments = new Object[parameterSize];
+			for (int i = 0; i < parameterSize; i++) {
+				String parameterName = parameterNames.get(i);
+				arguments[i] = parameterName == null ? null : combinedPropertyValues.getByResolvedName(parameterName);
 			}
-			return Reflections.newInstance(constructor, list.toArray());
+			return Reflections.newInstance(constructor, arguments);
 		};
 	}
 
@@ -18,15 +18,13 @@
 
 package com.navercorp.fixturemonkey.api.introspector;
 
+import static com.navercorp.fixturemonkey.api.exception.Exceptions.throwAsUnchecked;
+
 import java.beans.ConstructorProperties;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
 
@@ -36,13 +34,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContext;
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.ConstructorParameterPropertyGenerator;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
-import com.navercorp.fixturemonkey.api.type.Reflections;
+import com.navercorp.fixturemonkey.api.type.Accessors;
+import com.navercorp.fixturemonkey.api.type.Accessors.ConstructorInvoker;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -86,37 +85,29 @@ public final class ConstructorPropertiesArbitraryIntrospector implements Arbitra
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
 				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(combine(primaryConstructor, parameterNames))
+				.buildWithValues(combine(primaryConstructor, parameterNames))
 		);
 	}
 
-	@SuppressWarnings({"argument", "return"})
-	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
+	@SuppressWarnings("argument")
+	private static Function<CombinedPropertyValues, Object> combine(
 		Constructor<?> primaryConstructor,
 		String[] parameterNames
 	) {
 		int parameterSize = parameterNames.length;
+		ConstructorInvoker constructorInvoker = Accessors.getConstructorInvoker(primaryConstructor);
 
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByResolvedName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByResolvedName.put(
-					key.getObjectProperty().getResolvedPropertyName(),
-					value)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByResolvedName.getOrDefault(
-					parameterName,
-					null
-				);
+		return combinedPropertyValues -> {
+			Object[] arguments = new Object[parameterSize];
+			for (int i = 0; i < parameterSize; i++) {
+				arguments[i] = combinedPropertyValues.getByResolvedName(parameterNames[i]);
+			}
 
-				list.add(combined);
+			try {
+				return constructorInvoker.newInstance(arguments);
+			} catch (Throwable throwable) {
+				throw throwAsUnchecked(throwable);
 			}
-			return Reflections.newInstance(primaryConstructor, list.toArray());
 		};
 	}
 
@@ -0,0 +1,157 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.type.Reflections;
+
+/**
+ * Assembles the generated elements into a container allocated at the number of the elements.
+ * The well-known containers are instantiated directly, the others are instantiated reflectively.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class ContainerAssemblers {
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+	private ContainerAssemblers() {
+	}
+
+	/**
+	 * Returns the function assembling a collection of given type.
+	 *
+	 * @param type                  the concrete collection type
+	 * @param collectionConstructor the constructor of {@code type} which has a {@link java.util.Collection} parameter,
+	 *                              it is used if {@code type} is not a well-known collection
+	 * @return the function assembling a collection
+	 */
+	static Function<List<Object>, Object> collection(Class<?> type, Constructor<?> collectionConstructor) {
+		if (type == ArrayList.class) {
+			// the combined elements are already in an ArrayList allocated at their number
+			return elements -> elements.getClass() == ArrayList.class ? elements : new ArrayList<>(elements);
+		} else if (type == HashSet.class) {
+			return HashSet::new;
+		} else if (type == LinkedHashSet.class) {
+			return LinkedHashSet::new;
+		} else if (type == LinkedList.class) {
+			return LinkedList::new;
+		}
+		return elements -> Reflections.newInstance(collectionConstructor, elements);
+	}
+
+	/**
+	 * Returns an empty map of given type which could have {@code size} entries without rehashing.
+	 * It returns a {@link HashMap} if {@code type} is not a {@link LinkedHashMap} or an {@link EnumMap}.
+	 *
+	 * @param type    the map type
+	 * @param keyType the type of the keys, it is required for an {@link EnumMap}
+	 * @param size    the number of the entries
+	 * @return an empty map
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static Map<Object, Object> newMap(Class<?> type, @Nullable Class<?> keyType, int size) {
+		if (LinkedHashMap.class.isAssignableFrom(type)) {
+			return new LinkedHashMap<>(capacity(size));
+		}
+
+		if (EnumMap.class.isAssignableFrom(type) && keyType != null && keyType.isEnum()) {
+			return new EnumMap(keyType);
+		}
+		return new HashMap<>(capacity(size));
+	}
+
+	/**
+	 * Fills an array of given component type with the elements.
+	 * The primitive elements are stored directly into the primitive array.
+	 *
+	 * @param componentType the component type of the array
+	 * @param elements      the elements
+	 * @return the array, it is an {@link Object} since it could be a primitive array
+	 */
+	static Object array(Class<?> componentType, List<Object> elements) {
+		int size = elements.size();
+		if (!componentType.isPrimitive()) {
+			Object[] array = (Object[])Array.newInstance(componentType, size);
+			for (int i = 0; i < size; i++) {
+				array[i] = elements.get(i);
+			}
+			return array;
+		}
+
+		if (componentType == int.class) {
+			int[] array = new int[size];
+			for (int i = 0; i < size; i++) {
+				Object element = elements.get(i);
+				if (element instanceof Integer) {
+					array[i] = (Integer)element;
+				} else {
+					Array.set(array, i, element);
+				}
+			}
+			return array;
+		} else if (componentType == long.class) {
+			long[] array = new long[size];
+			for (int i = 0; i < size; i++) {
+				Object element = elements.get(i);
+				if (element instanceof Long) {
+					array[i] = (Long)element;
+				} else {
+					Array.set(array, i, element);
+				}
+			}
+			return array;
+		} else if (componentType == byte.class) {
+			byte[] array = new byte[size];
+			for (int i = 0; i < size; i++) {
+				Object element = elements.get(i);
+				if (element instanceof Byte) {
+					array[i] = (Byte)element;
+				} else {
+					Array.set(array, i, element);
+				}
+			}
+			return array;
+		}
+
+		Object array = Array.newInstance(componentType, size);
+		for (int i = 0; i < size; i++) {
+			Array.set(array, i, elements.get(i));
+		}
+		return array;
+	}
+
+	private static int capacity(int size) {
+		return (int)(size / DEFAULT_LOAD_FACTOR) + 1;
+	}
+}
@@ -29,7 +29,6 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
@@ -49,7 +48,7 @@ public final class EnumIntrospector implements ArbitraryIntrospector, Matcher {
 
 		List<Object> enums = Arrays.asList(type.getEnumConstants());
 		return new ArbitraryIntrospectorResult(
-			CombinableArbitrary.from(() -> enums.get(Randoms.nextInt(enums.size())))
+			CombinableArbitrary.oneOf(enums)
 		);
 	}
 }
@@ -21,18 +21,15 @@ package com.navercorp.fixturemonkey.api.introspector;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -55,7 +52,7 @@ public final class FactoryMethodArbitraryIntrospector implements ArbitraryIntros
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
 				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(
+				.buildWithValues(
 					combine(
 						factoryMethodWithParameterNames.getFactoryMethod(),
 						factoryMethodWithParameterNames.getParameterNames()
@@ -64,33 +61,20 @@ public final class FactoryMethodArbitraryIntrospector implements ArbitraryIntros
 		);
 	}
 
-	@SuppressWarnings({"argument", "return"})
-	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
+	@SuppressWarnings("argument")
+	private static Function<CombinedPropertyValues, Object> combine(
 		Method factoryMethod,
 		List<String> parameterNames
 	) {
 		int parameterSize = parameterNames.size();
 
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByPropertyName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByPropertyName.put(
-					key.getObjectProperty().getProperty().getName(),
-					value
-				)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByPropertyName.getOrDefault(
-					parameterName,
-					null
-				);
-				list.add(combined);
+		return combinedPropertyValues -> {
+			Object[] arguments = new Object[parameterSize];
+			for (int i = 0; i < parameterSize; i++) {
+				arguments[i] = combinedPropertyValues.getByPropertyName(parameterNames.get(i));
 			}
 			try {
-				return factoryMethod.invoke(null, list.toArray());
+				return factoryMethod.invoke(null, arguments);
 			} catch (IllegalAccessException | InvocationTargetException ex) {
 				throw new RuntimeException(ex);
 			}
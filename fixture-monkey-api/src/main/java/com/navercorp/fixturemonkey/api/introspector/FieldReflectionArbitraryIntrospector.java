@@ -38,6 +38,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContex
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.type.Accessors;
 import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -115,7 +116,7 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 
 					try {
 						if (value != null) {
-							field.set(object, value);
+							Accessors.getFieldSetter(field).set(object, value);
 						}
 					} catch (IllegalAccessException | IllegalArgumentException ex) {
 						LOGGER.warn("set field by reflection is failed. field: {} value: {}",
@@ -20,13 +20,15 @@ package com.navercorp.fixturemonkey.api.introspector;
 
 import static com.navercorp.fixturemonkey.api.matcher.DoubleGenericTypeMatcher.DOUBLE_GENERIC_TYPE_MATCHER;
 
-import java.util.HashMap;
+import java.lang.reflect.AnnotatedType;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +39,7 @@ import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.MapEntryElementProperty.MapEntryElementType;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
@@ -67,8 +70,10 @@ public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
 
 	@SuppressWarnings("argument")
 	private static Function<List<Object>, Object> combine(ArbitraryGeneratorContext context) {
+		Class<?> type = Types.getActualType(context.getResolvedType());
+		Class<?> keyType = EnumMap.class.isAssignableFrom(type) ? getKeyType(context.getResolvedAnnotatedType()) : null;
 		return elements -> {
-			Map<Object, Object> map = new HashMap<>();
+			Map<Object, Object> map = ContainerAssemblers.newMap(type, keyType, elements.size());
 			for (Object element : elements) {
 				MapEntryElementType mapEntryElement = (MapEntryElementType)element;
 				if (mapEntryElement.getKey() == null) {
@@ -83,4 +88,13 @@ public final class MapIntrospector implements ArbitraryIntrospector, Matcher {
 			return map;
 		};
 	}
+
+	@Nullable
+	private static Class<?> getKeyType(AnnotatedType mapAnnotatedType) {
+		List<AnnotatedType> genericsTypes = Types.getGenericsTypes(mapAnnotatedType);
+		if (genericsTypes.isEmpty()) {
+			return null;
+		}
+		return Types.getActualType(genericsTypes.get(0));
+	}
 }
@@ -25,6 +25,7 @@ import java.lang.reflect.Constructor;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -33,12 +34,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ValueDomain;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -60,7 +61,21 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 			return NOT_INTROSPECTED;
 		}
 
-		List<CombinableArbitrary<?>> elementArbitraryList = context.getElementCombinableArbitraryList().stream()
+		Class<?> type = Types.getActualType(context.getResolvedType());
+		Constructor<?> declaredConstructor = TypeCache.getDeclaredConstructor(type, Collection.class);
+		Function<List<Object>, Object> assembler = ContainerAssemblers.collection(type, declaredConstructor);
+
+		List<CombinableArbitrary<?>> elementCombinableArbitraryList = context.getElementCombinableArbitraryList();
+		ValueDomain<?> sharedDomain = ValueDomain.sharedBy(elementCombinableArbitraryList);
+		if (sharedDomain != null) {
+			return new ArbitraryIntrospectorResult(
+				CombinableArbitrary.containerBuilder()
+					.uniqueElements(sharedDomain, elementCombinableArbitraryList.size())
+					.build(assembler)
+			);
+		}
+
+		List<CombinableArbitrary<?>> elementArbitraryList = elementCombinableArbitraryList.stream()
 			.map(it -> it.filter(
 					context.getGenerateUniqueMaxTries(),
 					element -> context.isUniqueAndCheck(
@@ -71,13 +86,11 @@ public final class SetIntrospector implements ArbitraryIntrospector, Matcher {
 			)
 			.collect(Collectors.toList());
 
-		Class<?> type = Types.getActualType(context.getResolvedType());
-		Constructor<?> declaredConstructor = TypeCache.getDeclaredConstructor(type, Collection.class);
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.containerBuilder()
 				.elements(elementArbitraryList)
 				.postBuild(() -> context.evictUnique(context.getPropertyPath()))
-				.build(elements -> Reflections.newInstance(declaredConstructor, elements))
+				.build(assembler)
 		);
 	}
 }
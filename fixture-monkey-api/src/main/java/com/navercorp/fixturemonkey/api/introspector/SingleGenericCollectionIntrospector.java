@@ -35,7 +35,6 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Reflections;
 import com.navercorp.fixturemonkey.api.type.TypeCache;
 import com.navercorp.fixturemonkey.api.type.Types;
 
@@ -74,7 +73,7 @@ public final class SingleGenericCollectionIntrospector implements ArbitraryIntro
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.containerBuilder()
 				.elements(elementCombinableArbitraryList)
-				.build(list -> Reflections.newInstance(declaredConstructor, list))
+				.build(ContainerAssemblers.collection(type, declaredConstructor))
 		);
 	}
 }
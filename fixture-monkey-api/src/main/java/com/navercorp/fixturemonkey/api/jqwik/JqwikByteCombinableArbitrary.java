@@ -18,24 +18,37 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
+import java.util.function.LongFunction;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.arbitrary.ByteCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ValueDomain;
 
 @API(since = "1.1.15", status = Status.EXPERIMENTAL)
 public final class JqwikByteCombinableArbitrary implements ByteCombinableArbitrary {
+	private static final LongFunction<Byte> TO_BYTE = it -> (byte)it;
+
 	private final Arbitrary<Byte> byteArbitrary;
+	@Nullable
+	private final ValueDomain<Byte> domain;
 
 	public JqwikByteCombinableArbitrary() {
-		this(Arbitraries.bytes());
+		this(Arbitraries.bytes(), rangeDomain(Byte.MIN_VALUE, Byte.MAX_VALUE));
 	}
 
 	private JqwikByteCombinableArbitrary(Arbitrary<Byte> byteArbitrary) {
+		this(byteArbitrary, null);
+	}
+
+	private JqwikByteCombinableArbitrary(Arbitrary<Byte> byteArbitrary, @Nullable ValueDomain<Byte> domain) {
 		this.byteArbitrary = byteArbitrary;
+		this.domain = domain;
 	}
 
 	@Override
@@ -51,18 +64,25 @@ public final class JqwikByteCombinableArbitrary implements ByteCombinableArbitra
 	@Override
 	public ByteCombinableArbitrary withRange(byte minValue, byte maxValue) {
 		return new JqwikByteCombinableArbitrary(
-			Arbitraries.bytes().between(minValue, maxValue)
+			Arbitraries.bytes().between(minValue, maxValue),
+			rangeDomain(minValue, maxValue)
 		);
 	}
 
 	@Override
 	public ByteCombinableArbitrary positive() {
-		return new JqwikByteCombinableArbitrary(Arbitraries.bytes().greaterOrEqual((byte)1));
+		return new JqwikByteCombinableArbitrary(
+			Arbitraries.bytes().greaterOrEqual((byte)1),
+			rangeDomain((byte)1, Byte.MAX_VALUE)
+		);
 	}
 
 	@Override
 	public ByteCombinableArbitrary negative() {
-		return new JqwikByteCombinableArbitrary(Arbitraries.bytes().lessOrEqual((byte)-1));
+		return new JqwikByteCombinableArbitrary(
+			Arbitraries.bytes().lessOrEqual((byte)-1),
+			rangeDomain(Byte.MIN_VALUE, (byte)-1)
+		);
 	}
 
 	@Override
@@ -77,7 +97,16 @@ public final class JqwikByteCombinableArbitrary implements ByteCombinableArbitra
 
 	@Override
 	public ByteCombinableArbitrary ascii() {
-		return new JqwikByteCombinableArbitrary(Arbitraries.bytes().between((byte)0, (byte)127));
+		return new JqwikByteCombinableArbitrary(
+			Arbitraries.bytes().between((byte)0, (byte)127),
+			rangeDomain((byte)0, (byte)127)
+		);
+	}
+
+	@Override
+	@Nullable
+	public ValueDomain<Byte> domain() {
+		return domain;
 	}
 
 	@Override
@@ -89,4 +118,12 @@ public final class JqwikByteCombinableArbitrary implements ByteCombinableArbitra
 	public boolean fixed() {
 		return false;
 	}
+
+	@Nullable
+	private static ValueDomain<Byte> rangeDomain(byte minValue, byte maxValue) {
+		if (minValue > maxValue) {
+			return null;
+		}
+		return ValueDomain.range(minValue, maxValue, TO_BYTE);
+	}
 }
@@ -18,24 +18,40 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
+import java.util.function.LongFunction;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ValueDomain;
 
 @API(since = "1.1.12", status = Status.EXPERIMENTAL)
 public final class JqwikIntegerCombinableArbitrary implements IntegerCombinableArbitrary {
+	private static final LongFunction<Integer> TO_INTEGER = it -> (int)it;
+
 	private final Arbitrary<Integer> integerArbitrary;
+	@Nullable
+	private final ValueDomain<Integer> domain;
 
 	public JqwikIntegerCombinableArbitrary() {
-		this.integerArbitrary = Arbitraries.integers();
+		this(Arbitraries.integers());
 	}
 
 	private JqwikIntegerCombinableArbitrary(Arbitrary<Integer> integerArbitrary) {
+		this(integerArbitrary, null);
+	}
+
+	private JqwikIntegerCombinableArbitrary(
+		Arbitrary<Integer> integerArbitrary,
+		@Nullable ValueDomain<Integer> domain
+	) {
 		this.integerArbitrary = integerArbitrary;
+		this.domain = domain;
 	}
 
 	@Override
@@ -51,18 +67,25 @@ public final class JqwikIntegerCombinableArbitrary implements IntegerCombinableA
 	@Override
 	public IntegerCombinableArbitrary withRange(int minValue, int maxValue) {
 		return new JqwikIntegerCombinableArbitrary(
-			Arbitraries.integers().between(minValue, maxValue)
+			Arbitraries.integers().between(minValue, maxValue),
+			rangeDomain(minValue, maxValue)
 		);
 	}
 
 	@Override
 	public IntegerCombinableArbitrary positive() {
-		return new JqwikIntegerCombinableArbitrary(Arbitraries.integers().greaterOrEqual(1));
+		return new JqwikIntegerCombinableArbitrary(
+			Arbitraries.integers().greaterOrEqual(1),
+			rangeDomain(1, Integer.MAX_VALUE)
+		);
 	}
 
 	@Override
 	public IntegerCombinableArbitrary negative() {
-		return new JqwikIntegerCombinableArbitrary(Arbitraries.integers().lessOrEqual(-1));
+		return new JqwikIntegerCombinableArbitrary(
+			Arbitraries.integers().lessOrEqual(-1),
+			rangeDomain(Integer.MIN_VALUE, -1)
+		);
 	}
 
 	@Override
@@ -75,6 +98,12 @@ public final class JqwikIntegerCombinableArbitrary implements IntegerCombinableA
 		return new JqwikIntegerCombinableArbitrary(Arbitraries.integers().filter(it -> it % 2 != 0));
 	}
 
+	@Override
+	@Nullable
+	public ValueDomain<Integer> domain() {
+		return domain;
+	}
+
 	@Override
 	public void clear() {
 		// ignored
@@ -84,4 +113,12 @@ public final class JqwikIntegerCombinableArbitrary implements IntegerCombinableA
 	public boolean fixed() {
 		return false;
 	}
+
+	@Nullable
+	private static ValueDomain<Integer> rangeDomain(int minValue, int maxValue) {
+		if (minValue > maxValue || (long)maxValue - minValue + 1 > ValueDomain.MAX_RANGE_SIZE) {
+			return null;
+		}
+		return ValueDomain.range(minValue, maxValue, TO_INTEGER);
+	}
 }
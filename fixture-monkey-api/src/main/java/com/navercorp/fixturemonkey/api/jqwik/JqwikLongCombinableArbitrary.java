@@ -18,24 +18,37 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
+import java.util.function.LongFunction;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.arbitrary.LongCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ValueDomain;
 
 @API(since = "1.1.16", status = Status.EXPERIMENTAL)
 public final class JqwikLongCombinableArbitrary implements LongCombinableArbitrary {
+	private static final LongFunction<Long> TO_LONG = Long::valueOf;
+
 	private final Arbitrary<Long> longArbitrary;
+	@Nullable
+	private final ValueDomain<Long> domain;
 
 	public JqwikLongCombinableArbitrary() {
 		this(Arbitraries.longs());
 	}
 
 	private JqwikLongCombinableArbitrary(Arbitrary<Long> longArbitrary) {
+		this(longArbitrary, null);
+	}
+
+	private JqwikLongCombinableArbitrary(Arbitrary<Long> longArbitrary, @Nullable ValueDomain<Long> domain) {
 		this.longArbitrary = longArbitrary;
+		this.domain = domain;
 	}
 
 	@Override
@@ -51,18 +64,25 @@ public final class JqwikLongCombinableArbitrary implements LongCombinableArbitra
 	@Override
 	public LongCombinableArbitrary withRange(long minValue, long maxValue) {
 		return new JqwikLongCombinableArbitrary(
-			Arbitraries.longs().between(minValue, maxValue)
+			Arbitraries.longs().between(minValue, maxValue),
+			rangeDomain(minValue, maxValue)
 		);
 	}
 
 	@Override
 	public LongCombinableArbitrary positive() {
-		return new JqwikLongCombinableArbitrary(Arbitraries.longs().greaterOrEqual(1L));
+		return new JqwikLongCombinableArbitrary(
+			Arbitraries.longs().greaterOrEqual(1L),
+			rangeDomain(1L, Long.MAX_VALUE)
+		);
 	}
 
 	@Override
 	public LongCombinableArbitrary negative() {
-		return new JqwikLongCombinableArbitrary(Arbitraries.longs().lessOrEqual(-1L));
+		return new JqwikLongCombinableArbitrary(
+			Arbitraries.longs().lessOrEqual(-1L),
+			rangeDomain(Long.MIN_VALUE, -1L)
+		);
 	}
 
 	@Override
@@ -93,6 +113,12 @@ public final class JqwikLongCombinableArbitrary implements LongCombinableArbitra
 		);
 	}
 
+	@Override
+	@Nullable
+	public ValueDomain<Long> domain() {
+		return domain;
+	}
+
 	@Override
 	public void clear() {
 		// ignored
@@ -103,6 +129,19 @@ public final class JqwikLongCombinableArbitrary implements LongCombinableArbitra
 		return false;
 	}
 
+	/**
+	 * Returns {@code null} if the size of the range exceeds {@link ValueDomain#MAX_RANGE_SIZE},
+	 * it would be filtered to be unique.
+	 */
+	@Nullable
+	private static ValueDomain<Long> rangeDomain(long minValue, long maxValue) {
+		long size = maxValue - minValue + 1;
+		if (minValue > maxValue || size <= 0 || size > ValueDomain.MAX_RANGE_SIZE) {
+			return null;
+		}
+		return ValueDomain.range(minValue, maxValue, TO_LONG);
+	}
+
 	private static long toEven(long value) {
 		return value & ~1L;
 	}
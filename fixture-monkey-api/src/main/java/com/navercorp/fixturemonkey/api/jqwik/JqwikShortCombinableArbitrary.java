@@ -18,24 +18,37 @@
 
 package com.navercorp.fixturemonkey.api.jqwik;
 
+import java.util.function.LongFunction;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.api.arbitrary.ShortCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ValueDomain;
 
 @API(since = "1.1.16", status = Status.EXPERIMENTAL)
 public final class JqwikShortCombinableArbitrary implements ShortCombinableArbitrary {
+	private static final LongFunction<Short> TO_SHORT = it -> (short)it;
+
 	private final Arbitrary<Short> shortArbitrary;
+	@Nullable
+	private final ValueDomain<Short> domain;
 
 	public JqwikShortCombinableArbitrary() {
-		this(Arbitraries.shorts());
+		this(Arbitraries.shorts(), rangeDomain(Short.MIN_VALUE, Short.MAX_VALUE));
 	}
 
 	private JqwikShortCombinableArbitrary(Arbitrary<Short> shortArbitrary) {
+		this(shortArbitrary, null);
+	}
+
+	private JqwikShortCombinableArbitrary(Arbitrary<Short> shortArbitrary, @Nullable ValueDomain<Short> domain) {
 		this.shortArbitrary = shortArbitrary;
+		this.domain = domain;
 	}
 
 	@Override
@@ -51,18 +64,25 @@ public final class JqwikShortCombinableArbitrary implements ShortCombinableArbit
 	@Override
 	public ShortCombinableArbitrary withRange(short minValue, short maxValue) {
 		return new JqwikShortCombinableArbitrary(
-			Arbitraries.shorts().between(minValue, maxValue)
+			Arbitraries.shorts().between(minValue, maxValue),
+			rangeDomain(minValue, maxValue)
 		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary positive() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().greaterOrEqual((short)1));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().greaterOrEqual((short)1),
+			rangeDomain((short)1, Short.MAX_VALUE)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary negative() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().lessOrEqual((short)-1));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().lessOrEqual((short)-1),
+			rangeDomain(Short.MIN_VALUE, (short)-1)
+		);
 	}
 
 	@Override
@@ -91,37 +111,64 @@ public final class JqwikShortCombinableArbitrary implements ShortCombinableArbit
 
 	@Override
 	public ShortCombinableArbitrary percentage() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)0, (short)100));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)0, (short)100),
+			rangeDomain((short)0, (short)100)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary score() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)0, (short)100));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)0, (short)100),
+			rangeDomain((short)0, (short)100)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary year() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)1900, (short)2100));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)1900, (short)2100),
+			rangeDomain((short)1900, (short)2100)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary month() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)1, (short)12));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)1, (short)12),
+			rangeDomain((short)1, (short)12)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary day() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)1, (short)31));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)1, (short)31),
+			rangeDomain((short)1, (short)31)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary hour() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)0, (short)23));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)0, (short)23),
+			rangeDomain((short)0, (short)23)
+		);
 	}
 
 	@Override
 	public ShortCombinableArbitrary minute() {
-		return new JqwikShortCombinableArbitrary(Arbitraries.shorts().between((short)0, (short)59));
+		return new JqwikShortCombinableArbitrary(
+			Arbitraries.shorts().between((short)0, (short)59),
+			rangeDomain((short)0, (short)59)
+		);
+	}
+
+	@Override
+	@Nullable
+	public ValueDomain<Short> domain() {
+		return domain;
 	}
 
 	@Override
@@ -134,6 +181,14 @@ public final class JqwikShortCombinableArbitrary implements ShortCombinableArbit
 		return false;
 	}
 
+	@Nullable
+	private static ValueDomain<Short> rangeDomain(short minValue, short maxValue) {
+		if (minValue > maxValue) {
+			return null;
+		}
+		return ValueDomain.range(minValue, maxValue, TO_SHORT);
+	}
+
 	private static short ensureNonZero(short value) {
 		return value != 0 ? value : 1;
 	}
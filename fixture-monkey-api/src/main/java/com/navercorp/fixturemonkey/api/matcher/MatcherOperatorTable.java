@@ -0,0 +1,151 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * A lookup table of the ordered {@link MatcherOperator}s, it finds the operators in the same order as the given list.
+ * <p>
+ * The operators are indexed by the type of their matchers.
+ * The operators of {@link ExactTypeMatcher} are indexed by the exact type,
+ * the operators of {@link AssignableTypeMatcher} are indexed by the anchor type
+ * and the others are checked for every property.
+ * The candidates for a type and the result for a property are memoized,
+ * the matchers should be deterministic for the same property.
+ * <p>
+ * It is for internal use only.
+ */
+@API(since = "1.1.16", status = INTERNAL)
+public final class MatcherOperatorTable<T> {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+	private static final int NOT_FOUND = -1;
+
+	private final List<MatcherOperator<T>> matcherOperators;
+	private final Map<Class<?>, List<Integer>> exactTypeIndexesByType = new HashMap<>();
+	private final Map<Class<?>, List<Integer>> assignableTypeIndexesByAnchorType = new HashMap<>();
+	private final List<Integer> typeUnknownIndexes = new ArrayList<>();
+	private final ConcurrentLruCache<Class<?>, int[]> candidateIndexesByType =
+		new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentLruCache<Property, Integer> matchedIndexByProperty =
+		new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentLruCache<Property, List<T>> matchedOperatorsByProperty =
+		new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+
+	public MatcherOperatorTable(List<MatcherOperator<T>> matcherOperators) {
+		this.matcherOperators = Collections.unmodifiableList(new ArrayList<>(matcherOperators));
+
+		for (int i = 0; i < this.matcherOperators.size(); i++) {
+			Matcher matcher = this.matcherOperators.get(i).getMatcher();
+			if (matcher instanceof ExactTypeMatcher) {
+				Class<?> type = ((ExactTypeMatcher)matcher).getType();
+				exactTypeIndexesByType.computeIfAbsent(type, k -> new ArrayList<>()).add(i);
+			} else if (matcher instanceof AssignableTypeMatcher) {
+				Class<?> anchorType = ((AssignableTypeMatcher)matcher).getAnchorType();
+				assignableTypeIndexesByAnchorType.computeIfAbsent(anchorType, k -> new ArrayList<>()).add(i);
+			} else {
+				typeUnknownIndexes.add(i);
+			}
+		}
+	}
+
+	public List<MatcherOperator<T>> getMatcherOperators() {
+		return matcherOperators;
+	}
+
+	/**
+	 * Finds the operator of the first {@link MatcherOperator} matching the given property.
+	 *
+	 * @param property the property to match
+	 * @return the operator of the first matching {@link MatcherOperator}, null if none matches
+	 */
+	@Nullable
+	public T find(Property property) {
+		int matchedIndex = matchedIndexByProperty.computeIfAbsent(property, this::findMatchedIndex);
+		if (matchedIndex == NOT_FOUND) {
+			return null;
+		}
+		return matcherOperators.get(matchedIndex).getOperator();
+	}
+
+	/**
+	 * Finds the operators of all {@link MatcherOperator}s matching the given property in order.
+	 *
+	 * @param property the property to match
+	 * @return the operators of the matching {@link MatcherOperator}s
+	 */
+	public List<T> findAll(Property property) {
+		return matchedOperatorsByProperty.computeIfAbsent(property, p -> {
+			List<T> matchedOperators = new ArrayList<>();
+			for (int index : getCandidateIndexes(p)) {
+				MatcherOperator<T> matcherOperator = matcherOperators.get(index);
+				if (matcherOperator.match(p)) {
+					matchedOperators.add(matcherOperator.getOperator());
+				}
+			}
+			return Collections.unmodifiableList(matchedOperators);
+		});
+	}
+
+	private int findMatchedIndex(Property property) {
+		for (int index : getCandidateIndexes(property)) {
+			if (matcherOperators.get(index).match(property)) {
+				return index;
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	private int[] getCandidateIndexes(Property property) {
+		if (matcherOperators.isEmpty()) {
+			return new int[0];
+		}
+
+		Class<?> actualType = Types.getActualType(property.getType());
+		return candidateIndexesByType.computeIfAbsent(actualType, this::computeCandidateIndexes);
+	}
+
+	private int[] computeCandidateIndexes(Class<?> type) {
+		List<Integer> candidateIndexes = new ArrayList<>(typeUnknownIndexes);
+		candidateIndexes.addAll(exactTypeIndexesByType.getOrDefault(type, Collections.emptyList()));
+		for (Map.Entry<Class<?>, List<Integer>> entry : assignableTypeIndexesByAnchorType.entrySet()) {
+			if (entry.getKey().isAssignableFrom(type)) {
+				candidateIndexes.addAll(entry.getValue());
+			}
+		}
+
+		int[] sortedCandidateIndexes = candidateIndexes.stream().mapToInt(Integer::intValue).toArray();
+		Arrays.sort(sortedCandidateIndexes);
+		return sortedCandidateIndexes;
+	}
+}
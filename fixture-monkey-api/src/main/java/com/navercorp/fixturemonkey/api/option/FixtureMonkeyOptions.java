@@ -37,7 +37,6 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -76,6 +75,7 @@ import com.navercorp.fixturemonkey.api.matcher.DoubleGenericTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.ExactPropertyMatcher;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorRetriever;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorTable;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
 import com.navercorp.fixturemonkey.api.matcher.SingleGenericTypeMatcher;
 import com.navercorp.fixturemonkey.api.matcher.TreeMatcherOperator;
@@ -126,6 +126,7 @@ public final class FixtureMonkeyOptions {
 		)
 	);
 	public static final int DEFAULT_MAX_UNIQUE_GENERATION_COUNT = 1_000;
+	public static final int DEFAULT_VIRTUAL_ELEMENT_NODE_THRESHOLD = 1024;
 	public static final List<MatcherOperator<NullInjectGenerator>> DEFAULT_NULL_INJECT_GENERATORS =
 		Collections.singletonList(
 			new MatcherOperator<>(
@@ -147,25 +148,26 @@ public final class FixtureMonkeyOptions {
 		DEFAULT_JAVA_PACKAGES = Collections.unmodifiableList(defaultJavaPackages);
 	}
 
-	private final MatcherOperatorRetriever<PropertyGenerator> propertyGenerators;
+	private final MatcherOperatorTable<PropertyGenerator> propertyGenerators;
 	private final PropertyGenerator defaultPropertyGenerator;
-	private final MatcherOperatorRetriever<ObjectPropertyGenerator> objectPropertyGenerators;
+	private final MatcherOperatorTable<ObjectPropertyGenerator> objectPropertyGenerators;
 	private final ObjectPropertyGenerator defaultObjectPropertyGenerator;
-	private final MatcherOperatorRetriever<ContainerPropertyGenerator> containerPropertyGenerators;
-	private final MatcherOperatorRetriever<PropertyNameResolver> propertyNameResolvers;
+	private final MatcherOperatorTable<ContainerPropertyGenerator> containerPropertyGenerators;
+	private final MatcherOperatorTable<PropertyNameResolver> propertyNameResolvers;
 	private final PropertyNameResolver defaultPropertyNameResolver;
-	private final MatcherOperatorRetriever<NullInjectGenerator> nullInjectGenerators;
+	private final MatcherOperatorTable<NullInjectGenerator> nullInjectGenerators;
 	private final NullInjectGenerator defaultNullInjectGenerator;
-	private final MatcherOperatorRetriever<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators;
+	private final MatcherOperatorTable<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators;
 	private final ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator;
 	private final ArbitraryGenerator defaultArbitraryGenerator;
 	private final ArbitraryValidator defaultArbitraryValidator;
 	private final DecomposedContainerValueFactory decomposedContainerValueFactory;
 	private final int generateMaxTries;
 	private final int generateUniqueMaxTries;
+	private final int virtualElementNodeThreshold;
 	private final JavaConstraintGenerator javaConstraintGenerator;
 	private final InstantiatorProcessor instantiatorProcessor;
-	private final MatcherOperatorRetriever<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers;
+	private final MatcherOperatorTable<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers;
 	private final boolean enableLoggingFail;
 	private final List<TreeMatcherOperator<BuilderContextInitializer>> builderContextInitializers;
 
@@ -186,31 +188,34 @@ public final class FixtureMonkeyOptions {
 		DecomposedContainerValueFactory decomposedContainerValueFactory,
 		int generateMaxTries,
 		int generateUniqueMaxTries,
+		int virtualElementNodeThreshold,
 		JavaConstraintGenerator javaConstraintGenerator,
 		InstantiatorProcessor instantiatorProcessor,
 		MatcherOperatorRetriever<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers,
 		boolean enableLoggingFail,
 		List<TreeMatcherOperator<BuilderContextInitializer>> builderContextCustomizer
 	) {
-		this.propertyGenerators = propertyGenerators;
+		this.propertyGenerators = new MatcherOperatorTable<>(propertyGenerators.getList());
 		this.defaultPropertyGenerator = defaultPropertyGenerator;
-		this.objectPropertyGenerators = objectPropertyGenerators;
+		this.objectPropertyGenerators = new MatcherOperatorTable<>(objectPropertyGenerators.getList());
 		this.defaultObjectPropertyGenerator = defaultObjectPropertyGenerator;
-		this.containerPropertyGenerators = containerPropertyGenerators;
-		this.propertyNameResolvers = propertyNameResolvers;
+		this.containerPropertyGenerators = new MatcherOperatorTable<>(containerPropertyGenerators.getList());
+		this.propertyNameResolvers = new MatcherOperatorTable<>(propertyNameResolvers.getList());
 		this.defaultPropertyNameResolver = defaultPropertyNameResolver;
-		this.nullInjectGenerators = nullInjectGenerators;
+		this.nullInjectGenerators = new MatcherOperatorTable<>(nullInjectGenerators.getList());
 		this.defaultNullInjectGenerator = defaultNullInjectGenerator;
-		this.arbitraryContainerInfoGenerators = arbitraryContainerInfoGenerators;
+		this.arbitraryContainerInfoGenerators = new MatcherOperatorTable<>(arbitraryContainerInfoGenerators.getList());
 		this.defaultArbitraryContainerInfoGenerator = defaultArbitraryContainerInfoGenerator;
 		this.defaultArbitraryGenerator = defaultArbitraryGenerator;
 		this.defaultArbitraryValidator = defaultArbitraryValidator;
 		this.decomposedContainerValueFactory = decomposedContainerValueFactory;
 		this.generateMaxTries = generateMaxTries;
 		this.generateUniqueMaxTries = generateUniqueMaxTries;
+		this.virtualElementNodeThreshold = virtualElementNodeThreshold;
 		this.javaConstraintGenerator = javaConstraintGenerator;
 		this.instantiatorProcessor = instantiatorProcessor;
-		this.candidateConcretePropertyResolvers = candidateConcretePropertyResolvers;
+		this.candidateConcretePropertyResolvers =
+			new MatcherOperatorTable<>(candidateConcretePropertyResolvers.getList());
 		this.enableLoggingFail = enableLoggingFail;
 		this.builderContextInitializers = builderContextCustomizer;
 	}
@@ -220,16 +225,12 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<PropertyGenerator>> getPropertyGenerators() {
-		return propertyGenerators.getList();
+		return propertyGenerators.getMatcherOperators();
 	}
 
 	@Nullable
 	public PropertyGenerator getOptionalPropertyGenerator(Property property) {
-		return this.getPropertyGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return this.propertyGenerators.find(property);
 	}
 
 	public PropertyGenerator getDefaultPropertyGenerator() {
@@ -237,15 +238,12 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<ObjectPropertyGenerator>> getObjectPropertyGenerators() {
-		return objectPropertyGenerators.getList();
+		return objectPropertyGenerators.getMatcherOperators();
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return objectPropertyGenerators.getListByProperty(property)
-			.stream()
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultObjectPropertyGenerator());
+		ObjectPropertyGenerator objectPropertyGenerator = this.objectPropertyGenerators.find(property);
+		return objectPropertyGenerator != null ? objectPropertyGenerator : this.getDefaultObjectPropertyGenerator();
 	}
 
 	public ObjectPropertyGenerator getDefaultObjectPropertyGenerator() {
@@ -253,27 +251,21 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<ContainerPropertyGenerator>> getContainerPropertyGenerators() {
-		return containerPropertyGenerators.getList();
+		return containerPropertyGenerators.getMatcherOperators();
 	}
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return containerPropertyGenerators.getListByProperty(property)
-			.stream()
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return this.containerPropertyGenerators.find(property);
 	}
 
 	public List<MatcherOperator<PropertyNameResolver>> getPropertyNameResolvers() {
-		return this.propertyNameResolvers.getList();
+		return this.propertyNameResolvers.getMatcherOperators();
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return this.propertyNameResolvers.getListByProperty(property).stream()
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultPropertyNameResolver());
+		PropertyNameResolver propertyNameResolver = this.propertyNameResolvers.find(property);
+		return propertyNameResolver != null ? propertyNameResolver : this.getDefaultPropertyNameResolver();
 	}
 
 	public PropertyNameResolver getDefaultPropertyNameResolver() {
@@ -281,15 +273,12 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<NullInjectGenerator>> getNullInjectGenerators() {
-		return this.nullInjectGenerators.getList();
+		return this.nullInjectGenerators.getMatcherOperators();
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return this.getNullInjectGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultNullInjectGenerator());
+		NullInjectGenerator nullInjectGenerator = this.nullInjectGenerators.find(property);
+		return nullInjectGenerator != null ? nullInjectGenerator : this.getDefaultNullInjectGenerator();
 	}
 
 	public NullInjectGenerator getDefaultNullInjectGenerator() {
@@ -297,15 +286,15 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<ArbitraryContainerInfoGenerator>> getArbitraryContainerInfoGenerators() {
-		return this.arbitraryContainerInfoGenerators.getList();
+		return this.arbitraryContainerInfoGenerators.getMatcherOperators();
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return this.getArbitraryContainerInfoGenerators().stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.getDefaultArbitraryContainerInfoGenerator());
+		ArbitraryContainerInfoGenerator arbitraryContainerInfoGenerator =
+			this.arbitraryContainerInfoGenerators.find(property);
+		return arbitraryContainerInfoGenerator != null
+			? arbitraryContainerInfoGenerator
+			: this.getDefaultArbitraryContainerInfoGenerator();
 	}
 
 	public ArbitraryContainerInfoGenerator getDefaultArbitraryContainerInfoGenerator() {
@@ -332,6 +321,15 @@ public final class FixtureMonkeyOptions {
 		return generateUniqueMaxTries;
 	}
 
+	/**
+	 * Returns the minimum number of elements of a container whose element nodes are generated only when accessed.
+	 * The elements not accessed are generated from a shared template node.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public int getVirtualElementNodeThreshold() {
+		return virtualElementNodeThreshold;
+	}
+
 	public JavaConstraintGenerator getJavaConstraintGenerator() {
 		return javaConstraintGenerator;
 	}
@@ -349,7 +347,7 @@ public final class FixtureMonkeyOptions {
 	}
 
 	public List<MatcherOperator<CandidateConcretePropertyResolver>> getCandidateConcretePropertyResolvers() {
-		return candidateConcretePropertyResolvers.getList();
+		return candidateConcretePropertyResolvers.getMatcherOperators();
 	}
 
 	/**
@@ -359,10 +357,7 @@ public final class FixtureMonkeyOptions {
 	@Deprecated
 	public CandidateConcretePropertyResolver getCandidateConcretePropertyResolver(Property property) {
 		List<CandidateConcretePropertyResolver> candidateConcretePropertyResolverList =
-			this.candidateConcretePropertyResolvers.getListByProperty(property)
-				.stream()
-				.map(MatcherOperator::getOperator)
-				.collect(Collectors.toList());
+			this.candidateConcretePropertyResolvers.findAll(property);
 
 		if (candidateConcretePropertyResolverList.isEmpty()) {
 			return null;
@@ -371,23 +366,60 @@ public final class FixtureMonkeyOptions {
 		return new CompositeCandidateConcretePropertyResolver(candidateConcretePropertyResolverList);
 	}
 
+	/**
+	 * It is for internal use only. The lookup tables are compiled once when the options are created.
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<ObjectPropertyGenerator> getObjectPropertyGeneratorTable() {
+		return objectPropertyGenerators;
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<ContainerPropertyGenerator> getContainerPropertyGeneratorTable() {
+		return containerPropertyGenerators;
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<PropertyNameResolver> getPropertyNameResolverTable() {
+		return propertyNameResolvers;
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<CandidateConcretePropertyResolver> getCandidateConcretePropertyResolverTable() {
+		return candidateConcretePropertyResolvers;
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<ArbitraryContainerInfoGenerator> getArbitraryContainerInfoGeneratorTable() {
+		return arbitraryContainerInfoGenerators;
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public MatcherOperatorTable<NullInjectGenerator> getNullInjectGeneratorTable() {
+		return nullInjectGenerators;
+	}
+
 	public FixtureMonkeyOptionsBuilder toBuilder() {
 		return builder()
 			.defaultPropertyGenerator(defaultPropertyGenerator)
-			.arbitraryObjectPropertyGenerators(this.objectPropertyGenerators.getList())
+			.arbitraryObjectPropertyGenerators(this.objectPropertyGenerators.getMatcherOperators())
 			.defaultObjectPropertyGenerator(defaultObjectPropertyGenerator)
-			.arbitraryContainerPropertyGenerators(this.containerPropertyGenerators.getList())
-			.propertyNameResolvers(this.propertyNameResolvers.getList())
+			.arbitraryContainerPropertyGenerators(this.containerPropertyGenerators.getMatcherOperators())
+			.propertyNameResolvers(this.propertyNameResolvers.getMatcherOperators())
 			.defaultPropertyNameResolver(this.defaultPropertyNameResolver)
-			.nullInjectGenerators(new ArrayList<>(this.nullInjectGenerators.getList()))
+			.nullInjectGenerators(new ArrayList<>(this.nullInjectGenerators.getMatcherOperators()))
 			.defaultNullInjectGenerator(this.defaultNullInjectGenerator)
-			.arbitraryContainerInfoGenerators(new ArrayList<>(this.arbitraryContainerInfoGenerators.getList()))
+			.arbitraryContainerInfoGenerators(
+				new ArrayList<>(this.arbitraryContainerInfoGenerators.getMatcherOperators())
+			)
 			.defaultArbitraryContainerInfoGenerator(this.defaultArbitraryContainerInfoGenerator)
 			.defaultArbitraryValidator(defaultArbitraryValidator)
 			.decomposedContainerValueFactory(decomposedContainerValueFactory)
 			.javaConstraintGenerator(javaConstraintGenerator)
 			.instantiatorProcessor(instantiatorProcessor)
-			.candidateConcretePropertyResolvers(new ArrayList<>(candidateConcretePropertyResolvers.getList()))
+			.candidateConcretePropertyResolvers(
+				new ArrayList<>(candidateConcretePropertyResolvers.getMatcherOperators())
+			)
 			.builderContextInitializers(builderContextInitializers);
 	}
 
@@ -24,6 +24,7 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.DEFAULT_NULL_INJECT;
 import static com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions.DEFAULT_ARBITRARY_INTROSPECTORS;
 import static com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions.DEFAULT_MAX_UNIQUE_GENERATION_COUNT;
+import static com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions.DEFAULT_VIRTUAL_ELEMENT_NODE_THRESHOLD;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -117,6 +118,7 @@ public final class FixtureMonkeyOptionsBuilder {
 	private final Map<Class<?>, DecomposedContainerValueFactory> decomposableContainerFactoryMap = new HashMap<>();
 	private int generateMaxTries = CombinableArbitrary.DEFAULT_MAX_TRIES;
 	private int generateUniqueMaxTries = DEFAULT_MAX_UNIQUE_GENERATION_COUNT;
+	private int virtualElementNodeThreshold = DEFAULT_VIRTUAL_ELEMENT_NODE_THRESHOLD;
 	private JavaConstraintGenerator javaConstraintGenerator = DEFAULT_JAVA_CONSTRAINT_GENERATOR;
 	private final List<UnaryOperator<JavaConstraintGenerator>> javaConstraintGeneratorCustomizers = new ArrayList<>();
 	private JavaTypeArbitraryGenerator javaTypeArbitraryGenerator = new JavaTypeArbitraryGenerator() {
@@ -497,6 +499,18 @@ public final class FixtureMonkeyOptionsBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the minimum number of elements of a container whose element nodes are generated only when accessed.
+	 *
+	 * @param virtualElementNodeThreshold the minimum number of elements, {@link Integer#MAX_VALUE} disables it
+	 * @return this
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyOptionsBuilder virtualElementNodeThreshold(int virtualElementNodeThreshold) {
+		this.virtualElementNodeThreshold = virtualElementNodeThreshold;
+		return this;
+	}
+
 	public FixtureMonkeyOptionsBuilder javaConstraintGenerator(JavaConstraintGenerator javaConstraintGenerator) {
 		this.javaConstraintGenerator = javaConstraintGenerator;
 		return this;
@@ -692,6 +706,7 @@ public final class FixtureMonkeyOptionsBuilder {
 			decomposedContainerValueFactory,
 			this.generateMaxTries,
 			this.generateUniqueMaxTries,
+			this.virtualElementNodeThreshold,
 			resolvedJavaConstraintGenerator,
 			this.instantiatorProcessor,
 			this.candidateConcretePropertyResolvers,
@@ -2,10 +2,10 @@ package com.navercorp.fixturemonkey.api.property;
 
 import java.util.Objects;
 
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
-import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
-
 /**
  * Represent a location of property.
  * It is mainly used as a caching key or for logging.
@@ -16,8 +16,9 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 	private final PropertyPath parentPropertyPath;
 	private final int depth;
 
-	@SuppressWarnings("nullness")
-	private final LazyArbitrary<String> expression = LazyArbitrary.lazy(this::initExpression);
+	private int hash;
+	@Nullable
+	private volatile String expression;
 
 	public PropertyPath(Property property, @Nullable PropertyPath parentPropertyPath, int depth) {
 		this.property = property;
@@ -25,10 +26,31 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 		this.depth = depth;
 	}
 
+	/**
+	 * Returns the path of the given property, its depth is derived from the parent path.
+	 *
+	 * @param property           the property of the path
+	 * @param parentPropertyPath the path of the parent property, {@code null} if the property is a root
+	 * @return the path of the property
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public static PropertyPath of(Property property, @Nullable PropertyPath parentPropertyPath) {
+		if (parentPropertyPath == null) {
+			return new PropertyPath(property, null, 1);
+		}
+		return new PropertyPath(property, parentPropertyPath, parentPropertyPath.depth + 1);
+	}
+
 	public Property getProperty() {
 		return property;
 	}
 
+	@Nullable
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public PropertyPath getParentPropertyPath() {
+		return parentPropertyPath;
+	}
+
 	public int getDepth() {
 		return depth;
 	}
@@ -42,14 +64,20 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 			return false;
 		}
 		PropertyPath that = (PropertyPath)obj;
-		return depth == that.depth
+		return hashCode() == that.hashCode()
+			&& depth == that.depth
 			&& property.equals(that.property)
 			&& Objects.equals(parentPropertyPath, that.parentPropertyPath);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(property, parentPropertyPath, depth);
+		int hash = this.hash;
+		if (hash == 0) {
+			hash = 31 * (31 * (31 + property.hashCode()) + Objects.hashCode(parentPropertyPath)) + depth;
+			this.hash = hash;
+		}
+		return hash;
 	}
 
 	@Override
@@ -58,13 +86,31 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 	}
 
 	public String getExpression() {
-		return expression.getValue();
+		String expression = this.expression;
+		if (expression == null) {
+			expression = initExpression();
+			this.expression = expression;
+		}
+		return expression;
 	}
 
 	private String initExpression() {
-		return parentPropertyPath == null ? "" : parentPropertyPath.getExpression()
-			+ getDelimiter()
-			+ getCurrentPropertyExpression();
+		if (parentPropertyPath == null) {
+			return "";
+		}
+
+		String parentExpression = parentPropertyPath.getExpression();
+		String delimiter = getDelimiter(parentExpression);
+		String currentPropertyExpression = String.valueOf(getCurrentPropertyExpression());
+		if (parentExpression.isEmpty()) {
+			return currentPropertyExpression;
+		}
+
+		return new StringBuilder(parentExpression.length() + delimiter.length() + currentPropertyExpression.length())
+			.append(parentExpression)
+			.append(delimiter)
+			.append(currentPropertyExpression)
+			.toString();
 	}
 
 	private @Nullable String getCurrentPropertyExpression() {
@@ -80,14 +126,13 @@ public final class PropertyPath implements Comparable<PropertyPath> {
 		return property.getName();
 	}
 
-	private String getDelimiter() {
+	private String getDelimiter(String parentExpression) {
 		if (property instanceof ContainerElementProperty
 			|| property instanceof TreeRootProperty
 			|| property instanceof MapEntryElementProperty
 			|| property instanceof MapKeyElementProperty
 			|| property instanceof MapValueElementProperty
-			|| parentPropertyPath == null
-			|| "".equals(parentPropertyPath.getExpression())) {
+			|| parentExpression.isEmpty()) {
 			return "";
 		}
 
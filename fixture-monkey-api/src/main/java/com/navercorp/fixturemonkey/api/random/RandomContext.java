@@ -0,0 +1,129 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * An explicit handle of the random state which could be passed to other threads.
+ * <p>
+ * The random of {@link Randoms} is bound to the thread, the generation on the other thread is not reproducible.
+ * A {@link RandomContext} makes it reproducible regardless of the thread.
+ * It could be split into the independent contexts by a stream id, each split context has a seed derived
+ * from the seed of this context and the stream id, see {@link Randoms#deriveSeed(long, long)}.
+ * <p>
+ * For example, the following generates the same list for the same seed regardless of the executor.
+ * <pre>{@code
+ * RandomContext context = RandomContext.fork();
+ * List<CompletableFuture<String>> futures = IntStream.range(0, size)
+ *     .mapToObj(index -> CompletableFuture.supplyAsync(
+ *         () -> context.split(index).call(() -> fixtureMonkey.giveMeOne(String.class)),
+ *         executor
+ *     ))
+ *     .collect(toList());
+ * }</pre>
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class RandomContext {
+	private final long seed;
+
+	private RandomContext(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Creates a context of the given seed.
+	 *
+	 * @param seed the seed value, it should not be {@code 0L}
+	 * @return a new context
+	 */
+	public static RandomContext of(long seed) {
+		if (seed == 0L) {
+			throw new IllegalArgumentException("0L is not an allowed seed value");
+		}
+		return new RandomContext(seed);
+	}
+
+	/**
+	 * Creates a context from the random of the current thread.
+	 * It advances the random of the current thread once, the forked context is reproducible
+	 * if the seed of the current thread is fixed.
+	 *
+	 * @return a new context forked from the current thread
+	 */
+	public static RandomContext fork() {
+		return new RandomContext(Randoms.deriveSeed(Randoms.current().nextLong(), 0L));
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Splits an independent context for the given stream id.
+	 * The same stream id always returns the context of the same seed.
+	 *
+	 * @param streamId the stable id of the stream, for example the index of the element
+	 * @return a new context split from this context
+	 */
+	public RandomContext split(long streamId) {
+		return new RandomContext(Randoms.deriveSeed(this.seed, streamId));
+	}
+
+	/**
+	 * Runs the supplier with the random of this context on the current thread.
+	 * The random of the current thread is restored after running.
+	 *
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	public <T> T call(Supplier<T> supplier) {
+		return Randoms.withSeed(this.seed, supplier);
+	}
+
+	/**
+	 * Runs the runnable with the random of this context on the current thread.
+	 *
+	 * @see #call(Supplier)
+	 */
+	public void run(Runnable runnable) {
+		Randoms.withSeed(this.seed, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Wraps the runnable to be run with the random of this context, it could be passed to an executor.
+	 *
+	 * @param runnable the runnable to wrap
+	 * @return the wrapped runnable
+	 */
+	public Runnable wrap(Runnable runnable) {
+		return () -> this.run(runnable);
+	}
+
+	@Override
+	public String toString() {
+		return "RandomContext{seed=" + seed + "}";
+	}
+}
@@ -19,11 +19,13 @@
 package com.navercorp.fixturemonkey.api.random;
 
 import java.util.Random;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import net.jqwik.engine.SourceOfRandomness;
+import net.jqwik.engine.execution.lifecycle.CurrentTestDescriptor;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -31,10 +33,18 @@ import com.navercorp.fixturemonkey.api.engine.EngineUtils;
 
 /**
  * Reference jqwik SourceOfRandomness
+ * <p>
+ * The seed is bound to the thread, the thread which has not set its own seed is not reproducible.
+ * Use {@link RandomContext} to generate reproducibly on the other threads,
+ * its seed is derived from the index of the split stream, not from the order of the threads.
+ * If the jqwik engine is used, the random of the thread also becomes the source of randomness of jqwik,
+ * unless a jqwik property is running on the thread.
  */
 @API(since = "0.4.0", status = Status.INTERNAL)
 @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
 public abstract class Randoms {
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
 	@SuppressWarnings("type.argument")
 	private static final ThreadLocal<Random> CURRENT;
 	@SuppressWarnings("type.argument")
@@ -42,7 +52,7 @@ public abstract class Randoms {
 
 	static {
 		SEED = ThreadLocal.withInitial(System::nanoTime);
-		CURRENT = ThreadLocal.withInitial(() -> Randoms.newGlobalSeed(SEED.get()));
+		CURRENT = ThreadLocal.withInitial(() -> newRandom(SEED.get()));
 	}
 
 	/**
@@ -58,6 +68,7 @@ public abstract class Randoms {
 	/**
 	 * sets the initialized seed value.
 	 * If the seed has been initialized, it will no longer be changed.
+	 * It only affects the current thread.
 	 *
 	 * @param seed the seed value
 	 */
@@ -79,10 +90,23 @@ public abstract class Randoms {
 		return CURRENT.get();
 	}
 
+	/**
+	 * Returns the random of the current thread.
+	 * If the jqwik engine is used, the source of randomness of jqwik is returned,
+	 * it is seeded with the seed of the current thread when the thread uses it first.
+	 * It is not seeded while a jqwik property is running on the thread,
+	 * the seed of the property is kept for shrinking and reproducing.
+	 */
 	public static Random current() {
-		return EngineUtils.useJqwikEngine()
-			? SourceOfRandomness.current()
-			: CURRENT.get();
+		if (!EngineUtils.useJqwikEngine()) {
+			return CURRENT.get();
+		}
+
+		if (CurrentTestDescriptor.isEmpty()) {
+			// the first use on the thread seeds the source of randomness of jqwik with the seed of the thread
+			CURRENT.get();
+		}
+		return SourceOfRandomness.current();
 	}
 
 	public static long currentSeed() {
@@ -93,6 +117,53 @@ public abstract class Randoms {
 		return current().nextInt(bound);
 	}
 
+	/**
+	 * Derives a seed for the {@code index}-th stream from the given seed.
+	 * It mixes the seed with the SplitMix64 finalizer, the derived seeds are well distributed
+	 * even if the given seeds or indexes are consecutive.
+	 * The derived seed is never {@code 0L}, it could be used in {@link #newGlobalSeed(long)}.
+	 *
+	 * @param seed  the seed value to derive from
+	 * @param index the index of the stream
+	 * @return the derived seed value
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public static long deriveSeed(long seed, long index) {
+		long value = seed + (index + 1) * GOLDEN_GAMMA;
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		value = value ^ (value >>> 31);
+		return value == 0L ? GOLDEN_GAMMA : value;
+	}
+
+	/**
+	 * Runs the supplier with a random of the given seed on the current thread.
+	 * The random of the current thread is restored after running.
+	 * If the jqwik engine is used, the random of jqwik could not be restored,
+	 * it is reset to a seed derived from the previous random instead.
+	 *
+	 * @param seed     the seed value used while running the supplier
+	 * @param supplier the supplier to run
+	 * @return the result of the supplier
+	 */
+	static <T> T withSeed(long seed, Supplier<T> supplier) {
+		Long previousSeed = SEED.get();
+		Random previousRandom = current();
+		Random previousCurrent = CURRENT.get();
+		try {
+			CURRENT.set(newRandom(seed));
+			SEED.set(seed);
+			return supplier.get();
+		} finally {
+			SEED.set(previousSeed);
+			CURRENT.set(
+				EngineUtils.useJqwikEngine()
+					? newRandom(deriveSeed(previousSeed, previousRandom.nextLong()))
+					: previousCurrent
+			);
+		}
+	}
+
 	/**
 	 * Creates a new random instance with the given seed. It is not thread safe.
 	 * It is generally recommended to use {@link #setSeed(long)} instead.
@@ -110,6 +181,10 @@ public abstract class Randoms {
 		}
 	}
 
+	/**
+	 * If the jqwik engine is used, the created random is also set as the source of randomness of jqwik
+	 * on the current thread.
+	 */
 	private static Random newRandom(final long seed) {
 		return EngineUtils.useJqwikEngine()
 			? SourceOfRandomness.create(String.valueOf(seed))
@@ -24,14 +24,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-import javax.annotation.PreDestroy;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
@@ -41,27 +40,37 @@ import com.github.curiousoddman.rgxgen.config.RgxGenOption;
 import com.github.curiousoddman.rgxgen.config.RgxGenProperties;
 import com.mifmif.common.regex.Generex;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+
 @API(since = "0.6.9", status = Status.MAINTAINED)
 public final class RegexGenerator {
 	private static final int DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC = 10;
+	private static final long DEFAULT_REGEXP_GENERATION_TIMEOUT_NANOS =
+		TimeUnit.SECONDS.toNanos(DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC);
+	private static final int DEFAULT_REGEXP_GENERATION_MAX_TRIES = 10_000;
+	private static final int DEFAULT_COMPILED_REGEX_CACHE_SIZE = 2048;
 	private static final int FLAG_CASE_INSENSITIVE = 2;
-	private static final ExecutorService executor = Executors.newSingleThreadExecutor();
 
+	private final ConcurrentLruCache<RegexKey, CompiledRegex> compiledRegexesByKey =
+		new ConcurrentLruCache<>(DEFAULT_COMPILED_REGEX_CACHE_SIZE);
+
+	/**
+	 * Generates a string matching the given regular expression on the calling thread.
+	 * The regular expression is compiled once and cached.
+	 * It is generated by the random of {@link Randoms}, the result is reproducible for the same seed.
+	 * It tries up to {@value #DEFAULT_REGEXP_GENERATION_MAX_TRIES} times to satisfy the given condition
+	 * within {@value #DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC} seconds.
+	 */
 	@SuppressWarnings("argument")
 	public String generate(String regex, int[] flags, Predicate<String> stringCondition) {
 		boolean caseInSensitive = Arrays.stream(flags).anyMatch(it -> it == FLAG_CASE_INSENSITIVE);
 
 		try {
-			RgxGen rgxGen = generateRgxGen(regex, caseInSensitive);
-
-			String result = executor.submit(() ->
-				rgxGen.stream()
-					.filter(stringCondition)
-					.findFirst()
-			).get(DEFAULT_REGEXP_GENERATION_TIMEOUT_SEC, TimeUnit.SECONDS).orElse(null);
-
-			checkValidity(regex, result, caseInSensitive);
-			return result;
+			CompiledRegex compiledRegex = compiledRegexesByKey.computeIfAbsent(
+				new RegexKey(regex, caseInSensitive),
+				it -> new CompiledRegex(generateRgxGen(regex, caseInSensitive), compilePattern(regex, caseInSensitive))
+			);
+			return compiledRegex.generate(Randoms.current(), stringCondition);
 		} catch (Exception ex) {
 			throw new IllegalArgumentException(
 				String.format(
@@ -102,21 +111,72 @@ public final class RegexGenerator {
 		return rgxGen;
 	}
 
-	private static void checkValidity(String regex, String result, boolean caseInSensitive) {
-		Pattern pattern;
+	private static Pattern compilePattern(String regex, boolean caseInSensitive) {
 		if (caseInSensitive) {
-			pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-		} else {
-			pattern = Pattern.compile(regex);
+			return Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
 		}
+		return Pattern.compile(regex);
+	}
 
-		if (!pattern.matcher(result).matches()) {
-			throw new NoSuchElementException();
+	/**
+	 * It is deprecated. Strings are generated on the calling thread, there is no executor to terminate.
+	 */
+	@Deprecated
+	public void terminateExecutor() {
+	}
+
+	private static final class RegexKey {
+		private final String regex;
+		private final boolean caseInSensitive;
+
+		private RegexKey(String regex, boolean caseInSensitive) {
+			this.regex = regex;
+			this.caseInSensitive = caseInSensitive;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			RegexKey that = (RegexKey)obj;
+			return caseInSensitive == that.caseInSensitive && regex.equals(that.regex);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regex, caseInSensitive);
 		}
 	}
 
-	@PreDestroy
-	public void terminateExecutor() {
-		executor.shutdown();
+	private static final class CompiledRegex {
+		private final RgxGen rgxGen;
+		private final Pattern pattern;
+
+		private CompiledRegex(RgxGen rgxGen, Pattern pattern) {
+			this.rgxGen = rgxGen;
+			this.pattern = pattern;
+		}
+
+		private String generate(Random random, Predicate<String> stringCondition) throws TimeoutException {
+			long startNanos = System.nanoTime();
+			for (int i = 0; i < DEFAULT_REGEXP_GENERATION_MAX_TRIES; i++) {
+				if (System.nanoTime() - startNanos > DEFAULT_REGEXP_GENERATION_TIMEOUT_NANOS) {
+					throw new TimeoutException();
+				}
+
+				String result = rgxGen.generate(random);
+				if (stringCondition.test(result)) {
+					if (!pattern.matcher(result).matches()) {
+						throw new NoSuchElementException();
+					}
+					return result;
+				}
+			}
+			throw new NoSuchElementException();
+		}
 	}
 }
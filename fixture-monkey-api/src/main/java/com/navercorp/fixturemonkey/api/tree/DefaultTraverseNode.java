@@ -18,14 +18,18 @@
 
 package com.navercorp.fixturemonkey.api.tree;
 
+import static com.navercorp.fixturemonkey.api.type.Types.nullSafe;
 import static java.util.stream.Collectors.toMap;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -40,6 +44,7 @@ import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGeneratorContext;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.CompositeTypeDefinition;
+import com.navercorp.fixturemonkey.api.property.DefaultContainerElementProperty;
 import com.navercorp.fixturemonkey.api.property.DefaultTypeDefinition;
 import com.navercorp.fixturemonkey.api.property.ElementPropertyGenerator;
 import com.navercorp.fixturemonkey.api.property.LazyPropertyGenerator;
@@ -49,22 +54,33 @@ import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
 import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeDefinition;
+import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "1.1.4", status = Status.EXPERIMENTAL)
 public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMetadata {
+	private static final int VIRTUAL_ELEMENT_TEMPLATE_SEQUENCE = -1;
+
 	private final TreeRootProperty rootProperty;
 
 	@Nullable
 	private final Property resolvedParentProperty;
 	private TypeDefinition resolvedTypeDefinition;
 	private final TreeProperty treeProperty;
-	private final TraverseContext traverseContext;
+	@Nullable
+	private TraverseContext traverseContext;
+	/**
+	 * The node instantiated from a template appends its tree property to the context of this node
+	 * when its context is needed, most of the instantiated nodes are never expanded again.
+	 */
+	@Nullable
+	private DefaultTraverseNode traverseContextParent;
 
 	@Nullable
 	private TraverseNode parent = null;
 	private @Nullable List<TraverseNode> children;
 	@Nullable
 	private TypeDefinition expandedTypeDefinition = null;
+	private final List<TypeDefinition> expandedTypeDefinitions = new ArrayList<>();
 
 	private double nullInject;
 	private final List<TreeNodeManipulator> containerInfoManipulators = new ArrayList<>();
@@ -73,15 +89,10 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 	private final LazyArbitrary<PropertyPath> lazyPropertyPath = LazyArbitrary.lazy(() -> {
 		Property resolvedProperty = this.resolvedTypeDefinition.getResolvedProperty();
 		if (parent == null) {
-			return new PropertyPath(resolvedProperty, null, 1);
+			return treeProperty.getPropertyPath(resolvedProperty, null);
 		}
 
-		PropertyPath parentPropertyPath = parent.getMetadata().getLazyPropertyPath().getValue();
-		return new PropertyPath(
-			resolvedProperty,
-			parentPropertyPath,
-			parentPropertyPath.getDepth() + 1
-		);
+		return treeProperty.getPropertyPath(resolvedProperty, parent.getMetadata().getLazyPropertyPath().getValue());
 	});
 
 	DefaultTraverseNode(
@@ -91,13 +102,23 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		TreeProperty treeProperty,
 		double nullInject,
 		TraverseContext traverseContext
+	) {
+		this(rootProperty, resolvedParentProperty, resolvedTypeDefinition, treeProperty, nullInject);
+		this.traverseContext = traverseContext;
+	}
+
+	private DefaultTraverseNode(
+		TreeRootProperty rootProperty,
+		@Nullable Property resolvedParentProperty,
+		TypeDefinition resolvedTypeDefinition,
+		TreeProperty treeProperty,
+		double nullInject
 	) {
 		this.rootProperty = rootProperty;
 		this.resolvedParentProperty = resolvedParentProperty;
 		this.resolvedTypeDefinition = resolvedTypeDefinition;
 		this.treeProperty = treeProperty;
 		this.nullInject = nullInject;
-		this.traverseContext = traverseContext;
 		this.children = null;
 	}
 
@@ -148,7 +169,16 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 	}
 
 	public void setMergedChildren(List<TraverseNode> children) {
-		this.children = mergeWithNewChildren(children);
+		this.setChildren(mergeWithNewChildren(this.children, children));
+	}
+
+	private void setChildren(List<TraverseNode> children) {
+		this.children = children;
+		if (children instanceof VirtualNodeList) {
+			// the parent of a virtual node is set on materializing
+			return;
+		}
+
 		for (TraverseNode child : this.children) {
 			DefaultTraverseNode defaultTraverseNode = (DefaultTraverseNode)child;
 			defaultTraverseNode.parent = this;
@@ -206,7 +236,7 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 	}
 
 	public void addContainerManipulator(TreeNodeManipulator containerInfoManipulator) {
-		traverseContext.addContainerInfoManipulator(containerInfoManipulator);
+		this.getTraverseContext().addContainerInfoManipulator(containerInfoManipulator);
 		this.containerInfoManipulators.add(containerInfoManipulator);
 	}
 
@@ -214,58 +244,72 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		return lazyPropertyPath;
 	}
 
+	@SuppressWarnings({"dereference.of.nullable", "return"})
+	private TraverseContext getTraverseContext() {
+		if (this.traverseContext == null) {
+			this.traverseContext = this.traverseContextParent.getTraverseContext()
+				.appendArbitraryProperty(this.treeProperty);
+			this.traverseContextParent = null;
+		}
+		return this.traverseContext;
+	}
+
 	@Override
 	public boolean expand() {
-		if (this.expandedTypeDefinition != null) {
-			return false;
+		if (this.getTreeProperty().isContainer()) {
+			if (this.expandedTypeDefinition != null) {
+				return false;
+			}
+
+			this.setMergedChildren(this.expandContainerNodes(this.getTraverseContext()));
+			this.expandedTypeDefinition = resolvedTypeDefinition;
+			return true;
 		}
 
-		this.setMergedChildren(
-			this.getTreeProperty().getTypeDefinitions().stream()
-				.flatMap(
-					typeDefinition -> {
-						if (this.getTreeProperty().isContainer()) {
-							return expandContainerNode(typeDefinition, this.traverseContext);
-						}
-
-						return this.generateChildrenNodes(
-							typeDefinition.getResolvedProperty(),
-							typeDefinition.getPropertyGenerator()
-								.generateChildProperties(typeDefinition.getResolvedProperty()),
-							this.nullInject,
-							this.traverseContext
-						).stream();
-					}
-				)
-				.collect(Collectors.toList())
-		);
+		boolean expanded = this.expandTypeDefinitions(this.resolveExpandingTypeDefinitions());
 		this.expandedTypeDefinition = resolvedTypeDefinition;
-		return true;
+		return expanded;
+	}
+
+	@Override
+	public boolean expandAllTypeDefinitions() {
+		if (this.getTreeProperty().isContainer()) {
+			return this.expand();
+		}
+
+		boolean expanded = this.expandTypeDefinitions(this.getTreeProperty().getTypeDefinitions());
+		this.expandedTypeDefinition = resolvedTypeDefinition;
+		return expanded;
 	}
 
 	@Override
 	public void forceExpand() {
-		List<TraverseNode> newChildren = this.getTreeProperty().getTypeDefinitions().stream()
-			.flatMap(
-				typeDefinition -> {
-					if (this.getTreeProperty().isContainer()) {
-						return this.expandContainerNode(
-							typeDefinition,
-							traverseContext.withParentProperties()
-						);
-					}
-
-					return this.generateChildrenNodes(
-						typeDefinition.getResolvedProperty(),
-						typeDefinition.getPropertyGenerator()
-							.generateChildProperties(typeDefinition.getResolvedProperty()),
-						this.nullInject,
-						traverseContext.withParentProperties()
-					).stream();
-				}
-			).collect(Collectors.toList());
+		if (this.getTreeProperty().isContainer()) {
+			this.setMergedChildren(this.expandContainerNodes(this.getTraverseContext().withParentProperties()));
+			this.expandedTypeDefinition = resolvedTypeDefinition;
+			return;
+		}
 
-		this.setMergedChildren(newChildren);
+		List<TypeDefinition> forceExpandingTypeDefinitions = this.resolveExpandingTypeDefinitions();
+		List<TraverseNode> newChildren = new ArrayList<>();
+		for (TypeDefinition typeDefinition : this.getTreeProperty().getTypeDefinitions()) {
+			boolean forceExpanding = forceExpandingTypeDefinitions.contains(typeDefinition);
+			if (!forceExpanding && !this.isExpanded(typeDefinition)) {
+				continue;
+			}
+
+			List<TraverseNode> typeDefinitionChildren = this.getChildrenOf(typeDefinition);
+			if (forceExpanding) {
+				typeDefinitionChildren = mergeWithNewChildren(
+					this.isExpanded(typeDefinition) ? typeDefinitionChildren : null,
+					this.generateChildrenNodes(typeDefinition, this.getTraverseContext().withParentProperties())
+				);
+				this.markExpanded(typeDefinition);
+			}
+			newChildren.addAll(typeDefinitionChildren);
+		}
+
+		this.setChildren(newChildren);
 		this.expandedTypeDefinition = resolvedTypeDefinition;
 	}
 
@@ -275,15 +319,16 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		if (this.getTreeProperty().isContainer()) {
 			children = this.expandContainerNode(
 				typeDefinition,
-				traverseContext.withParentProperties()
-			).collect(Collectors.toList());
+				this.getTraverseContext().withParentProperties(),
+				true
+			);
 		} else {
 			children = this.generateChildrenNodes(
 				typeDefinition.getResolvedProperty(),
 				typeDefinition.getPropertyGenerator()
 					.generateChildProperties(typeDefinition.getResolvedProperty()),
 				this.nullInject,
-				traverseContext.withParentProperties()
+				this.getTraverseContext().withParentProperties()
 			);
 		}
 		this.setMergedChildren(children);
@@ -295,7 +340,101 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		return this;
 	}
 
-	private Stream<TraverseNode> expandContainerNode(TypeDefinition typeDefinition, TraverseContext traverseContext) {
+	/**
+	 * Appends the child nodes of the given {@link TypeDefinition}s which are not expanded yet.
+	 *
+	 * @param typeDefinitions the {@link TypeDefinition}s to expand
+	 * @return whether the child nodes are changed
+	 */
+	private boolean expandTypeDefinitions(List<? extends TypeDefinition> typeDefinitions) {
+		boolean expanded = this.children == null;
+		List<TraverseNode> newChildren = this.children == null ? new ArrayList<>() : new ArrayList<>(this.children);
+		for (TypeDefinition typeDefinition : typeDefinitions) {
+			if (this.isExpanded(typeDefinition)) {
+				continue;
+			}
+
+			newChildren.addAll(this.generateChildrenNodes(typeDefinition, this.getTraverseContext()));
+			this.markExpanded(typeDefinition);
+			expanded = true;
+		}
+
+		if (expanded) {
+			this.setChildren(newChildren);
+		}
+		return expanded;
+	}
+
+	/**
+	 * Resolves the {@link TypeDefinition}s whose child nodes would be generated as the resolved {@link TypeDefinition}.
+	 * They are the resolved {@link TypeDefinition} and its supertypes among the candidates.
+	 * The other candidates are not generated unless the resolved {@link TypeDefinition} is changed.
+	 */
+	private List<TypeDefinition> resolveExpandingTypeDefinitions() {
+		List<? extends TypeDefinition> typeDefinitions = this.getTreeProperty().getTypeDefinitions();
+		if (typeDefinitions.size() == 1) {
+			return Collections.singletonList(typeDefinitions.get(0));
+		}
+
+		Class<?> resolvedType = Types.getActualType(this.resolvedTypeDefinition.getResolvedProperty().getType());
+		List<TypeDefinition> expandingTypeDefinitions = new ArrayList<>();
+		for (TypeDefinition typeDefinition : typeDefinitions) {
+			if (Types.isAssignable(resolvedType, Types.getActualType(typeDefinition.getResolvedProperty().getType()))) {
+				expandingTypeDefinitions.add(typeDefinition);
+			}
+		}
+		return expandingTypeDefinitions;
+	}
+
+	private boolean isExpanded(TypeDefinition typeDefinition) {
+		Property resolvedProperty = typeDefinition.getResolvedProperty();
+		for (TypeDefinition expandedTypeDefinition : this.expandedTypeDefinitions) {
+			if (expandedTypeDefinition.getResolvedProperty().equals(resolvedProperty)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void markExpanded(TypeDefinition typeDefinition) {
+		if (!this.isExpanded(typeDefinition)) {
+			this.expandedTypeDefinitions.add(typeDefinition);
+		}
+	}
+
+	private List<TraverseNode> getChildrenOf(TypeDefinition typeDefinition) {
+		if (this.children == null) {
+			return new ArrayList<>();
+		}
+
+		Property resolvedProperty = typeDefinition.getResolvedProperty();
+		List<TraverseNode> typeDefinitionChildren = new ArrayList<>();
+		for (TraverseNode child : this.children) {
+			if (resolvedProperty.equals(child.getMetadata().getResolvedParentProperty())) {
+				typeDefinitionChildren.add(child);
+			}
+		}
+		return typeDefinitionChildren;
+	}
+
+	private List<TraverseNode> expandContainerNodes(TraverseContext traverseContext) {
+		List<? extends TypeDefinition> typeDefinitions = this.getTreeProperty().getTypeDefinitions();
+		if (typeDefinitions.size() == 1) {
+			return this.expandContainerNode(typeDefinitions.get(0), traverseContext, true);
+		}
+
+		List<TraverseNode> children = new ArrayList<>();
+		for (TypeDefinition typeDefinition : typeDefinitions) {
+			children.addAll(this.expandContainerNode(typeDefinition, traverseContext, false));
+		}
+		return children;
+	}
+
+	private List<TraverseNode> expandContainerNode(
+		TypeDefinition typeDefinition,
+		TraverseContext traverseContext,
+		boolean virtualizable
+	) {
 		TreeNodeManipulator appliedContainerInfoManipulator =
 			this.getAppliedTreeNodeManipulator();
 
@@ -316,12 +455,114 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 			typeDefinition.getResolvedProperty()
 		);
 
+		if (virtualizable && isVirtualizable(elementProperties, traverseContext)) {
+			return this.generateVirtualElementNodes(
+				typeDefinition.getResolvedProperty(),
+				elementProperties,
+				traverseContext
+			);
+		}
+
 		return this.generateChildrenNodes(
 			typeDefinition.getResolvedProperty(),
 			elementProperties,
 			this.nullInject,
 			traverseContext
-		).stream();
+		);
+	}
+
+	/**
+	 * The elements of a large container are not generated as nodes until they are accessed.
+	 * Only the elements of {@link DefaultContainerElementProperty} could be virtual since their sequences are indexes.
+	 * The elements not accessed share one template node, the element should have the same shape for every index.
+	 *
+	 * @see TraverseContext#getVirtualElementNodeThreshold()
+	 */
+	private static boolean isVirtualizable(List<Property> elementProperties, TraverseContext traverseContext) {
+		if (elementProperties.size() < traverseContext.getVirtualElementNodeThreshold()) {
+			return false;
+		}
+
+		Property firstElementProperty = elementProperties.get(0);
+		return firstElementProperty instanceof DefaultContainerElementProperty
+			&& !traverseContext.isTraversed(firstElementProperty)
+			&& hasFixedShape(firstElementProperty, traverseContext, new HashSet<>());
+	}
+
+	/**
+	 * Checks if the given property and its descendants would be generated as the same shape for every sample.
+	 * A property resolved as one of the several concrete types or a container whose size is resolved
+	 * when generated does not have a fixed shape.
+	 */
+	private static boolean hasFixedShape(Property property, TraverseContext traverseContext, Set<Type> visitedTypes) {
+		if (traverseContext.getContainerPropertyGenerator(property) != null) {
+			return false;
+		}
+
+		List<Property> candidateProperties = traverseContext.resolveCandidateProperties(property);
+		if (candidateProperties.size() > 1) {
+			return false;
+		}
+
+		for (Property candidateProperty : candidateProperties) {
+			if (!visitedTypes.add(candidateProperty.getType())) {
+				continue;
+			}
+
+			List<Property> childProperties = traverseContext.getResolvedPropertyGenerator()
+				.generateChildProperties(candidateProperty);
+			for (Property childProperty : childProperties) {
+				if (!hasFixedShape(childProperty, traverseContext, visitedTypes)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private List<TraverseNode> generateVirtualElementNodes(
+		Property resolvedParentProperty,
+		List<Property> elementProperties,
+		TraverseContext traverseContext
+	) {
+		DefaultContainerElementProperty firstElementProperty =
+			(DefaultContainerElementProperty)elementProperties.get(0);
+		// the template does not match any manipulator targeting a specific index
+		Property templateProperty = new DefaultContainerElementProperty(
+			firstElementProperty.getContainerProperty(),
+			firstElementProperty.getElementProperty(),
+			null,
+			VIRTUAL_ELEMENT_TEMPLATE_SEQUENCE
+		);
+
+		return new VirtualNodeList<>(
+			elementProperties,
+			sequence -> this.generateVirtualElementNode(
+				resolvedParentProperty,
+				elementProperties.get(sequence),
+				sequence,
+				traverseContext
+			),
+			() -> this.generateVirtualElementNode(resolvedParentProperty, templateProperty, null, traverseContext)
+		);
+	}
+
+	private TraverseNode generateVirtualElementNode(
+		Property resolvedParentProperty,
+		Property elementProperty,
+		@Nullable Integer sequence,
+		TraverseContext traverseContext
+	) {
+		DefaultTraverseNode elementNode = generateObjectNode(
+			rootProperty,
+			resolvedParentProperty,
+			elementProperty,
+			sequence,
+			this.nullInject,
+			traverseContext
+		);
+		elementNode.parent = this;
+		return elementNode;
 	}
 
 	public static DefaultTraverseNode generateRootNode(
@@ -338,6 +579,50 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		);
 	}
 
+	/**
+	 * Generates a root node whose non-container descendants are all expanded.
+	 * The generated node is used as a template by {@link #instantiateRootNode}, it should not be manipulated.
+	 * <p>
+	 * Container nodes are not expanded since the size of the container may differ for each sample.
+	 *
+	 * @param rootProperty    the root property of the template
+	 * @param traverseContext the context used to generate the template
+	 * @return the root node of the template
+	 */
+	public static DefaultTraverseNode generateTemplateRootNode(
+		TreeRootProperty rootProperty,
+		TraverseContext traverseContext
+	) {
+		DefaultTraverseNode templateRootNode = generateRootNode(rootProperty, traverseContext);
+		templateRootNode.expandTemplate();
+		return templateRootNode;
+	}
+
+	/**
+	 * Instantiates a new root node from the template generated by {@link #generateTemplateRootNode}.
+	 * The immutable {@link TreeProperty} of the template is shared, the mutable state of each node is copied.
+	 * The {@link TypeDefinition} of each node is resolved again and the container nodes are generated again,
+	 * they may differ for each sample.
+	 *
+	 * @param templateRootNode the root node of the template
+	 * @param rootProperty     the root property of the new root node
+	 * @param traverseContext  the context of the new root node
+	 * @return the new root node
+	 */
+	public static DefaultTraverseNode instantiateRootNode(
+		DefaultTraverseNode templateRootNode,
+		TreeRootProperty rootProperty,
+		TraverseContext traverseContext
+	) {
+		DefaultTraverseNode rootNode = generateRootNode(rootProperty, traverseContext);
+		if (rootNode.getTreeProperty().isContainer() || templateRootNode.children == null) {
+			return rootNode;
+		}
+
+		rootNode.instantiateChildren(templateRootNode);
+		return rootNode;
+	}
+
 	static DefaultTraverseNode generateObjectNode(
 		TreeRootProperty rootProperty,
 		@Nullable Property resolvedParentProperty,
@@ -374,15 +659,10 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 
 		List<Property> candidateProperties = context.resolveCandidateProperties(property);
 
-		List<ObjectProperty> objectProperties =
-			context.getTreeProperties().stream()
-				.map(TreeProperty::getObjectProperty).collect(Collectors.toList());
-		objectProperties.add(objectProperty);
-
 		TreeNodeManipulator appliedContainerInfoManipulator = resolveAppliedContainerInfoManipulator(
 			container,
-			context.getTreeManipulators(),
-			objectProperties
+			context,
+			objectProperty
 		);
 
 		List<TypeDefinition> typeDefinitions = candidateProperties.stream()
@@ -427,7 +707,9 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		DefaultTraverseNode newObjectNode = new DefaultTraverseNode(
 			rootProperty,
 			resolvedParentProperty,
-			new CompositeTypeDefinition(typeDefinitions).getResolvedTypeDefinition(),
+			context.isTemplate()
+				? typeDefinitions.get(0)
+				: new CompositeTypeDefinition(typeDefinitions).getResolvedTypeDefinition(),
 			treeProperty,
 			nullInject,
 			nextTraverseContext
@@ -467,6 +749,15 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		return index;
 	}
 
+	private List<TraverseNode> generateChildrenNodes(TypeDefinition typeDefinition, TraverseContext context) {
+		return this.generateChildrenNodes(
+			typeDefinition.getResolvedProperty(),
+			typeDefinition.getPropertyGenerator().generateChildProperties(typeDefinition.getResolvedProperty()),
+			this.nullInject,
+			context
+		);
+	}
+
 	private List<TraverseNode> generateChildrenNodes(
 		Property resolvedParentProperty,
 		List<Property> childProperties,
@@ -496,14 +787,126 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		return children;
 	}
 
+	private void expandTemplate() {
+		if (this.getTreeProperty().isContainer()) {
+			return;
+		}
+
+		this.expand();
+		for (TraverseNode child : nullSafe(this.children)) {
+			((DefaultTraverseNode)child).expandTemplate();
+		}
+	}
+
+	@SuppressWarnings("dereference.of.nullable")
+	private void instantiateChildren(DefaultTraverseNode templateNode) {
+		List<? extends TypeDefinition> templateTypeDefinitions = templateNode.getTreeProperty().getTypeDefinitions();
+		List<TraverseNode> newChildren = new ArrayList<>(templateNode.children.size());
+
+		for (TraverseNode child : templateNode.children) {
+			DefaultTraverseNode templateChild = (DefaultTraverseNode)child;
+			Property resolvedParentProperty = resolveInstantiatedParentProperty(
+				templateChild.getResolvedParentProperty(),
+				templateTypeDefinitions,
+				this.getTreeProperty().getTypeDefinitions()
+			);
+
+			if (templateChild.getTreeProperty().isContainer()) {
+				newChildren.add(
+					generateObjectNode(
+						rootProperty,
+						resolvedParentProperty,
+						templateChild.getOriginalProperty(),
+						null,
+						this.nullInject,
+						this.getTraverseContext()
+					)
+				);
+				continue;
+			}
+
+			TreeProperty childTreeProperty = templateChild.getTreeProperty();
+			DefaultTraverseNode newChild = new DefaultTraverseNode(
+				rootProperty,
+				resolvedParentProperty,
+				new CompositeTypeDefinition(new ArrayList<>(childTreeProperty.getTypeDefinitions()))
+					.getResolvedTypeDefinition(),
+				childTreeProperty,
+				templateChild.nullInject
+			);
+			newChild.traverseContextParent = this;
+
+			if (templateChild.children != null) {
+				newChild.instantiateChildren(templateChild);
+			}
+			newChildren.add(newChild);
+		}
+
+		this.setMergedChildren(newChildren);
+		this.instantiateExpandedTypeDefinitions(templateNode);
+		this.expandedTypeDefinition = this.resolvedTypeDefinition;
+	}
+
+	/**
+	 * Only the {@link TypeDefinition}s expanded in the template are instantiated,
+	 * the others would be expanded by {@link #expand()} if the new node resolves to one of them.
+	 */
+	private void instantiateExpandedTypeDefinitions(DefaultTraverseNode templateNode) {
+		List<? extends TypeDefinition> templateTypeDefinitions = templateNode.getTreeProperty().getTypeDefinitions();
+		List<? extends TypeDefinition> typeDefinitions = this.getTreeProperty().getTypeDefinitions();
+		int size = Math.min(templateTypeDefinitions.size(), typeDefinitions.size());
+		for (int i = 0; i < size; i++) {
+			if (templateNode.isExpanded(templateTypeDefinitions.get(i))) {
+				this.markExpanded(typeDefinitions.get(i));
+			}
+		}
+	}
+
+	/**
+	 * The root node is generated again for each instance, so the resolved parent property of its children
+	 * should refer to the {@link TypeDefinition} of the new root node, not the one of the template.
+	 */
+	@Nullable
+	private static Property resolveInstantiatedParentProperty(
+		@Nullable Property templateParentProperty,
+		List<? extends TypeDefinition> templateTypeDefinitions,
+		List<? extends TypeDefinition> typeDefinitions
+	) {
+		if (templateTypeDefinitions == typeDefinitions) {
+			return templateParentProperty;
+		}
+
+		int size = Math.min(templateTypeDefinitions.size(), typeDefinitions.size());
+		for (int i = 0; i < size; i++) {
+			if (templateTypeDefinitions.get(i).getResolvedProperty().equals(templateParentProperty)) {
+				return typeDefinitions.get(i).getResolvedProperty();
+			}
+		}
+		return templateParentProperty;
+	}
+
+	/**
+	 * The object properties from the root are collected only if the container node could be manipulated.
+	 */
 	@Nullable
 	private static TreeNodeManipulator resolveAppliedContainerInfoManipulator(
 		boolean container,
-		List<TreeNodeManipulator> containerInfoManipulators,
-		List<ObjectProperty> objectProperties
+		TraverseContext context,
+		ObjectProperty objectProperty
 	) {
-		if (!container || objectProperties.isEmpty()
-			|| !(objectProperties.get(0).getProperty() instanceof TreeRootProperty)) {
+		List<TreeNodeManipulator> containerInfoManipulators = context.getTreeManipulators();
+		if (!container || containerInfoManipulators.isEmpty()) {
+			return null;
+		}
+
+		List<TreeProperty> treeProperties = context.getTreeProperties();
+		List<ObjectProperty> objectProperties = new ArrayList<>(treeProperties.size() + 1);
+		for (TreeProperty treeProperty : treeProperties) {
+			objectProperties.add(treeProperty.getObjectProperty());
+		}
+		objectProperties.add(objectProperty);
+
+		if (!(objectProperties.get(0).getProperty() instanceof TreeRootProperty)) {
 			return null;
 		}
 
@@ -516,19 +919,26 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 		return appliedContainerInfoManipulator;
 	}
 
-	private List<TraverseNode> mergeWithNewChildren(List<TraverseNode> newChildren) {
-		if (this.children == null) {
+	private static List<TraverseNode> mergeWithNewChildren(
+		@Nullable List<TraverseNode> children,
+		List<TraverseNode> newChildren
+	) {
+		if (children == null) {
 			return newChildren;
 		}
 
-		boolean shrinkChildNodes = this.children.size() > newChildren.size();
+		if (children instanceof VirtualNodeList || newChildren instanceof VirtualNodeList) {
+			return VirtualNodeList.merge(children, newChildren);
+		}
+
+		boolean shrinkChildNodes = children.size() > newChildren.size();
 		if (shrinkChildNodes) {
-			return this.children.subList(0, newChildren.size());
+			return children.subList(0, newChildren.size());
 		}
 
-		boolean expandChildNodes = this.children.size() < newChildren.size();
+		boolean expandChildNodes = children.size() < newChildren.size();
 		if (expandChildNodes) {
-			Map<ObjectProperty, TraverseNode> existingNodesByObjectProperty = this.children.stream()
+			Map<ObjectProperty, TraverseNode> existingNodesByObjectProperty = children.stream()
 				.collect(toMap(it -> it.getMetadata().getTreeProperty().getObjectProperty(), Function.identity()));
 
 			List<TraverseNode> concatNewChildren = new ArrayList<>();
@@ -543,6 +953,6 @@ public final class DefaultTraverseNode implements TraverseNode, TraverseNodeMeta
 			}
 			return concatNewChildren;
 		}
-		return this.children;
+		return children;
 	}
 }
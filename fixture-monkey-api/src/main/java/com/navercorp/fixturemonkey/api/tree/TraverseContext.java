@@ -18,6 +18,7 @@
 
 package com.navercorp.fixturemonkey.api.tree;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,11 +31,14 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.container.PersistentList;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfoGenerator;
 import com.navercorp.fixturemonkey.api.generator.ContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.generator.NullInjectGenerator;
 import com.navercorp.fixturemonkey.api.generator.ObjectPropertyGenerator;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperatorTable;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.CandidateConcretePropertyResolver;
 import com.navercorp.fixturemonkey.api.property.CompositeCandidateConcretePropertyResolver;
 import com.navercorp.fixturemonkey.api.property.DefaultCandidateConcretePropertyResolver;
@@ -51,22 +55,33 @@ public final class TraverseContext {
 		new ConcurrentLruCache<>(1024);
 
 	private final TreeRootProperty rootProperty;
-	private final List<TreeProperty> treeProperties;
-	private final List<TreeNodeManipulator> treeManipulators;
+	private final PersistentList<TreeProperty> treeProperties;
+	/**
+	 * A bloom filter of the types of the ancestors except the root, it is carried down from the parent context.
+	 * It could tell that a type is not traversed without iterating the ancestors.
+	 */
+	private final long traversedTypeFilter;
+	private List<TreeNodeManipulator> treeManipulators;
+	/**
+	 * Whether the {@link #treeManipulators} is shared with the other contexts, it is copied before being modified.
+	 */
+	private boolean sharedTreeManipulators;
 	private final List<MatcherOperator<List<TreeNodeManipulator>>> registeredTreeManipulators;
 	private final Map<Class<?>, List<Property>> propertyConfigurers;
 	private final boolean validOnly;
 	private final LazyPropertyGenerator resolvedPropertyGenerator;
-	private final List<MatcherOperator<ObjectPropertyGenerator>> objectPropertyGenerators;
+	private final MatcherOperatorTable<ObjectPropertyGenerator> objectPropertyGenerators;
 	private final ObjectPropertyGenerator defaultObjectPropertyGenerator;
-	private final List<MatcherOperator<ContainerPropertyGenerator>> containerPropertyGenerators;
-	private final List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
+	private final MatcherOperatorTable<ContainerPropertyGenerator> containerPropertyGenerators;
+	private final MatcherOperatorTable<PropertyNameResolver> propertyNameResolvers;
 	private final PropertyNameResolver defaultPropertyNameResolver;
-	private final List<MatcherOperator<CandidateConcretePropertyResolver>> candidateConcretePropertyResolvers;
-	private final List<MatcherOperator<ArbitraryContainerInfoGenerator>> arbitraryContainerInfoGenerators;
+	private final MatcherOperatorTable<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers;
+	private final MatcherOperatorTable<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators;
 	private final ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator;
-	private final List<MatcherOperator<NullInjectGenerator>> nullInjectGenerators;
+	private final MatcherOperatorTable<NullInjectGenerator> nullInjectGenerators;
 	private final NullInjectGenerator defaultNullInjectGenerator;
+	private final int virtualElementNodeThreshold;
+	private final boolean template;
 
 	public TraverseContext(
 		TreeRootProperty rootProperty,
@@ -86,10 +101,107 @@ public final class TraverseContext {
 		ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator,
 		List<MatcherOperator<NullInjectGenerator>> nullInjectGenerators,
 		NullInjectGenerator defaultNullInjectGenerator
+	) {
+		this(
+			rootProperty,
+			treeProperties,
+			treeManipulators,
+			registeredTreeManipulators,
+			propertyConfigurers,
+			validOnly,
+			resolvedPropertyGenerator,
+			new MatcherOperatorTable<>(objectPropertyGenerators),
+			defaultObjectPropertyGenerator,
+			new MatcherOperatorTable<>(containerPropertyGenerators),
+			new MatcherOperatorTable<>(propertyNameResolvers),
+			defaultPropertyNameResolver,
+			new MatcherOperatorTable<>(candidateConcretePropertyResolvers),
+			new MatcherOperatorTable<>(arbitraryContainerInfoGenerators),
+			defaultArbitraryContainerInfoGenerator,
+			new MatcherOperatorTable<>(nullInjectGenerators),
+			defaultNullInjectGenerator,
+			FixtureMonkeyOptions.DEFAULT_VIRTUAL_ELEMENT_NODE_THRESHOLD
+		);
+	}
+
+	/**
+	 * Creates a context with the lookup tables compiled in advance.
+	 * The tables are shared across the contexts, the result of matching is memoized.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public TraverseContext(
+		TreeRootProperty rootProperty,
+		List<TreeProperty> treeProperties,
+		List<TreeNodeManipulator> treeManipulators,
+		List<MatcherOperator<List<TreeNodeManipulator>>> registeredTreeManipulators,
+		Map<Class<?>, List<Property>> propertyConfigurers,
+		boolean validOnly,
+		LazyPropertyGenerator resolvedPropertyGenerator,
+		MatcherOperatorTable<ObjectPropertyGenerator> objectPropertyGenerators,
+		ObjectPropertyGenerator defaultObjectPropertyGenerator,
+		MatcherOperatorTable<ContainerPropertyGenerator> containerPropertyGenerators,
+		MatcherOperatorTable<PropertyNameResolver> propertyNameResolvers,
+		PropertyNameResolver defaultPropertyNameResolver,
+		MatcherOperatorTable<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers,
+		MatcherOperatorTable<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators,
+		ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator,
+		MatcherOperatorTable<NullInjectGenerator> nullInjectGenerators,
+		NullInjectGenerator defaultNullInjectGenerator,
+		int virtualElementNodeThreshold
+	) {
+		this(
+			rootProperty,
+			PersistentList.<TreeProperty>empty().addAll(treeProperties),
+			toTraversedTypeFilter(treeProperties),
+			treeManipulators,
+			false,
+			registeredTreeManipulators,
+			propertyConfigurers,
+			validOnly,
+			resolvedPropertyGenerator,
+			objectPropertyGenerators,
+			defaultObjectPropertyGenerator,
+			containerPropertyGenerators,
+			propertyNameResolvers,
+			defaultPropertyNameResolver,
+			candidateConcretePropertyResolvers,
+			arbitraryContainerInfoGenerators,
+			defaultArbitraryContainerInfoGenerator,
+			nullInjectGenerators,
+			defaultNullInjectGenerator,
+			virtualElementNodeThreshold,
+			false
+		);
+	}
+
+	private TraverseContext(
+		TreeRootProperty rootProperty,
+		PersistentList<TreeProperty> treeProperties,
+		long traversedTypeFilter,
+		List<TreeNodeManipulator> treeManipulators,
+		boolean sharedTreeManipulators,
+		List<MatcherOperator<List<TreeNodeManipulator>>> registeredTreeManipulators,
+		Map<Class<?>, List<Property>> propertyConfigurers,
+		boolean validOnly,
+		LazyPropertyGenerator resolvedPropertyGenerator,
+		MatcherOperatorTable<ObjectPropertyGenerator> objectPropertyGenerators,
+		ObjectPropertyGenerator defaultObjectPropertyGenerator,
+		MatcherOperatorTable<ContainerPropertyGenerator> containerPropertyGenerators,
+		MatcherOperatorTable<PropertyNameResolver> propertyNameResolvers,
+		PropertyNameResolver defaultPropertyNameResolver,
+		MatcherOperatorTable<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers,
+		MatcherOperatorTable<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators,
+		ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator,
+		MatcherOperatorTable<NullInjectGenerator> nullInjectGenerators,
+		NullInjectGenerator defaultNullInjectGenerator,
+		int virtualElementNodeThreshold,
+		boolean template
 	) {
 		this.rootProperty = rootProperty;
 		this.treeProperties = treeProperties;
+		this.traversedTypeFilter = traversedTypeFilter;
 		this.treeManipulators = treeManipulators;
+		this.sharedTreeManipulators = sharedTreeManipulators;
 		this.registeredTreeManipulators = registeredTreeManipulators;
 		this.propertyConfigurers = propertyConfigurers;
 		this.validOnly = validOnly;
@@ -104,15 +216,27 @@ public final class TraverseContext {
 		this.defaultArbitraryContainerInfoGenerator = defaultArbitraryContainerInfoGenerator;
 		this.nullInjectGenerators = nullInjectGenerators;
 		this.defaultNullInjectGenerator = defaultNullInjectGenerator;
+		this.virtualElementNodeThreshold = virtualElementNodeThreshold;
+		this.template = template;
 	}
 
 	@Nullable
 	public TreeProperty getRootTreeProperty() {
-		return treeProperties.get(0);
+		PersistentList<TreeProperty> root = treeProperties;
+		while (root.size() > 1) {
+			root = root.removeLast();
+		}
+		return root.getLast();
 	}
 
+	/**
+	 * Returns the tree properties from the root to the last one.
+	 * It is materialized on the first call, prefer {@link #getLastTreeProperty()} if only the last one is needed.
+	 *
+	 * @return the unmodifiable tree properties
+	 */
 	public List<TreeProperty> getTreeProperties() {
-		return treeProperties;
+		return treeProperties.asList();
 	}
 
 	public List<TreeNodeManipulator> getTreeManipulators() {
@@ -123,15 +247,38 @@ public final class TraverseContext {
 		return propertyConfigurers;
 	}
 
+	/**
+	 * Returns the minimum number of elements of a container whose element nodes are generated only when accessed.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public int getVirtualElementNodeThreshold() {
+		return virtualElementNodeThreshold;
+	}
+
+	/**
+	 * Returns whether this context generates a template.
+	 * The nodes of a template resolve their first {@link com.navercorp.fixturemonkey.api.property.TypeDefinition}
+	 * without drawing a random value, every node is resolved again when the template is instantiated.
+	 * The seeded samples would not depend on which sample generates the template.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public boolean isTemplate() {
+		return template;
+	}
+
 	public boolean isValidOnly() {
 		return validOnly;
 	}
 
+	/**
+	 * Appends the tree property of a child node in constant time, the ancestors are shared with this context.
+	 */
 	public TraverseContext appendArbitraryProperty(
 		TreeProperty treeProperty
 	) {
-		List<TreeProperty> treeProperties = new ArrayList<>(this.treeProperties);
-		treeProperties.add(treeProperty);
+		long traversedTypeFilter = this.treeProperties.isEmpty()
+			? this.traversedTypeFilter
+			: this.traversedTypeFilter | toTypeFilterBit(treeProperty.getObjectProperty().getProperty());
 
 		List<TreeNodeManipulator> registeredContainerManipulators =
 			this.registeredTreeManipulators.stream()
@@ -140,6 +287,33 @@ public final class TraverseContext {
 				.findFirst()
 				.orElse(Collections.emptyList());
 
+		if (registeredContainerManipulators.isEmpty()) {
+			this.sharedTreeManipulators = true;
+			return new TraverseContext(
+				rootProperty,
+				this.treeProperties.add(treeProperty),
+				traversedTypeFilter,
+				this.treeManipulators,
+				true,
+				this.registeredTreeManipulators,
+				this.propertyConfigurers,
+				this.validOnly,
+				this.resolvedPropertyGenerator,
+				this.objectPropertyGenerators,
+				this.defaultObjectPropertyGenerator,
+				this.containerPropertyGenerators,
+				this.propertyNameResolvers,
+				this.defaultPropertyNameResolver,
+				this.candidateConcretePropertyResolvers,
+				this.arbitraryContainerInfoGenerators,
+				this.defaultArbitraryContainerInfoGenerator,
+				this.nullInjectGenerators,
+				this.defaultNullInjectGenerator,
+				this.virtualElementNodeThreshold,
+				this.template
+			);
+		}
+
 		List<TreeNodeManipulator> concatRegisteredContainerManipulator = registeredContainerManipulators.stream()
 			.map(it -> it.withPrependNextNodePredicate(
 				new PropertyTraverseNodePredicate(treeProperty.getObjectProperty().getProperty())
@@ -151,8 +325,10 @@ public final class TraverseContext {
 		concat.addAll(treeManipulators);
 		return new TraverseContext(
 			rootProperty,
-			treeProperties,
+			this.treeProperties.add(treeProperty),
+			traversedTypeFilter,
 			concat,
+			false,
 			this.registeredTreeManipulators,
 			this.propertyConfigurers,
 			this.validOnly,
@@ -166,41 +342,63 @@ public final class TraverseContext {
 			this.arbitraryContainerInfoGenerators,
 			this.defaultArbitraryContainerInfoGenerator,
 			this.nullInjectGenerators,
-			this.defaultNullInjectGenerator
+			this.defaultNullInjectGenerator,
+			this.virtualElementNodeThreshold,
+			this.template
 		);
 	}
 
+	/**
+	 * Checks if the type of given property is one of the ancestors except the root.
+	 * The ancestors are iterated only if the type might be in {@link #traversedTypeFilter}.
+	 */
+	@SuppressWarnings("dereference.of.nullable")
 	public boolean isTraversed(Property property) {
-		return treeProperties.stream()
-			.skip(1)
-			.anyMatch(it -> isSameType(property, it.getObjectProperty().getProperty()));
+		if ((traversedTypeFilter & toTypeFilterBit(property)) == 0L) {
+			return false;
+		}
+
+		PersistentList<TreeProperty> ancestors = treeProperties;
+		while (ancestors.size() > 1) {
+			if (isSameType(property, ancestors.getLast().getObjectProperty().getProperty())) {
+				return true;
+			}
+			ancestors = ancestors.removeLast();
+		}
+		return false;
 	}
 
 	public void addContainerInfoManipulator(TreeNodeManipulator containerInfoManipulator) {
-		if (!this.treeManipulators.contains(containerInfoManipulator)) {
-			this.treeManipulators.add(containerInfoManipulator);
+		if (this.treeManipulators.contains(containerInfoManipulator)) {
+			return;
+		}
+
+		if (this.sharedTreeManipulators) {
+			this.treeManipulators = new ArrayList<>(this.treeManipulators);
+			this.sharedTreeManipulators = false;
 		}
+		this.treeManipulators.add(containerInfoManipulator);
 	}
 
 	@Nullable
 	public TreeProperty getLastTreeProperty() {
-		if (this.treeProperties.isEmpty()) {
-			return null;
-		}
-		return this.treeProperties.get(this.treeProperties.size() - 1);
+		return this.treeProperties.getLast();
 	}
 
 	public TraverseContext withParentProperties() {
-		List<TreeProperty> newTreeProperties = new ArrayList<>();
+		PersistentList<TreeProperty> newTreeProperties = PersistentList.empty();
 
-		if (!this.treeProperties.isEmpty()) {
-			newTreeProperties.add(this.treeProperties.get(this.treeProperties.size() - 1));
+		TreeProperty lastTreeProperty = this.treeProperties.getLast();
+		if (lastTreeProperty != null) {
+			newTreeProperties = newTreeProperties.add(lastTreeProperty);
 		}
 
 		return new TraverseContext(
 			rootProperty,
 			newTreeProperties,
+			0L,
 			new ArrayList<>(this.treeManipulators),
+			false,
 			this.registeredTreeManipulators,
 			this.propertyConfigurers,
 			this.validOnly,
@@ -214,54 +412,102 @@ public final class TraverseContext {
 			this.arbitraryContainerInfoGenerators,
 			this.defaultArbitraryContainerInfoGenerator,
 			this.nullInjectGenerators,
-			this.defaultNullInjectGenerator
+			this.defaultNullInjectGenerator,
+			this.virtualElementNodeThreshold,
+			this.template
 		);
 	}
 
+	/**
+	 * Returns the context without any tree manipulator, it is for generating a template shared between samples.
+	 * The template should not refer to the manipulators of the builder which generates it first.
+	 * The template should not draw from the random of the thread which generates it first either,
+	 * see {@link #isTemplate()}.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public TraverseContext forTemplate() {
+		return new TraverseContext(
+			this.rootProperty,
+			this.treeProperties,
+			this.traversedTypeFilter,
+			new ArrayList<>(),
+			false,
+			Collections.emptyList(),
+			this.propertyConfigurers,
+			this.validOnly,
+			this.resolvedPropertyGenerator,
+			this.objectPropertyGenerators,
+			this.defaultObjectPropertyGenerator,
+			this.containerPropertyGenerators,
+			this.propertyNameResolvers,
+			this.defaultPropertyNameResolver,
+			this.candidateConcretePropertyResolvers,
+			this.arbitraryContainerInfoGenerators,
+			this.defaultArbitraryContainerInfoGenerator,
+			this.nullInjectGenerators,
+			this.defaultNullInjectGenerator,
+			this.virtualElementNodeThreshold,
+			true
+		);
+	}
+
+	private static long toTraversedTypeFilter(List<TreeProperty> treeProperties) {
+		long traversedTypeFilter = 0L;
+		for (int i = 1; i < treeProperties.size(); i++) {
+			traversedTypeFilter |= toTypeFilterBit(treeProperties.get(i).getObjectProperty().getProperty());
+		}
+		return traversedTypeFilter;
+	}
+
+	/**
+	 * The same types should have the same bit, the implementations of {@link ParameterizedType} are not consistent
+	 * in hashCode, so that it is hashed by its raw type.
+	 */
+	private static long toTypeFilterBit(Property property) {
+		Type type = property.getAnnotatedType().getType();
+		int hash;
+		if (type instanceof Class) {
+			hash = type.hashCode();
+		} else if (type instanceof ParameterizedType) {
+			hash = ((ParameterizedType)type).getRawType().hashCode();
+		} else {
+			hash = 0;
+		}
+		hash ^= hash >>> 16;
+		return 1L << (hash & 63);
+	}
+
 	private static boolean isSameType(Property p1, Property p2) {
 		boolean notMapEntry = !(p1 instanceof MapEntryElementProperty) || !(p2 instanceof MapEntryElementProperty);
 		return notMapEntry && p1.getAnnotatedType().getType().equals(p2.getAnnotatedType().getType());
 	}
 
 	public ObjectPropertyGenerator getObjectPropertyGenerator(Property property) {
-		return objectPropertyGenerators.stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.defaultObjectPropertyGenerator);
+		ObjectPropertyGenerator objectPropertyGenerator = objectPropertyGenerators.find(property);
+		return objectPropertyGenerator != null ? objectPropertyGenerator : this.defaultObjectPropertyGenerator;
 	}
 
 	@Nullable
 	public ContainerPropertyGenerator getContainerPropertyGenerator(Property property) {
-		return containerPropertyGenerators.stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(null);
+		return containerPropertyGenerators.find(property);
 	}
 
 	public PropertyNameResolver getPropertyNameResolver(Property property) {
-		return propertyNameResolvers.stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.defaultPropertyNameResolver);
+		PropertyNameResolver propertyNameResolver = propertyNameResolvers.find(property);
+		return propertyNameResolver != null ? propertyNameResolver : this.defaultPropertyNameResolver;
 	}
 
 	public ArbitraryContainerInfoGenerator getArbitraryContainerInfoGenerator(Property property) {
-		return arbitraryContainerInfoGenerators.stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.defaultArbitraryContainerInfoGenerator);
+		ArbitraryContainerInfoGenerator arbitraryContainerInfoGenerator =
+			arbitraryContainerInfoGenerators.find(property);
+		return arbitraryContainerInfoGenerator != null
+			? arbitraryContainerInfoGenerator
+			: this.defaultArbitraryContainerInfoGenerator;
 	}
 
 	public NullInjectGenerator getNullInjectGenerator(Property property) {
-		return nullInjectGenerators.stream()
-			.filter(it -> it.match(property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(this.defaultNullInjectGenerator);
+		NullInjectGenerator nullInjectGenerator = nullInjectGenerators.find(property);
+		return nullInjectGenerator != null ? nullInjectGenerator : this.defaultNullInjectGenerator;
 	}
 
 	public LazyPropertyGenerator getResolvedPropertyGenerator() {
@@ -302,13 +548,10 @@ public final class TraverseContext {
 	@Nullable
 	private static CandidateConcretePropertyResolver getCandidateConcretePropertyResolver(
 		Property property,
-		List<MatcherOperator<CandidateConcretePropertyResolver>> candidateConcretePropertyResolvers
+		MatcherOperatorTable<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers
 	) {
 		List<CandidateConcretePropertyResolver> candidateConcretePropertyResolverList =
-			candidateConcretePropertyResolvers.stream()
-				.filter(it -> it.match(property))
-				.map(MatcherOperator::getOperator)
-				.collect(Collectors.toList());
+			candidateConcretePropertyResolvers.findAll(property);
 
 		if (candidateConcretePropertyResolverList.isEmpty()) {
 			return null;
@@ -34,10 +34,12 @@ import com.navercorp.fixturemonkey.api.property.TypeDefinition;
 public interface TraverseNode {
 	/**
 	 * expands the {@link TraverseNode}. In result, it generates the child {@link TraverseNode}s.
-	 * It generates the child {@link TraverseNode}s by all {@link TypeDefinition}s.
+	 * It generates the child {@link TraverseNode}s by the resolved {@link TypeDefinition} and its supertypes,
+	 * the other {@link TypeDefinition}s are expanded by {@link #expandAllTypeDefinitions()} on demand.
+	 * A container node generates the child {@link TraverseNode}s by all {@link TypeDefinition}s.
 	 * <p>
 	 * It can be called multiple times with metadata generated on expanding of the parent {@link TraverseNode},
-	 * but it makes no change.
+	 * but it makes no change unless the resolved {@link TypeDefinition} is changed.
 	 * <p>
 	 * The leaf {@link TraverseNode} does not always generate child {@link TraverseNode}s.
 	 *
@@ -45,9 +47,23 @@ public interface TraverseNode {
 	 */
 	boolean expand();
 
+	/**
+	 * expands the {@link TraverseNode} by all {@link TypeDefinition}s, not only the resolved one.
+	 * It appends the child {@link TraverseNode}s of the {@link TypeDefinition}s which are not expanded yet.
+	 * It is used when the child {@link TraverseNode}s of the resolved {@link TypeDefinition}
+	 * do not have what a manipulator is looking for.
+	 *
+	 * @return whether any child {@link TraverseNode} is appended
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default boolean expandAllTypeDefinitions() {
+		return expand();
+	}
+
 	/**
 	 * expands the {@link TraverseNode} forcibly. In result, it always generates the child {@link TraverseNode}s.
-	 * It generates the child {@link TraverseNode}s by all {@link TypeDefinition}s.
+	 * It generates the child {@link TraverseNode}s by the resolved {@link TypeDefinition} and its supertypes,
+	 * the child {@link TraverseNode}s of the other expanded {@link TypeDefinition}s are kept.
 	 * {@code Force} means that it expands as if it were a root node, even if it is not.
 	 * Unlike {@link #expand()}, it expands without metadata generated
 	 * on expanding of the parent {@link TraverseNode}.
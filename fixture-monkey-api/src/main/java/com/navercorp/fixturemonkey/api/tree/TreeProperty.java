@@ -26,9 +26,12 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.property.ConcreteTypeDefinition;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.property.TypeDefinition;
 
 /**
@@ -41,6 +44,9 @@ public class TreeProperty {
 	private final ObjectProperty objectProperty;
 	private final boolean container;
 	private final List<? extends TypeDefinition> typeDefinitions;
+	private volatile CombinedPropertyValues.@Nullable Slots childSlots = null;
+	@Nullable
+	private volatile PropertyPath propertyPath = null;
 
 	public TreeProperty(
 		ObjectProperty objectProperty,
@@ -69,6 +75,46 @@ public class TreeProperty {
 		return typeDefinitions;
 	}
 
+	/**
+	 * Returns the slots of the given child properties of the node.
+	 * The tree property is shared by the nodes instantiated from the same template node,
+	 * so the slots are built once and reused by the samples while the child properties are the same.
+	 *
+	 * @param childProperties the child properties of the node in order
+	 * @return the slots of {@code childProperties}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public CombinedPropertyValues.Slots getChildSlots(List<ArbitraryProperty> childProperties) {
+		CombinedPropertyValues.Slots childSlots = this.childSlots;
+		if (childSlots == null || !childSlots.matches(childProperties)) {
+			childSlots = new CombinedPropertyValues.Slots(childProperties);
+			this.childSlots = childSlots;
+		}
+		return childSlots;
+	}
+
+	/**
+	 * Returns the path of the node, it is interned in the scope of the template node.
+	 * The tree property is shared by the nodes instantiated from the same template node,
+	 * so the samples reuse the same path instance while the resolved property and the parent path are the same.
+	 * The path lives as long as the template which is cached by the {@code MonkeyContext}.
+	 *
+	 * @param resolvedProperty   the resolved property of the node
+	 * @param parentPropertyPath the path of the parent node, {@code null} if the node is a root
+	 * @return the path of the node
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public PropertyPath getPropertyPath(Property resolvedProperty, @Nullable PropertyPath parentPropertyPath) {
+		PropertyPath propertyPath = this.propertyPath;
+		if (propertyPath == null
+			|| !propertyPath.getProperty().equals(resolvedProperty)
+			|| !Objects.equals(propertyPath.getParentPropertyPath(), parentPropertyPath)) {
+			propertyPath = PropertyPath.of(resolvedProperty, parentPropertyPath);
+			this.propertyPath = propertyPath;
+		}
+		return propertyPath;
+	}
+
 	/**
 	 * It can be converted into {@link ArbitraryProperty} for backward compatibility.
 	 *
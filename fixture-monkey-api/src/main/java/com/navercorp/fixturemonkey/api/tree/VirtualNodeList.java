@@ -0,0 +1,185 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.tree;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * The element nodes of a large container. A node is materialized only when it is accessed by its index,
+ * for example, when a manipulator targets the element. The other elements are generated on the fly
+ * by the template node which is shared by them.
+ * <p>
+ * Iterating the list materializes all the nodes.
+ * Use {@link #getMaterialized(int)} or {@link #getMaterializedNodes()} to look up the materialized nodes only.
+ *
+ * @param <T> the type of the node
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class VirtualNodeList<T> extends AbstractList<T> implements RandomAccess {
+	private final List<Property> elementProperties;
+	private final IntFunction<T> materializer;
+	private final LazyArbitrary<T> template;
+	private final @Nullable Object[] nodes;
+
+	/**
+	 * Creates the list of which no node is materialized.
+	 *
+	 * @param elementProperties the properties of the elements, its size is the size of the list
+	 * @param materializer      materializes the node of the given index
+	 * @param template          generates the template node shared by the elements which are not materialized
+	 */
+	public VirtualNodeList(List<Property> elementProperties, IntFunction<T> materializer, Supplier<T> template) {
+		this(elementProperties, materializer, LazyArbitrary.lazy(template), new Object[elementProperties.size()]);
+	}
+
+	private VirtualNodeList(
+		List<Property> elementProperties,
+		IntFunction<T> materializer,
+		LazyArbitrary<T> template,
+		@Nullable Object[] nodes
+	) {
+		this.elementProperties = elementProperties;
+		this.materializer = materializer;
+		this.template = template;
+		this.nodes = nodes;
+	}
+
+	@Override
+	public T get(int index) {
+		T node = getMaterialized(index);
+		if (node == null) {
+			node = materializer.apply(index);
+			nodes[index] = node;
+		}
+		return node;
+	}
+
+	@Override
+	public int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * Returns the node of the given index if it is materialized.
+	 *
+	 * @param index the index of the element
+	 * @return the node, or {@code null} if the element would be generated by the template node
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public T getMaterialized(int index) {
+		if (index < 0 || index >= nodes.length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodes.length);
+		}
+		return (T)nodes[index];
+	}
+
+	@SuppressWarnings("unchecked")
+	public List<T> getMaterializedNodes() {
+		List<T> materializedNodes = new ArrayList<>();
+		for (Object node : nodes) {
+			if (node != null) {
+				materializedNodes.add((T)node);
+			}
+		}
+		return materializedNodes;
+	}
+
+	public T getTemplate() {
+		return template.getValue();
+	}
+
+	public Property getElementProperty(int index) {
+		return elementProperties.get(index);
+	}
+
+	/**
+	 * Returns the list of which nodes are transformed from the nodes of this list on materializing.
+	 * The nodes already materialized are transformed eagerly.
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> VirtualNodeList<R> map(Function<? super T, ? extends R> mapper) {
+		Object[] mappedNodes = new Object[nodes.length];
+		for (int i = 0; i < nodes.length; i++) {
+			if (nodes[i] != null) {
+				mappedNodes[i] = mapper.apply((T)nodes[i]);
+			}
+		}
+
+		return new VirtualNodeList<>(
+			elementProperties,
+			index -> mapper.apply(this.get(index)),
+			LazyArbitrary.lazy(() -> mapper.apply(this.getTemplate())),
+			mappedNodes
+		);
+	}
+
+	/**
+	 * Merges the new nodes into the existing nodes by index, at least one of them should be a {@link VirtualNodeList}.
+	 * The existing node is kept if it is materialized, the other nodes are taken from the new nodes.
+	 *
+	 * @param nodes    the existing nodes
+	 * @param newNodes the new nodes, its size is the size of the merged list
+	 * @return the merged nodes
+	 */
+	public static <T> List<T> merge(List<T> nodes, List<T> newNodes) {
+		int size = Math.min(nodes.size(), newNodes.size());
+		if (!(newNodes instanceof VirtualNodeList)) {
+			List<T> mergedNodes = new ArrayList<>(newNodes.size());
+			for (int i = 0; i < newNodes.size(); i++) {
+				mergedNodes.add(i < size ? nodes.get(i) : newNodes.get(i));
+			}
+			return mergedNodes;
+		}
+
+		VirtualNodeList<T> newVirtualNodes = (VirtualNodeList<T>)newNodes;
+		@Nullable Object[] mergedNodes = newVirtualNodes.nodes.clone();
+		for (int i = 0; i < size; i++) {
+			T node = nodes instanceof VirtualNodeList
+				? ((VirtualNodeList<T>)nodes).getMaterialized(i)
+				: nodes.get(i);
+			if (node != null) {
+				mergedNodes[i] = node;
+			}
+		}
+
+		LazyArbitrary<T> template = nodes instanceof VirtualNodeList
+			? ((VirtualNodeList<T>)nodes).template
+			: newVirtualNodes.template;
+		return new VirtualNodeList<>(
+			newVirtualNodes.elementProperties,
+			newVirtualNodes::get,
+			template,
+			mergedNodes
+		);
+	}
+}
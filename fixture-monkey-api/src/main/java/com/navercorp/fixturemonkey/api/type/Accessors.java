@@ -0,0 +1,207 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import static com.navercorp.fixturemonkey.api.exception.Exceptions.throwAsUnchecked;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+
+/**
+ * Creates and caches the accessors of fields, methods and constructors.
+ * <p>
+ * The accessors are backed by {@link MethodHandle}s which are unreflected once and reused for every invocation.
+ * If a {@link MethodHandle} could not be created, for example when the module access is denied,
+ * the accessor falls back to the reflection.
+ * <p>
+ * The accessors behave as the reflection does,
+ * an {@link IllegalArgumentException} is thrown if the arguments do not match
+ * and the exception thrown by the invoked method or constructor is wrapped in an {@link InvocationTargetException}.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public abstract class Accessors {
+	private static final MethodHandle THROW_INVOCATION_TARGET_EXCEPTION;
+
+	private static final Map<Field, FieldSetter> FIELD_SETTERS = new ConcurrentLruCache<>(2048);
+	private static final Map<Method, MethodInvoker> METHOD_INVOKERS = new ConcurrentLruCache<>(2048);
+	private static final Map<Constructor<?>, ConstructorInvoker> CONSTRUCTOR_INVOKERS =
+		new ConcurrentLruCache<>(2048);
+
+	static {
+		try {
+			THROW_INVOCATION_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(
+				Accessors.class,
+				"throwInvocationTargetException",
+				MethodType.methodType(Object.class, Throwable.class)
+			);
+		} catch (NoSuchMethodException | IllegalAccessException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	/**
+	 * Sets a value to the field of the target as {@link Field#set(Object, Object)} does.
+	 */
+	@FunctionalInterface
+	public interface FieldSetter {
+		void set(Object target, @Nullable Object value) throws IllegalAccessException;
+	}
+
+	/**
+	 * Invokes the method as {@link Method#invoke(Object, Object...)} does,
+	 * the target is ignored if the method is static.
+	 */
+	@FunctionalInterface
+	public interface MethodInvoker {
+		@Nullable
+		Object invoke(@Nullable Object target, @Nullable Object... args)
+			throws IllegalAccessException, InvocationTargetException;
+	}
+
+	/**
+	 * Creates a new instance as {@link Constructor#newInstance(Object...)} does.
+	 */
+	@FunctionalInterface
+	public interface ConstructorInvoker {
+		Object newInstance(@Nullable Object... args)
+			throws InstantiationException, IllegalAccessException, InvocationTargetException;
+	}
+
+	public static FieldSetter getFieldSetter(Field field) {
+		return FIELD_SETTERS.computeIfAbsent(field, Accessors::newFieldSetter);
+	}
+
+	public static MethodInvoker getMethodInvoker(Method method) {
+		return METHOD_INVOKERS.computeIfAbsent(method, Accessors::newMethodInvoker);
+	}
+
+	public static ConstructorInvoker getConstructorInvoker(Constructor<?> constructor) {
+		return CONSTRUCTOR_INVOKERS.computeIfAbsent(constructor, Accessors::newConstructorInvoker);
+	}
+
+	private static FieldSetter newFieldSetter(Field field) {
+		MethodHandle methodHandle;
+		try {
+			field.setAccessible(true);
+			methodHandle = MethodHandles.lookup()
+				.unreflectSetter(field)
+				.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return field::set;
+		}
+
+		return (target, value) -> {
+			try {
+				methodHandle.invokeExact(target, value);
+			} catch (ClassCastException | NullPointerException ex) {
+				throw new IllegalArgumentException("Can not set " + field + " to " + value, ex);
+			} catch (Throwable throwable) {
+				throw throwAsUnchecked(throwable);
+			}
+		};
+	}
+
+	private static MethodInvoker newMethodInvoker(Method method) {
+		MethodHandle methodHandle;
+		try {
+			method.setAccessible(true);
+			MethodHandle unreflected = wrapTargetException(MethodHandles.lookup().unreflect(method).asFixedArity());
+			if (Modifier.isStatic(method.getModifiers())) {
+				unreflected = MethodHandles.dropArguments(unreflected, 0, Object.class);
+			}
+			int parameterCount = method.getParameterCount();
+			methodHandle = unreflected
+				.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return method::invoke;
+		}
+
+		return (target, args) -> {
+			Object[] arguments = args == null ? new Object[0] : args;
+			try {
+				return (Object)methodHandle.invokeExact(target, arguments);
+			} catch (InvocationTargetException ex) {
+				throw ex;
+			} catch (ClassCastException | NullPointerException ex) {
+				throw new IllegalArgumentException("Can not invoke " + method, ex);
+			} catch (Throwable throwable) {
+				throw throwAsUnchecked(throwable);
+			}
+		};
+	}
+
+	private static ConstructorInvoker newConstructorInvoker(Constructor<?> constructor) {
+		MethodHandle methodHandle;
+		try {
+			constructor.setAccessible(true);
+			int parameterCount = constructor.getParameterCount();
+			methodHandle = wrapTargetException(MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity())
+				.asType(MethodType.genericMethodType(parameterCount))
+				.asSpreader(Object[].class, parameterCount);
+		} catch (IllegalAccessException | RuntimeException ex) {
+			return constructor::newInstance;
+		}
+
+		return args -> {
+			Object[] arguments = args == null ? new Object[0] : args;
+			try {
+				return (Object)methodHandle.invokeExact(arguments);
+			} catch (InvocationTargetException ex) {
+				throw ex;
+			} catch (ClassCastException | NullPointerException ex) {
+				throw new IllegalArgumentException("Can not instantiate " + constructor, ex);
+			} catch (Throwable throwable) {
+				throw throwAsUnchecked(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Wraps the exception thrown by the target as an {@link InvocationTargetException}.
+	 * It distinguishes the exception of the target from the exception of the argument conversions.
+	 */
+	private static MethodHandle wrapTargetException(MethodHandle target) {
+		MethodType type = target.type();
+		MethodHandle handler = MethodHandles.dropArguments(
+			THROW_INVOCATION_TARGET_EXCEPTION.asType(MethodType.methodType(type.returnType(), Throwable.class)),
+			1,
+			type.parameterList()
+		);
+		return MethodHandles.catchException(target, Throwable.class, handler);
+	}
+
+	@SuppressWarnings("unused")
+	private static Object throwInvocationTargetException(Throwable throwable) throws InvocationTargetException {
+		throw new InvocationTargetException(throwable);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.validator;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
+
+/**
+ * An {@link ArbitraryValidator} which could validate each property while the object is being combined.
+ * <p>
+ * If it is incremental, each property is validated as soon as its value is combined.
+ * A property violating the constraints is regenerated alone, instead of regenerating the whole object
+ * after validating it by {@link #validate(Object)}.
+ * {@link #validate(Object)} is still called for the combined object to validate the constraints across properties.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface IncrementalArbitraryValidator extends ArbitraryValidator {
+	/**
+	 * Returns whether it validates each property while combining.
+	 *
+	 * @return true if it validates each property incrementally
+	 */
+	boolean isIncremental();
+
+	/**
+	 * Validates the value of the property declared in the given type.
+	 * It throws {@link ValidationFailedException} if the value is not valid, it would regenerate the property.
+	 *
+	 * @param declaringType the type declaring the property
+	 * @param propertyName  the name of the property
+	 * @param value         the value of the property
+	 */
+	void validateProperty(Class<?> declaringType, String propertyName, @Nullable Object value);
+
+	/**
+	 * Returns the number of validated property values.
+	 *
+	 * @return the number of validated property values
+	 */
+	long getPropertyValidationCount();
+
+	/**
+	 * Returns the number of property values violating the constraints.
+	 * Each violation regenerates the property alone, it may be counted again if the regenerated value also violates.
+	 *
+	 * @return the number of property values violating the constraints
+	 */
+	long getPropertyViolationCount();
+}
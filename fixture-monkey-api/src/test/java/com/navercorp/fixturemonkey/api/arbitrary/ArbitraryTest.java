@@ -22,11 +22,13 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.navercorp.fixturemonkey.api.exception.FixedValueFilterMissException;
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
 
 public class ArbitraryTest {
 	@Test
@@ -55,4 +57,89 @@ public class ArbitraryTest {
 			.combined())
 			.isExactlyInstanceOf(FixedValueFilterMissException.class);
 	}
+
+	@Test
+	void injectNullHasNoDomain() {
+		CombinableArbitrary<Integer> arbitrary = CombinableArbitrary.oneOf(Arrays.asList(1, 2, 3));
+
+		ValueDomain<Integer> actual = arbitrary.injectNull(0.5d).domain();
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void injectNullZeroKeepsDomain() {
+		CombinableArbitrary<Integer> arbitrary = CombinableArbitrary.oneOf(Arrays.asList(1, 2, 3));
+
+		ValueDomain<Integer> actual = arbitrary.injectNull(0.0d).domain();
+
+		then(actual).isEqualTo(arbitrary.domain());
+	}
+
+	@Test
+	void oneOfUnique() {
+		CombinableArbitrary<Integer> arbitrary = CombinableArbitrary.oneOf(Arrays.asList(1, 2, 3)).unique();
+
+		List<Integer> actual = Arrays.asList(arbitrary.combined(), arbitrary.combined(), arbitrary.combined());
+
+		then(actual).containsExactlyInAnyOrder(1, 2, 3);
+		thenThrownBy(arbitrary::combined).isExactlyInstanceOf(RetryableFilterMissException.class);
+	}
+
+	@Test
+	void containerUniqueWithSharedDomain() {
+		CombinableArbitrary<Integer> element = CombinableArbitrary.oneOf(Arrays.asList(1, 2, 3));
+		CombinableArbitrary<List<Object>> arbitrary = CombinableArbitrary.containerBuilder()
+			.element(element)
+			.element(element)
+			.element(element)
+			.build(ArrayList::new)
+			.unique();
+
+		List<Object> first = arbitrary.combined();
+		List<Object> second = arbitrary.combined();
+
+		then(first).containsExactlyInAnyOrder(1, 2, 3);
+		then(second).containsExactlyInAnyOrder(1, 2, 3);
+	}
+
+	@Test
+	void containerUniqueElements() {
+		CombinableArbitrary<List<Object>> arbitrary = CombinableArbitrary.containerBuilder()
+			.uniqueElements(ValueDomain.of(Arrays.asList(1, 2, 3)), 3)
+			.build(ArrayList::new);
+
+		List<Object> first = arbitrary.combined();
+		List<Object> second = arbitrary.combined();
+
+		then(first).containsExactlyInAnyOrder(1, 2, 3);
+		then(second).containsExactlyInAnyOrder(1, 2, 3);
+	}
+
+	@Test
+	void injectNullNotInjectableReturnsItself() {
+		CombinableArbitrary<String> arbitrary = CombinableArbitrary.from("value");
+
+		CombinableArbitrary<String> actual = arbitrary.injectNull(0.0d);
+
+		then(actual).isSameAs(arbitrary);
+	}
+
+	@Test
+	void injectNullAlways() {
+		String actual = CombinableArbitrary.from("value")
+			.injectNull(1.0d)
+			.combined();
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void integersInjectNullNotInjectableReturnsItself() {
+		IntegerCombinableArbitrary arbitrary = CombinableArbitrary.integers();
+
+		IntegerCombinableArbitrary actual = arbitrary.injectNull(0.0d);
+
+		then(actual).isSameAs(arbitrary);
+	}
 }
@@ -0,0 +1,187 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class CombinedPropertyValuesTest {
+	private static final List<Property> PROPERTIES = new DefaultPropertyGenerator()
+		.generateChildProperties(PropertyUtils.toProperty(Sample.class));
+
+	@Test
+	void getByProperty() {
+		CombinedPropertyValues sut = values(childProperties(), "a", 1);
+
+		Object actual = sut.get(childProperties().get(0));
+
+		then(actual).isEqualTo("a");
+	}
+
+	@Test
+	void containsKey() {
+		CombinedPropertyValues sut = values(childProperties(), "a", 1);
+
+		then(sut.containsKey(childProperties().get(1))).isTrue();
+		then(sut).hasSize(2);
+	}
+
+	@Test
+	void getByResolvedName() {
+		CombinedPropertyValues sut = values(childProperties(), "a", 1);
+
+		Object actual = sut.getByResolvedName("x_name");
+
+		then(actual).isEqualTo("a");
+	}
+
+	@Test
+	void getByPropertyName() {
+		CombinedPropertyValues sut = values(childProperties(), "a", 1);
+
+		Object actual = sut.getByPropertyName("count");
+
+		then(actual).isEqualTo(1);
+	}
+
+	@Test
+	void missingKeys() {
+		CombinedPropertyValues sut = values(childProperties(), "a", 1);
+		ArbitraryProperty missingProperty = new ArbitraryProperty(
+			new ObjectProperty(PROPERTIES.get(0), PropertyNameResolver.IDENTITY, 0),
+			false,
+			0.0d,
+			Collections.emptyList()
+		);
+
+		then(sut.get(missingProperty)).isNull();
+		then(sut.containsKey(missingProperty)).isFalse();
+		then(sut.containsKey("name")).isFalse();
+		then(sut.getByResolvedName("name")).isNull();
+		then(sut.getByPropertyName("x_name")).isNull();
+	}
+
+	@Test
+	void entriesInSlotOrder() {
+		List<ArbitraryProperty> properties = childProperties();
+		CombinedPropertyValues sut = values(properties, "a", 1);
+
+		List<ArbitraryProperty> actual = sut.entrySet().stream()
+			.map(Map.Entry::getKey)
+			.collect(Collectors.toList());
+
+		then(actual).containsExactlyElementsOf(properties);
+	}
+
+	@Test
+	void slotsMatchEqualProperties() {
+		CombinedPropertyValues.Slots sut = new CombinedPropertyValues.Slots(childProperties());
+
+		then(sut.matches(childProperties())).isTrue();
+		then(sut.matches(childProperties().subList(0, 1))).isFalse();
+	}
+
+	@Test
+	void slotsSharedBySamples() {
+		CombinedPropertyValues.Slots slots = new CombinedPropertyValues.Slots(childProperties());
+		List<ArbitraryProperty> nextProperties = childProperties();
+		CombinedPropertyValues sut = new CombinedPropertyValues(
+			slots,
+			nextProperties.toArray(new ArbitraryProperty[0]),
+			new Object[] {"b", 2}
+		);
+
+		then(sut.get(nextProperties.get(1))).isEqualTo(2);
+		then(sut.getProperty(0)).isSameAs(nextProperties.get(0));
+	}
+
+	@Test
+	void objectBuilderReusesChildSlots() {
+		List<ArbitraryProperty> properties = childProperties();
+		CombinedPropertyValues.Slots slots = new CombinedPropertyValues.Slots(properties);
+		ChildCombinableArbitraries childCombinableArbitraries = new ChildCombinableArbitraries(
+			slots,
+			properties.toArray(new ArbitraryProperty[0]),
+			new CombinableArbitrary<?>[] {CombinableArbitrary.from("a"), CombinableArbitrary.from(1)}
+		);
+
+		String actual = CombinableArbitrary.objectBuilder()
+			.properties(childCombinableArbitraries)
+			.buildWithValues(values -> values.getByPropertyName("name") + "" + values.getByResolvedName("x_count"))
+			.combined();
+
+		then(actual).isEqualTo("a1");
+	}
+
+	private static CombinedPropertyValues values(List<ArbitraryProperty> properties, Object... values) {
+		return new CombinedPropertyValues(
+			new CombinedPropertyValues.Slots(properties),
+			properties.toArray(new ArbitraryProperty[0]),
+			values
+		);
+	}
+
+	/**
+	 * Returns the new child properties for each call, as each sample does.
+	 */
+	private static List<ArbitraryProperty> childProperties() {
+		return Arrays.asList(childProperty("name"), childProperty("count"));
+	}
+
+	private static ArbitraryProperty childProperty(String name) {
+		Property property = PROPERTIES.stream()
+			.filter(it -> name.equals(it.getName()))
+			.findFirst()
+			.orElseThrow(IllegalArgumentException::new);
+
+		return new ArbitraryProperty(
+			new ObjectProperty(property, it -> "x_" + it.getName(), null),
+			false,
+			0.0d,
+			Collections.emptyList()
+		);
+	}
+
+	static class Sample {
+		private String name;
+		private int count;
+
+		public String getName() {
+			return name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+	}
+}
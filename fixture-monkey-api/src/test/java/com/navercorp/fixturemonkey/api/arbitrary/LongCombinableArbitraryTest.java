@@ -19,11 +19,17 @@
 package com.navercorp.fixturemonkey.api.arbitrary;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+
 class LongCombinableArbitraryTest {
 	@Test
 	void combined() {
@@ -298,4 +304,47 @@ class LongCombinableArbitraryTest {
 		then(actual % 3L).isEqualTo(0L);
 	}
 
+	@Test
+	void uniqueWithRange() {
+		// given
+		LongCombinableArbitrary arbitrary = CombinableArbitrary.longs().withRange(1L, 10L).unique();
+
+		// when
+		Set<Long> actual = LongStream.rangeClosed(1L, 10L)
+			.mapToObj(i -> arbitrary.combined())
+			.collect(Collectors.toSet());
+
+		// then
+		then(actual).hasSize(10).allMatch(value -> value >= 1L && value <= 10L);
+		thenThrownBy(arbitrary::combined).isExactlyInstanceOf(RetryableFilterMissException.class);
+	}
+
+	@Test
+	void uniquePositive() {
+		// given
+		LongCombinableArbitrary arbitrary = CombinableArbitrary.longs().positive().unique();
+
+		// when
+		Set<Long> actual = IntStream.range(0, 1000)
+			.mapToObj(i -> arbitrary.combined())
+			.collect(Collectors.toSet());
+
+		// then
+		then(actual).hasSize(1000).allMatch(value -> value > 0L);
+	}
+
+	@Test
+	void domainOnlyForNarrowRange() {
+		// given
+		LongCombinableArbitrary narrow = CombinableArbitrary.longs().withRange(1L, ValueDomain.MAX_RANGE_SIZE);
+		LongCombinableArbitrary wide = CombinableArbitrary.longs().withRange(1L, ValueDomain.MAX_RANGE_SIZE + 1);
+
+		// when
+		ValueDomain<Long> narrowDomain = narrow.domain();
+		ValueDomain<Long> wideDomain = wide.domain();
+
+		// then
+		then(narrowDomain).isNotNull();
+		then(wideDomain).isNull();
+	}
 }
@@ -0,0 +1,147 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class CachedJavaConstraintGeneratorTest {
+	@Test
+	void generateOncePerProperty() {
+		AtomicInteger count = new AtomicInteger();
+		JavaConstraintGenerator delegate = new CountingJavaConstraintGenerator(count);
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext context = context(PropertyUtils.toProperty(String.class));
+
+		JavaStringConstraint first = sut.generateStringConstraint(context);
+		JavaStringConstraint second = sut.generateStringConstraint(context);
+
+		then(first).isSameAs(second);
+		then(count).hasValue(1);
+	}
+
+	@Test
+	void generateNullConstraintOnce() {
+		AtomicInteger count = new AtomicInteger();
+		JavaConstraintGenerator delegate = new CountingJavaConstraintGenerator(count);
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+		ArbitraryGeneratorContext context = context(PropertyUtils.toProperty(String.class));
+
+		sut.generateIntegerConstraint(context);
+		JavaIntegerConstraint actual = sut.generateIntegerConstraint(context);
+
+		then(actual).isNull();
+		then(count).hasValue(1);
+	}
+
+	@Test
+	void generateByEachProperty() {
+		AtomicInteger count = new AtomicInteger();
+		JavaConstraintGenerator delegate = new CountingJavaConstraintGenerator(count);
+		CachedJavaConstraintGenerator sut = new CachedJavaConstraintGenerator(delegate);
+
+		sut.generateStringConstraint(context(PropertyUtils.toProperty(String.class)));
+		sut.generateStringConstraint(context(PropertyUtils.toProperty(CharSequence.class)));
+
+		then(count).hasValue(2);
+	}
+
+	@Test
+	void ofNotWrapTwice() {
+		JavaConstraintGenerator cached = CachedJavaConstraintGenerator.of(new CountingJavaConstraintGenerator(
+			new AtomicInteger()
+		));
+
+		JavaConstraintGenerator actual = CachedJavaConstraintGenerator.of(cached);
+
+		then(actual).isSameAs(cached);
+	}
+
+	@Test
+	void optionsNotWrapGivenGenerator() {
+		JavaConstraintGenerator javaConstraintGenerator = new CountingJavaConstraintGenerator(new AtomicInteger());
+
+		JavaConstraintGenerator actual = FixtureMonkeyOptions.builder()
+			.javaConstraintGenerator(javaConstraintGenerator)
+			.build()
+			.getJavaConstraintGenerator();
+
+		then(actual).isSameAs(javaConstraintGenerator);
+	}
+
+	private static ArbitraryGeneratorContext context(Property property) {
+		return new ArbitraryGeneratorContext(
+			property,
+			null,
+			Collections.emptyList(),
+			null,
+			null,
+			null,
+			null,
+			0,
+			0.0d,
+			null
+		);
+	}
+
+	private static class CountingJavaConstraintGenerator implements JavaConstraintGenerator {
+		private final AtomicInteger count;
+
+		CountingJavaConstraintGenerator(AtomicInteger count) {
+			this.count = count;
+		}
+
+		@Override
+		public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+			count.incrementAndGet();
+			return new JavaStringConstraint(BigInteger.ONE, BigInteger.TEN, false, false, false, null, false);
+		}
+
+		@Override
+		public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+			count.incrementAndGet();
+			return null;
+		}
+
+		@Override
+		public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+	}
+}
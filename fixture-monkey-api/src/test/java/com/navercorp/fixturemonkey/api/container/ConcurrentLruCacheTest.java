@@ -0,0 +1,117 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLruCacheTest {
+	@Test
+	void evictNotReferenced() {
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(2);
+		sut.put(1, 1);
+		sut.put(2, 2);
+		sut.get(1);
+
+		sut.put(3, 3);
+
+		then(sut).containsOnlyKeys(1, 3);
+	}
+
+	@Test
+	void putReplacesValue() {
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(2);
+		sut.put(1, 1);
+
+		Integer actual = sut.put(1, 2);
+
+		then(actual).isEqualTo(1);
+		then(sut.get(1)).isEqualTo(2);
+	}
+
+	@Test
+	void computeIfAbsentRecursively() {
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(16);
+
+		Integer actual = sut.computeIfAbsent(2, key -> sut.computeIfAbsent(key - 1, it -> it) + 1);
+
+		then(actual).isEqualTo(2);
+		then(sut).containsKeys(1, 2);
+	}
+
+	@Test
+	void evictionQueueBoundedAfterRemoveChurn() {
+		int maxSize = 16;
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(maxSize);
+
+		for (int i = 0; i < 10_000; i++) {
+			int key = i;
+			sut.put(key, key);
+			switch (key % 3) {
+				case 0:
+					sut.remove(key);
+					break;
+				case 1:
+					sut.keySet().remove(key);
+					break;
+				default:
+					sut.values().removeIf(value -> value.equals(key));
+					break;
+			}
+		}
+
+		then(sut).isEmpty();
+		then(sut.evictionQueueSize()).isLessThanOrEqualTo(2 * maxSize + 1);
+	}
+
+	@Test
+	void sizeNotExceedsMaxSizeAfterConcurrentAccess() throws Exception {
+		int maxSize = 100;
+		ConcurrentLruCache<Integer, Integer> sut = new ConcurrentLruCache<>(maxSize);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int offset = thread;
+				futures.add(executorService.submit(() -> {
+					for (int i = 0; i < 10_000; i++) {
+						int key = (i * 31 + offset) % 500;
+						sut.computeIfAbsent(key, it -> it);
+						sut.get(key);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		then(sut.size()).isLessThanOrEqualTo(maxSize);
+	}
+}
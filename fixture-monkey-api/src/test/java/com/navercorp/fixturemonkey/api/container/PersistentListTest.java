@@ -0,0 +1,71 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.container;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PersistentListTest {
+	@Test
+	void addNotChangesPrevious() {
+		PersistentList<Integer> previous = PersistentList.<Integer>empty().add(1).add(2);
+
+		PersistentList<Integer> actual = previous.add(3);
+
+		then(actual.asList()).containsExactly(1, 2, 3);
+		then(previous.asList()).containsExactly(1, 2);
+	}
+
+	@Test
+	void forkShared() {
+		PersistentList<Integer> shared = PersistentList.<Integer>empty().addAll(Arrays.asList(1, 2));
+		shared.asList();
+
+		PersistentList<Integer> left = shared.add(3);
+		PersistentList<Integer> right = shared.add(4).add(5);
+
+		then(left.asList()).containsExactly(1, 2, 3);
+		then(right.asList()).containsExactly(1, 2, 4, 5);
+		then(right.size()).isEqualTo(4);
+	}
+
+	@Test
+	void asListUnmodifiable() {
+		List<Integer> actual = PersistentList.<Integer>empty().add(1).asList();
+
+		thenThrownBy(() -> actual.add(2)).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void removeLast() {
+		PersistentList<Integer> list = PersistentList.<Integer>empty().add(1).add(2);
+
+		PersistentList<Integer> actual = list.removeLast();
+
+		then(list.getLast()).isEqualTo(2);
+		then(actual.getLast()).isEqualTo(1);
+		then(actual.removeLast().isEmpty()).isTrue();
+		then(actual.removeLast().removeLast().isEmpty()).isTrue();
+	}
+}
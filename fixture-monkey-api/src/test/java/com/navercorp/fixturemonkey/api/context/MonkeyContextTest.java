@@ -0,0 +1,139 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.property.LazyPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.tree.DefaultTraverseNode;
+import com.navercorp.fixturemonkey.api.tree.TraverseContext;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MonkeyContextTest {
+	private static final FixtureMonkeyOptions OPTIONS = FixtureMonkeyOptions.builder().build();
+
+	@Test
+	void getTemplateRootNodeReusesTemplateOfSameType() {
+		MonkeyContext sut = MonkeyContext.builder(OPTIONS).build();
+		TreeRootProperty rootProperty = rootProperty();
+		TreeRootProperty otherRootProperty = rootProperty();
+
+		DefaultTraverseNode actual = sut.getTemplateRootNode(
+			rootProperty,
+			traverseContext(rootProperty, Collections.emptyMap())
+		);
+		DefaultTraverseNode other = sut.getTemplateRootNode(
+			otherRootProperty,
+			traverseContext(otherRootProperty, Collections.emptyMap())
+		);
+
+		then(actual).isNotNull();
+		then(other).isSameAs(actual);
+	}
+
+	@Test
+	void getTemplateRootNodeNotSharedWithDifferentPropertyConfigurers() {
+		MonkeyContext sut = MonkeyContext.builder(OPTIONS).build();
+		TreeRootProperty rootProperty = rootProperty();
+		Map<Class<?>, List<Property>> propertyConfigurers = Collections.singletonMap(
+			Sample.class,
+			Collections.singletonList(rootProperty)
+		);
+
+		DefaultTraverseNode actual = sut.getTemplateRootNode(
+			rootProperty,
+			traverseContext(rootProperty, Collections.emptyMap())
+		);
+		DefaultTraverseNode other = sut.getTemplateRootNode(
+			rootProperty,
+			traverseContext(rootProperty, propertyConfigurers)
+		);
+
+		then(other).isNotNull();
+		then(other).isNotSameAs(actual);
+	}
+
+	@Test
+	void getTemplateRootNodeReturnsNullIfTemplateDisabled() {
+		MonkeyContext sut = MonkeyContext.builder(OPTIONS).templateSize(0).build();
+		TreeRootProperty rootProperty = rootProperty();
+
+		DefaultTraverseNode actual = sut.getTemplateRootNode(
+			rootProperty,
+			traverseContext(rootProperty, Collections.emptyMap())
+		);
+
+		then(actual).isNull();
+	}
+
+	private static TreeRootProperty rootProperty() {
+		return new RootProperty(new TypeReference<Sample>() {
+		}.getAnnotatedType());
+	}
+
+	private static TraverseContext traverseContext(
+		TreeRootProperty rootProperty,
+		Map<Class<?>, List<Property>> propertyConfigurers
+	) {
+		return new TraverseContext(
+			rootProperty,
+			new ArrayList<>(),
+			new ArrayList<>(),
+			new ArrayList<>(),
+			propertyConfigurers,
+			false,
+			new LazyPropertyGenerator(OPTIONS.getDefaultPropertyGenerator()),
+			OPTIONS.getObjectPropertyGeneratorTable(),
+			OPTIONS.getDefaultObjectPropertyGenerator(),
+			OPTIONS.getContainerPropertyGeneratorTable(),
+			OPTIONS.getPropertyNameResolverTable(),
+			OPTIONS.getDefaultPropertyNameResolver(),
+			OPTIONS.getCandidateConcretePropertyResolverTable(),
+			OPTIONS.getArbitraryContainerInfoGeneratorTable(),
+			OPTIONS.getDefaultArbitraryContainerInfoGenerator(),
+			OPTIONS.getNullInjectGeneratorTable(),
+			OPTIONS.getDefaultNullInjectGenerator(),
+			OPTIONS.getVirtualElementNodeThreshold()
+		);
+	}
+
+	public static class Sample {
+		private String value;
+		private List<Integer> values;
+
+		public String getValue() {
+			return value;
+		}
+
+		public List<Integer> getValues() {
+			return values;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.context;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MonkeyGeneratorContextTest {
+	private static final PropertyPath PROPERTY_PATH = new PropertyPath(
+		new RootProperty(new TypeReference<String>() {
+		}.getAnnotatedType()),
+		null,
+		1
+	);
+
+	@Test
+	void isUniqueAndCheck() {
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext();
+
+		then(sut.isUniqueAndCheck(PROPERTY_PATH, "value")).isTrue();
+		then(sut.isUniqueAndCheck(PROPERTY_PATH, "value")).isFalse();
+		then(sut.isUniqueAndCheck(PROPERTY_PATH, null)).isTrue();
+		then(sut.isUniqueAndCheck(PROPERTY_PATH, null)).isFalse();
+	}
+
+	@Test
+	void evictUnique() {
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext();
+		sut.isUniqueAndCheck(PROPERTY_PATH, "value");
+
+		sut.evictUnique(PROPERTY_PATH);
+
+		then(sut.isUniqueAndCheck(PROPERTY_PATH, "value")).isTrue();
+	}
+
+	@Test
+	void isUniqueAndCheckConcurrently() throws Exception {
+		MonkeyGeneratorContext sut = new MonkeyGeneratorContext();
+		AtomicInteger uniqueCount = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				futures.add(executorService.submit(() -> {
+					for (int i = 0; i < 1_000; i++) {
+						if (sut.isUniqueAndCheck(PROPERTY_PATH, i)) {
+							uniqueCount.incrementAndGet();
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		then(uniqueCount).hasValue(1_000);
+	}
+}
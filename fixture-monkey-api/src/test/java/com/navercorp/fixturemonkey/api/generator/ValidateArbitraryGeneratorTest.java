@@ -0,0 +1,316 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+
+/**
+ * The predicates are compared with the filters before they were built once per node,
+ * the filters converted every value into {@link BigInteger} or {@link BigDecimal}.
+ */
+class ValidateArbitraryGeneratorTest {
+	private static final BigInteger OVER_INT = BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.ONE);
+	private static final BigInteger OVER_LONG = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+	private static final List<Object> STRINGS = Arrays.asList(null, "", " ", "a", "abc", "abcdef");
+
+	@Test
+	void stringPredicateMinSizeOverIntRange() {
+		JavaStringConstraint constraint = stringConstraint(OVER_INT, null, false);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toStringPredicate(constraint);
+
+		then(actual.test("abc")).isFalse();
+		then(actual.test(null)).isTrue();
+		thenSameAsLegacy(actual, legacyStringPredicate(constraint), STRINGS);
+	}
+
+	@Test
+	void stringPredicateNegativeMinSizeOverIntRange() {
+		JavaStringConstraint constraint = stringConstraint(OVER_INT.negate(), null, true);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toStringPredicate(constraint);
+
+		then(actual.test("")).isTrue();
+		then(actual.test(null)).isFalse();
+		thenSameAsLegacy(actual, legacyStringPredicate(constraint), STRINGS);
+	}
+
+	@Test
+	void stringPredicateMaxSizeOverIntRange() {
+		JavaStringConstraint positive = stringConstraint(null, OVER_INT, false);
+		JavaStringConstraint negative = stringConstraint(null, OVER_INT.negate(), false);
+
+		Predicate<Object> actualPositive = ValidateArbitraryGenerator.toStringPredicate(positive);
+		Predicate<Object> actualNegative = ValidateArbitraryGenerator.toStringPredicate(negative);
+
+		then(actualPositive.test("abcdef")).isTrue();
+		then(actualNegative.test("")).isFalse();
+		thenSameAsLegacy(actualPositive, legacyStringPredicate(positive), STRINGS);
+		thenSameAsLegacy(actualNegative, legacyStringPredicate(negative), STRINGS);
+	}
+
+	@Test
+	void stringPredicateSizeInIntRange() {
+		JavaStringConstraint min = stringConstraint(BigInteger.valueOf(3), BigInteger.ONE, true);
+		JavaStringConstraint max = stringConstraint(null, BigInteger.valueOf(3), false);
+
+		thenSameAsLegacy(ValidateArbitraryGenerator.toStringPredicate(min), legacyStringPredicate(min), STRINGS);
+		thenSameAsLegacy(ValidateArbitraryGenerator.toStringPredicate(max), legacyStringPredicate(max), STRINGS);
+	}
+
+	@Test
+	void decimalPredicateExclusiveMinExactlyRepresentable() {
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(new BigDecimal("0.5"), false, null, null, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		then(actual.test(0.5d)).isFalse();
+		then(actual.test(Math.nextUp(0.5d))).isTrue();
+		then(actual.test(0.5f)).isFalse();
+		then(actual.test(new BigDecimal("0.5"))).isFalse();
+		thenSameAsLegacy(
+			actual,
+			legacyDecimalPredicate(constraint),
+			Arrays.asList(null, 0.5d, Math.nextUp(0.5d), Math.nextDown(0.5d), 0.5f, -0.0d, new BigDecimal("0.50"))
+		);
+	}
+
+	@Test
+	void decimalPredicateExclusiveMaxExactlyRepresentable() {
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(null, null, new BigDecimal("100.25"), false, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		then(actual.test(100.25d)).isFalse();
+		then(actual.test(Math.nextDown(100.25d))).isTrue();
+		thenSameAsLegacy(
+			actual,
+			legacyDecimalPredicate(constraint),
+			Arrays.asList(100.25d, Math.nextUp(100.25d), Math.nextDown(100.25d), 100.25f, -Double.MAX_VALUE)
+		);
+	}
+
+	@Test
+	void decimalPredicateBoundEqualToDoubleWithLongDecimalString() {
+		// the decimal string of 0.1d is "0.1" which is less than the exact value of 0.1d
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(new BigDecimal(0.1d), true, null, null, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		then(actual.test(0.1d)).isFalse();
+		thenSameAsLegacy(
+			actual,
+			legacyDecimalPredicate(constraint),
+			Arrays.asList(0.1d, Math.nextUp(0.1d), Math.nextDown(0.1d), new BigDecimal(0.1d))
+		);
+	}
+
+	@Test
+	void decimalPredicateFloatComparedByDecimalString() {
+		// the bound is between the decimal string "0.1" of 0.1f and the exact value of 0.1f
+		BigDecimal bound = new BigDecimal((0.1d + (double)0.1f) / 2);
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(bound, true, null, null, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		then(actual.test(0.1f)).isFalse();
+		then(actual.test((double)0.1f)).isTrue();
+		thenSameAsLegacy(
+			actual,
+			legacyDecimalPredicate(constraint),
+			Arrays.asList(0.1f, Math.nextUp(0.1f), Math.nextDown(0.1f), (double)0.1f, new BigDecimal("0.1"))
+		);
+	}
+
+	@Test
+	void decimalPredicateBoundNotRepresentable() {
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(null, null, new BigDecimal("0.1"), false, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		then(actual.test(0.1d)).isFalse();
+		then(actual.test(0.1f)).isFalse();
+		thenSameAsLegacy(
+			actual,
+			legacyDecimalPredicate(constraint),
+			Arrays.asList(0.1d, Math.nextDown(0.1d), 0.1f, Math.nextDown(0.1f), new BigDecimal("0.1"))
+		);
+	}
+
+	@Test
+	void decimalPredicateNaNThrows() {
+		JavaDecimalConstraint constraint = new JavaDecimalConstraint(BigDecimal.ZERO, true, null, null, null);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toDecimalPredicate(constraint);
+
+		thenThrownBy(() -> actual.test(Double.NaN)).isExactlyInstanceOf(NumberFormatException.class);
+		thenThrownBy(() -> actual.test(Float.NaN)).isExactlyInstanceOf(NumberFormatException.class);
+		thenThrownBy(() -> actual.test(Double.POSITIVE_INFINITY)).isExactlyInstanceOf(NumberFormatException.class);
+		thenThrownBy(() -> legacyDecimalPredicate(constraint).test(Double.NaN))
+			.isExactlyInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void integerPredicateLongBounds() {
+		JavaIntegerConstraint constraint = new JavaIntegerConstraint(
+			BigInteger.valueOf(Long.MIN_VALUE),
+			BigInteger.valueOf(Long.MAX_VALUE)
+		);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toIntegerPredicate(constraint);
+
+		then(actual.test(Long.MIN_VALUE)).isTrue();
+		then(actual.test(Long.MAX_VALUE)).isTrue();
+		thenSameAsLegacy(
+			actual,
+			legacyIntegerPredicate(constraint),
+			Arrays.asList(null, Long.MIN_VALUE, Long.MAX_VALUE, 0, (short)1, (byte)-1, OVER_LONG, OVER_LONG.negate())
+		);
+	}
+
+	@Test
+	void integerPredicateBoundsOverLongRange() {
+		JavaIntegerConstraint constraint = new JavaIntegerConstraint(OVER_LONG.negate(), OVER_LONG);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toIntegerPredicate(constraint);
+
+		then(actual.test(Long.MAX_VALUE)).isTrue();
+		then(actual.test(OVER_LONG.add(BigInteger.ONE))).isFalse();
+		thenSameAsLegacy(
+			actual,
+			legacyIntegerPredicate(constraint),
+			Arrays.asList(Long.MIN_VALUE, Long.MAX_VALUE, OVER_LONG, OVER_LONG.add(BigInteger.ONE))
+		);
+	}
+
+	@Test
+	void integerPredicateSmallBounds() {
+		JavaIntegerConstraint constraint = new JavaIntegerConstraint(BigInteger.valueOf(-1), BigInteger.TEN);
+
+		Predicate<Object> actual = ValidateArbitraryGenerator.toIntegerPredicate(constraint);
+
+		thenSameAsLegacy(
+			actual,
+			legacyIntegerPredicate(constraint),
+			Arrays.asList(-2, -1, 10, 11L, (short)11, (byte)10, BigInteger.TEN, BigInteger.valueOf(11))
+		);
+	}
+
+	private static void thenSameAsLegacy(Predicate<Object> actual, Predicate<Object> legacy, List<Object> values) {
+		for (Object value : values) {
+			then(actual.test(value)).as("value %s", value).isEqualTo(legacy.test(value));
+		}
+	}
+
+	private static JavaStringConstraint stringConstraint(
+		BigInteger minSize,
+		BigInteger maxSize,
+		boolean notNull
+	) {
+		return new JavaStringConstraint(minSize, maxSize, false, notNull, false, null, false);
+	}
+
+	private static Predicate<Object> legacyStringPredicate(JavaStringConstraint javaStringConstraint) {
+		return it -> {
+			String string = (String)it;
+			if (javaStringConstraint.isNotNull() && string == null) {
+				return false;
+			}
+
+			BigInteger minSize = javaStringConstraint.getMinSize();
+			if (minSize != null) {
+				if (string == null) {
+					return true;
+				}
+				return BigInteger.valueOf(string.length()).compareTo(minSize) >= 0;
+			}
+
+			BigInteger maxSize = javaStringConstraint.getMaxSize();
+			if (maxSize != null) {
+				if (string == null) {
+					return true;
+				}
+				return BigInteger.valueOf(string.length()).compareTo(maxSize) <= 0;
+			}
+
+			return true;
+		};
+	}
+
+	private static Predicate<Object> legacyDecimalPredicate(JavaDecimalConstraint javaDecimalConstraint) {
+		return it -> {
+			if (it == null) {
+				return true;
+			}
+
+			BigDecimal value = it instanceof BigDecimal ? (BigDecimal)it : new BigDecimal(it.toString());
+
+			BigDecimal min = javaDecimalConstraint.getMin();
+			if (min != null) {
+				if (value.compareTo(min) == 0 && Boolean.FALSE.equals(javaDecimalConstraint.getMinInclusive())) {
+					return false;
+				}
+
+				return value.compareTo(min) >= 0;
+			}
+
+			BigDecimal max = javaDecimalConstraint.getMax();
+			if (max != null) {
+				if (value.compareTo(max) == 0 && Boolean.FALSE.equals(javaDecimalConstraint.getMaxInclusive())) {
+					return false;
+				}
+
+				return value.compareTo(max) <= 0;
+			}
+
+			return true;
+		};
+	}
+
+	private static Predicate<Object> legacyIntegerPredicate(JavaIntegerConstraint javaIntegerConstraint) {
+		return it -> {
+			if (it == null) {
+				return true;
+			}
+
+			BigInteger value = it instanceof BigInteger ? (BigInteger)it : new BigInteger(it.toString());
+
+			BigInteger min = javaIntegerConstraint.getMin();
+			if (min != null && value.compareTo(min) < 0) {
+				return false;
+			}
+
+			BigInteger max = javaIntegerConstraint.getMax();
+			return max == null || value.compareTo(max) <= 0;
+		};
+	}
+}
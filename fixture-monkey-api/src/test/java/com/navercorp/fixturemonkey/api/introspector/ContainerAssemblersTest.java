@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.introspector;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+
+class ContainerAssemblersTest {
+	@Test
+	void collection() {
+		Constructor<?> constructor = TypeCache.getDeclaredConstructor(HashSet.class, Collection.class);
+
+		Object actual = ContainerAssemblers.collection(HashSet.class, constructor).apply(Arrays.asList(1, 2, 2));
+
+		then(actual).isExactlyInstanceOf(HashSet.class);
+		then((HashSet<?>)actual).containsExactlyInAnyOrder(1, 2);
+	}
+
+	@Test
+	void collectionArrayListReturnsCombinedList() {
+		Constructor<?> constructor = TypeCache.getDeclaredConstructor(ArrayList.class, Collection.class);
+		List<Object> elements = new ArrayList<>(Arrays.asList(1, 2));
+
+		Object actual = ContainerAssemblers.collection(ArrayList.class, constructor).apply(elements);
+
+		then(actual).isSameAs(elements);
+	}
+
+	@Test
+	void collectionArrayListCopiesOtherList() {
+		Constructor<?> constructor = TypeCache.getDeclaredConstructor(ArrayList.class, Collection.class);
+
+		Object actual = ContainerAssemblers.collection(ArrayList.class, constructor).apply(Arrays.asList(1, 2));
+
+		then(actual).isExactlyInstanceOf(ArrayList.class);
+		then((List<?>)actual).containsExactly(1, 2);
+	}
+
+	@Test
+	void collectionNotWellKnown() {
+		Constructor<?> constructor = TypeCache.getDeclaredConstructor(TreeSet.class, Collection.class);
+
+		Object actual = ContainerAssemblers.collection(TreeSet.class, constructor).apply(Arrays.asList(2, 1));
+
+		then(actual).isExactlyInstanceOf(TreeSet.class);
+		then((TreeSet<?>)actual).containsExactly(1, 2);
+	}
+
+	@Test
+	void newMap() {
+		Map<Object, Object> linkedHashMap = ContainerAssemblers.newMap(LinkedHashMap.class, String.class, 3);
+		Map<Object, Object> enumMap = ContainerAssemblers.newMap(EnumMap.class, TimeUnit.class, 3);
+
+		then(linkedHashMap).isExactlyInstanceOf(LinkedHashMap.class);
+		then(enumMap).isExactlyInstanceOf(EnumMap.class);
+	}
+
+	@Test
+	void primitiveArray() {
+		List<Object> elements = Arrays.asList(1, (short)2);
+
+		Object actual = ContainerAssemblers.array(int.class, elements);
+
+		then((int[])actual).containsExactly(1, 2);
+	}
+
+	@Test
+	void primitiveArrayNullElementThrows() {
+		List<Object> elements = Arrays.asList(1L, null);
+
+		thenThrownBy(() -> ContainerAssemblers.array(long.class, elements))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void objectArray() {
+		Object actual = ContainerAssemblers.array(String.class, Arrays.asList("a", "b"));
+
+		then((String[])actual).containsExactly("a", "b");
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class MatcherOperatorTableTest {
+	@Test
+	void findFirstMatchedInOrder() {
+		MatcherOperatorTable<String> sut = new MatcherOperatorTable<>(
+			Arrays.asList(
+				MatcherOperator.assignableTypeMatchOperator(CharSequence.class, "assignable"),
+				MatcherOperator.exactTypeMatchOperator(String.class, "exact"),
+				new MatcherOperator<>(property -> true, "unknown")
+			)
+		);
+
+		String actual = sut.find(PropertyUtils.toProperty(String.class));
+
+		then(actual).isEqualTo("assignable");
+	}
+
+	@Test
+	void findTypeUnknownFirst() {
+		MatcherOperatorTable<String> sut = new MatcherOperatorTable<>(
+			Arrays.asList(
+				new MatcherOperator<>(property -> true, "unknown"),
+				MatcherOperator.exactTypeMatchOperator(String.class, "exact")
+			)
+		);
+
+		String actual = sut.find(PropertyUtils.toProperty(String.class));
+
+		then(actual).isEqualTo("unknown");
+	}
+
+	@Test
+	void findNotMatched() {
+		MatcherOperatorTable<String> sut = new MatcherOperatorTable<>(
+			Arrays.asList(
+				MatcherOperator.exactTypeMatchOperator(String.class, "exact"),
+				MatcherOperator.assignableTypeMatchOperator(Number.class, "assignable"),
+				new MatcherOperator<>(property -> false, "unknown")
+			)
+		);
+
+		String actual = sut.find(PropertyUtils.toProperty(Object.class));
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void findAllInOrder() {
+		MatcherOperatorTable<String> sut = new MatcherOperatorTable<>(
+			Arrays.asList(
+				MatcherOperator.exactTypeMatchOperator(Integer.class, "exact"),
+				new MatcherOperator<>(property -> false, "notMatched"),
+				MatcherOperator.assignableTypeMatchOperator(Number.class, "assignable"),
+				new MatcherOperator<>(property -> true, "unknown")
+			)
+		);
+
+		then(sut.findAll(PropertyUtils.toProperty(Integer.class))).containsExactly("exact", "assignable", "unknown");
+		then(sut.findAll(PropertyUtils.toProperty(Long.class))).containsExactly("assignable", "unknown");
+	}
+
+	@Test
+	void findEmpty() {
+		MatcherOperatorTable<String> sut = new MatcherOperatorTable<>(Collections.emptyList());
+
+		then(sut.find(PropertyUtils.toProperty(String.class))).isNull();
+		then(sut.findAll(PropertyUtils.toProperty(String.class))).isEmpty();
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.property;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class PropertyPathTest {
+	private static final RootProperty ROOT_PROPERTY = new RootProperty(new TypeReference<PropertyValue>() {
+	}.getAnnotatedType());
+
+	@Test
+	void of() throws NoSuchFieldException {
+		FieldProperty property = new FieldProperty(PropertyValue.class.getDeclaredField("name"));
+
+		PropertyPath actual = PropertyPath.of(property, PropertyPath.of(ROOT_PROPERTY, null));
+
+		PropertyPath expected = PropertyPath.of(property, PropertyPath.of(ROOT_PROPERTY, null));
+		then(actual).isEqualTo(expected);
+		then(actual).hasSameHashCodeAs(expected);
+		then(actual.getDepth()).isEqualTo(2);
+		then(actual.getExpression()).isEqualTo("name");
+	}
+
+	@Test
+	void ofEqualsConstructed() throws NoSuchFieldException {
+		FieldProperty property = new FieldProperty(PropertyValue.class.getDeclaredField("name"));
+		PropertyPath expected = PropertyPath.of(property, PropertyPath.of(ROOT_PROPERTY, null));
+
+		PropertyPath actual = new PropertyPath(property, new PropertyPath(ROOT_PROPERTY, null, 1), 2);
+
+		then(actual).isEqualTo(expected);
+		then(actual).hasSameHashCodeAs(expected);
+		then(actual.getExpression()).isEqualTo(expected.getExpression());
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.engine.SourceOfRandomness;
+
+import com.navercorp.fixturemonkey.api.engine.EngineUtils;
+
+class RandomContextTest {
+	private static final long SEED = 12345L;
+
+	private long previousSeed;
+
+	@BeforeEach
+	void saveSeed() {
+		previousSeed = Randoms.currentSeed();
+	}
+
+	@AfterEach
+	void restoreSeed() {
+		Randoms.newGlobalSeed(previousSeed);
+	}
+
+	@Test
+	void splitSameStreamId() {
+		RandomContext context = RandomContext.of(SEED);
+
+		then(context.split(1).getSeed()).isEqualTo(context.split(1).getSeed());
+		then(context.split(1).getSeed()).isNotEqualTo(context.split(2).getSeed());
+	}
+
+	@Test
+	void forkSameSeed() {
+		Randoms.newGlobalSeed(SEED);
+		RandomContext expected = RandomContext.fork();
+
+		Randoms.newGlobalSeed(SEED);
+		RandomContext actual = RandomContext.fork();
+
+		then(actual.getSeed()).isEqualTo(expected.getSeed());
+	}
+
+	@Test
+	void callReproducibleOnOtherThread() throws Exception {
+		RandomContext context = RandomContext.of(SEED).split(3);
+		int expected = context.call(() -> Randoms.nextInt(Integer.MAX_VALUE));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			int actual = executor.submit(() -> context.call(() -> Randoms.nextInt(Integer.MAX_VALUE))).get();
+
+			then(actual).isEqualTo(expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void callReproducibleOnWorkerThreadsWithJqwikEngine() throws Exception {
+		then(EngineUtils.useJqwikEngine()).isTrue();
+		RandomContext context = RandomContext.of(SEED);
+
+		List<Integer> expected = generateOnWorkerThreads(context);
+		List<Integer> actual = generateOnWorkerThreads(context);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void setSeedOnlyAffectsCurrentThread() throws Exception {
+		Randoms.newGlobalSeed(SEED);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> Randoms.setSeed(SEED + 1)).get();
+		} finally {
+			executor.shutdown();
+		}
+
+		then(Randoms.currentSeed()).isEqualTo(SEED);
+	}
+
+	@Test
+	void callRestoresSeed() {
+		Randoms.newGlobalSeed(SEED);
+
+		long seedInContext = RandomContext.of(SEED).split(1).call(Randoms::currentSeed);
+
+		then(seedInContext).isNotEqualTo(SEED);
+		then(Randoms.currentSeed()).isEqualTo(SEED);
+	}
+
+	@Test
+	void zeroSeedThrows() {
+		thenThrownBy(() -> RandomContext.of(0L))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Integer> generateOnWorkerThreads(RandomContext context) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int index = 0; index < 100; index++) {
+				RandomContext split = context.split(index);
+				futures.add(executor.submit(() -> split.call(
+					() -> Arbitraries.integers().generator(1).next(SourceOfRandomness.current()).value()
+				)));
+			}
+
+			List<Integer> values = new ArrayList<>();
+			for (Future<Integer> future : futures) {
+				values.add(future.get());
+			}
+			return values;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.platform.engine.TestDescriptor;
+
+import net.jqwik.api.Example;
+import net.jqwik.engine.SourceOfRandomness;
+import net.jqwik.engine.execution.lifecycle.CurrentTestDescriptor;
+
+class RandomsTest {
+	@Example
+	void currentKeepsSourceOfRandomnessOfRunningProperty() throws Exception {
+		TestDescriptor descriptor = CurrentTestDescriptor.get();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			long[] actual = executor.submit(() -> CurrentTestDescriptor.runWithDescriptor(descriptor, () -> {
+				SourceOfRandomness.create("42");
+				long valueFromRandoms = Randoms.current().nextLong();
+
+				SourceOfRandomness.create("42");
+				long valueFromProperty = SourceOfRandomness.current().nextLong();
+				return new long[] {valueFromRandoms, valueFromProperty};
+			})).get();
+
+			then(actual[0]).isEqualTo(actual[1]);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -77,4 +77,14 @@ class RegexGeneratorTest {
 			)
 		).isExactlyInstanceOf(IllegalArgumentException.class);
 	}
+
+	@Test
+	void generateRegExpSameSeed() {
+		String regex = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+
+		String expected = RandomContext.of(12345L).call(() -> SUT.generate(regex, new int[] {}, it -> true));
+		String actual = RandomContext.of(12345L).call(() -> SUT.generate(regex, new int[] {}, it -> true));
+
+		then(actual).isEqualTo(expected);
+	}
 }
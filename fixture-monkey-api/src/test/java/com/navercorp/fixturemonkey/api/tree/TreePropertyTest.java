@@ -0,0 +1,110 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.tree;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
+import com.navercorp.fixturemonkey.api.property.PropertyUtils;
+
+class TreePropertyTest {
+	private static final Property ROOT_PROPERTY = PropertyUtils.toProperty(Sample.class);
+
+	@Test
+	void getChildSlotsReusedForEqualChildren() {
+		TreeProperty sut = treeProperty();
+		CombinedPropertyValues.Slots expected = sut.getChildSlots(childProperties());
+
+		CombinedPropertyValues.Slots actual = sut.getChildSlots(childProperties());
+
+		then(actual).isSameAs(expected);
+	}
+
+	@Test
+	void getChildSlotsRebuiltForDifferentChildren() {
+		TreeProperty sut = treeProperty();
+		CombinedPropertyValues.Slots previous = sut.getChildSlots(childProperties());
+
+		CombinedPropertyValues.Slots actual = sut.getChildSlots(childProperties().subList(0, 1));
+
+		then(actual).isNotSameAs(previous);
+		then(actual.size()).isEqualTo(1);
+	}
+
+	@Test
+	void getPropertyPathReusedForSameParent() {
+		TreeProperty sut = treeProperty();
+		Property childProperty = childProperties().get(0).getObjectProperty().getProperty();
+		PropertyPath expected = sut.getPropertyPath(childProperty, PropertyPath.of(ROOT_PROPERTY, null));
+
+		PropertyPath actual = sut.getPropertyPath(childProperty, PropertyPath.of(ROOT_PROPERTY, null));
+
+		then(actual).isSameAs(expected);
+		then(actual.getDepth()).isEqualTo(2);
+	}
+
+	@Test
+	void getPropertyPathRebuiltForDifferentParent() {
+		TreeProperty sut = treeProperty();
+		Property childProperty = childProperties().get(0).getObjectProperty().getProperty();
+		PropertyPath rootPropertyPath = PropertyPath.of(ROOT_PROPERTY, null);
+		PropertyPath previous = sut.getPropertyPath(childProperty, rootPropertyPath);
+
+		PropertyPath actual = sut.getPropertyPath(childProperty, PropertyPath.of(childProperty, rootPropertyPath));
+
+		then(actual).isNotEqualTo(previous);
+		then(actual.getDepth()).isEqualTo(3);
+	}
+
+	private static TreeProperty treeProperty() {
+		return new TreeProperty(
+			new ObjectProperty(ROOT_PROPERTY, PropertyNameResolver.IDENTITY, null),
+			false,
+			Collections.emptyList()
+		);
+	}
+
+	private static List<ArbitraryProperty> childProperties() {
+		return new DefaultPropertyGenerator().generateChildProperties(ROOT_PROPERTY).stream()
+			.map(it -> new ArbitraryProperty(
+				new ObjectProperty(it, PropertyNameResolver.IDENTITY, null),
+				false,
+				0.0d,
+				Collections.emptyList()
+			))
+			.collect(Collectors.toList());
+	}
+
+	static class Sample {
+		private String name;
+		private int count;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.tree;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.DefaultContainerElementProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class VirtualNodeListTest {
+	private static final RootProperty CONTAINER_PROPERTY = new RootProperty(new TypeReference<List<String>>() {
+	}.getAnnotatedType());
+
+	@Test
+	void getMaterializesOnlyAccessedNode() {
+		AtomicInteger materializedCount = new AtomicInteger();
+		VirtualNodeList<String> sut = new VirtualNodeList<>(
+			elementProperties(10_000),
+			index -> {
+				materializedCount.incrementAndGet();
+				return "element" + index;
+			},
+			() -> "template"
+		);
+
+		String actual = sut.get(42);
+
+		then(actual).isEqualTo("element42");
+		then(sut.get(42)).isSameAs(actual);
+		then(materializedCount).hasValue(1);
+		then(sut).hasSize(10_000);
+		then(sut.getMaterialized(41)).isNull();
+		then(sut.getMaterializedNodes()).containsExactly("element42");
+		then(sut.getTemplate()).isEqualTo("template");
+	}
+
+	@Test
+	void mapTransformsOnMaterializing() {
+		VirtualNodeList<String> nodes = new VirtualNodeList<>(
+			elementProperties(3),
+			index -> "element" + index,
+			() -> "template"
+		);
+		nodes.get(0);
+
+		VirtualNodeList<String> actual = nodes.map(String::toUpperCase);
+
+		then(actual.getMaterializedNodes()).containsExactly("ELEMENT0");
+		then(actual.get(2)).isEqualTo("ELEMENT2");
+		then(nodes.getMaterialized(2)).isEqualTo("element2");
+		then(actual.getTemplate()).isEqualTo("TEMPLATE");
+	}
+
+	@Test
+	void mergeKeepsMaterializedNodes() {
+		VirtualNodeList<String> nodes = new VirtualNodeList<>(
+			elementProperties(3),
+			index -> "existing" + index,
+			() -> "template"
+		);
+		nodes.get(1);
+		VirtualNodeList<String> newNodes = new VirtualNodeList<>(
+			elementProperties(5),
+			index -> "new" + index,
+			() -> "newTemplate"
+		);
+
+		List<String> actual = VirtualNodeList.merge(nodes, newNodes);
+
+		then(actual).isInstanceOf(VirtualNodeList.class);
+		then(actual).containsExactly("new0", "existing1", "new2", "new3", "new4");
+		then(((VirtualNodeList<String>)actual).getTemplate()).isEqualTo("template");
+	}
+
+	@Test
+	void mergeIntoSmallNodes() {
+		List<String> nodes = new ArrayList<>(Arrays.asList("existing0", "existing1"));
+		VirtualNodeList<String> newNodes = new VirtualNodeList<>(
+			elementProperties(4),
+			index -> "new" + index,
+			() -> "template"
+		);
+
+		List<String> actual = VirtualNodeList.merge(nodes, newNodes);
+
+		then(((VirtualNodeList<String>)actual).getMaterializedNodes()).containsExactly("existing0", "existing1");
+		then(actual).containsExactly("existing0", "existing1", "new2", "new3");
+	}
+
+	private static List<Property> elementProperties(int size) {
+		Property elementProperty = new TypeParameterProperty(new TypeReference<String>() {
+		}.getAnnotatedType());
+
+		List<Property> elementProperties = new ArrayList<>();
+		for (int sequence = 0; sequence < size; sequence++) {
+			elementProperties.add(
+				new DefaultContainerElementProperty(CONTAINER_PROPERTY, elementProperty, sequence, sequence)
+			);
+		}
+		return elementProperties;
+	}
+}
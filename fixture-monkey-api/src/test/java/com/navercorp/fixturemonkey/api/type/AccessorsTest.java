@@ -0,0 +1,120 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Test;
+
+class AccessorsTest {
+	@Test
+	void setField() throws Exception {
+		Field field = Target.class.getDeclaredField("value");
+		Target target = new Target();
+
+		Accessors.getFieldSetter(field).set(target, 1);
+
+		then(target.value).isEqualTo(1);
+	}
+
+	@Test
+	void setFieldNotMatchedType() throws Exception {
+		Field field = Target.class.getDeclaredField("value");
+
+		thenThrownBy(() -> Accessors.getFieldSetter(field).set(new Target(), "string"))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void invokeMethod() throws Exception {
+		Method method = Target.class.getDeclaredMethod("setName", String.class);
+		Target target = new Target();
+
+		Object actual = Accessors.getMethodInvoker(method).invoke(target, "name");
+
+		then(actual).isNull();
+		then(target.name).isEqualTo("name");
+	}
+
+	@Test
+	void invokeStaticMethod() throws Exception {
+		Method method = Target.class.getDeclaredMethod("concat", String.class, int.class);
+
+		Object actual = Accessors.getMethodInvoker(method).invoke(null, "value", 1);
+
+		then(actual).isEqualTo("value1");
+	}
+
+	@Test
+	void newInstance() throws Exception {
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+
+		Target actual = (Target)Accessors.getConstructorInvoker(constructor).newInstance(1, "name");
+
+		then(actual.value).isEqualTo(1);
+		then(actual.name).isEqualTo("name");
+	}
+
+	@Test
+	void newInstanceThrowsInvocationTargetException() throws Exception {
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+
+		thenThrownBy(() -> Accessors.getConstructorInvoker(constructor).newInstance(-1, "name"))
+			.isExactlyInstanceOf(InvocationTargetException.class)
+			.hasCauseExactlyInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void newInstanceNullPrimitiveArgument() throws Exception {
+		Constructor<Target> constructor = Target.class.getDeclaredConstructor(int.class, String.class);
+
+		thenThrownBy(() -> Accessors.getConstructorInvoker(constructor).newInstance(null, "name"))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static class Target {
+		private int value;
+		private String name;
+
+		private Target() {
+		}
+
+		private Target(int value, String name) {
+			if (value < 0) {
+				throw new IllegalStateException("value should not be negative.");
+			}
+			this.value = value;
+			this.name = name;
+		}
+
+		private void setName(String name) {
+			this.name = name;
+		}
+
+		private static String concat(String value, int number) {
+			return value + number;
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.navercorp.fixturemonkey.kotlin
+
+import java.math.BigDecimal
+import java.time.Instant
+
+data class KotlinDefaultArgumentOrderSheet(
+    val id: String,
+    val userNo: Long,
+    val productName: String = "product",
+    val salePrice: BigDecimal = BigDecimal.ZERO,
+    val quantity: Long = 1L,
+    val naverBenefit: Boolean = false,
+    val registeredDateTime: Instant = Instant.EPOCH,
+    val memo: String = "",
+)
@@ -52,6 +52,20 @@ open class KotlinObjectGenerationBenchMark {
         blackhole.consume(generateKotlinOrderSheet(fixtureMonkey))
     }
 
+    @Benchmark
+    fun primaryConstructorWithDefaultArgumentsGenerateKotlinOrderSheetWithFixtureMonkey(blackhole: Blackhole) {
+        val fixtureMonkey = FixtureMonkey.builder()
+            .plugin(KotlinPlugin())
+            .plugin(JavaxValidationPlugin())
+            .objectIntrospector(PrimaryConstructorArbitraryIntrospector.INSTANCE)
+            .build()
+        val builder = fixtureMonkey.giveMeBuilder(KotlinDefaultArgumentOrderSheet::class.java)
+            .setNull("productName")
+            .setNull("quantity")
+            .setNull("memo")
+        blackhole.consume(List(COUNT) { builder.sample() })
+    }
+
     @Benchmark
     fun primaryConstructorJavaFallbackGenerateKotlinOrderSheetWithFixtureMonkey(blackhole: Blackhole) {
         val fixtureMonkey = FixtureMonkey.builder()
@@ -8,6 +8,7 @@ checkerFrameworkExtension?.skipCheckerFramework = true
 
 dependencies {
     api(projects.fixtureMonkey)
+    jmhImplementation(projects.fixtureMonkeyDatafaker)
 }
 
 jmh {
@@ -0,0 +1,101 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.container.LruCache;
+
+/**
+ * Measures the throughput of the caches read on every node while the number of threads grows.
+ * The {@code synchronizedLruCache} is the implementation {@link ConcurrentLruCache} used before.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentLruCacheBenchmark {
+	private static final int MAX_SIZE = 2048;
+
+	/**
+	 * The number of keys requested, the keys more than {@link #MAX_SIZE} cause eviction.
+	 */
+	@Param({"1024", "4096"})
+	private int keySize;
+
+	@Param({"concurrentLruCache", "synchronizedLruCache"})
+	private String cacheType;
+
+	private Map<Integer, Integer> cache;
+
+	@Setup
+	public void setUp() {
+		if ("concurrentLruCache".equals(cacheType)) {
+			cache = new ConcurrentLruCache<>(MAX_SIZE);
+		} else {
+			cache = Collections.synchronizedMap(new LruCache<>(MAX_SIZE));
+		}
+
+		for (int i = 0; i < Math.min(keySize, MAX_SIZE); i++) {
+			cache.put(i, i);
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Integer computeIfAbsentWith1Thread() {
+		return computeIfAbsent();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Integer computeIfAbsentWith4Threads() {
+		return computeIfAbsent();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public Integer computeIfAbsentWith16Threads() {
+		return computeIfAbsent();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Integer computeIfAbsentWithMaxThreads() {
+		return computeIfAbsent();
+	}
+
+	private Integer computeIfAbsent() {
+		int key = ThreadLocalRandom.current().nextInt(keySize);
+		return cache.computeIfAbsent(key, it -> it);
+	}
+}
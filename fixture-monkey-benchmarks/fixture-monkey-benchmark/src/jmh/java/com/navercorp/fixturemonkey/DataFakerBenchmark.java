@@ -0,0 +1,67 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.api.introspector.BeanArbitraryIntrospector;
+import com.navercorp.fixturemonkey.datafaker.plugin.DataFakerPlugin;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DataFakerBenchmark {
+	private static final int COUNT = 500;
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.objectIntrospector(BeanArbitraryIntrospector.INSTANCE)
+		.build();
+	private static final FixtureMonkey DATA_FAKER_SUT = FixtureMonkey.builder()
+		.objectIntrospector(BeanArbitraryIntrospector.INSTANCE)
+		.plugin(new DataFakerPlugin())
+		.build();
+
+	@Benchmark
+	public void generateStringWithoutDataFaker(Blackhole blackhole) {
+		blackhole.consume(SUT.giveMe(Person.class, COUNT));
+	}
+
+	@Benchmark
+	public void generateStringWithDataFaker(Blackhole blackhole) {
+		blackhole.consume(DATA_FAKER_SUT.giveMe(Person.class, COUNT));
+	}
+
+	@Data
+	public static class Person {
+		private String name;
+		private String address;
+		private String email;
+		private String phoneNumber;
+		private String creditCard;
+	}
+}
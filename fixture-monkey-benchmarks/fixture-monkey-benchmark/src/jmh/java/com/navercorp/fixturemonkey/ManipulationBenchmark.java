@@ -27,6 +27,7 @@ import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin
 @State(Scope.Benchmark)
 public class ManipulationBenchmark {
 	private static final int COUNT = 500;
+	private static final int COPY_CHAIN_DEPTH = 100;
 	private static final FixtureMonkey SUT = FixtureMonkey.builder()
 		.plugin(new JavaxValidationPlugin())
 		.build();
@@ -63,6 +64,29 @@ public class ManipulationBenchmark {
 			.sample()));
 	}
 
+	@Benchmark
+	public void deepCopyChain(Blackhole blackhole) throws Exception {
+		blackhole.consume(generateObject(fixture -> {
+			ArbitraryBuilder<SetValuePostConditionObject> builder =
+				fixture.giveMeBuilder(SetValuePostConditionObject.class);
+			for (int i = 0; i < COPY_CHAIN_DEPTH; i++) {
+				builder = builder.copy().set("value", i);
+			}
+			return builder;
+		}));
+	}
+
+	@Benchmark
+	public void copyFromSharedBase(Blackhole blackhole) throws Exception {
+		ArbitraryBuilder<SetValuePostConditionObject> base = SUT.giveMeBuilder(SetValuePostConditionObject.class);
+		for (int i = 0; i < COPY_CHAIN_DEPTH; i++) {
+			base = base.set("value", i);
+		}
+
+		ArbitraryBuilder<SetValuePostConditionObject> sharedBase = base;
+		blackhole.consume(generateObject(fixture -> sharedBase.copy().set("value", -1).sample()));
+	}
+
 	private <T> List<T> generateObject(
 		Function<FixtureMonkey, T> manipulation
 	) {
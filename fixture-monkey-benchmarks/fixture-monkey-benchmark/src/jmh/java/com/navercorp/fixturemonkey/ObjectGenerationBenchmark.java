@@ -66,6 +66,15 @@ public class ObjectGenerationBenchmark {
 		blackhole.consume(generateOrderSheet(fixtureMonkey));
 	}
 
+	@Benchmark
+	public void jacksonTokenBufferGenerateOrderSheetWithFixtureMonkey(Blackhole blackhole) throws Exception {
+		FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
+			.plugin(new JacksonPlugin().tokenBuffer(true))
+			.plugin(new JavaxValidationPlugin())
+			.build();
+		blackhole.consume(generateOrderSheet(fixtureMonkey));
+	}
+
 	@Benchmark
 	public void builderGenerateOrderSheetWithFixtureMonkey(Blackhole blackhole) throws Exception {
 		FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
@@ -26,7 +26,8 @@ object DataFakerStringArbitrary {
     @JvmStatic
     fun name(locale: Locale = Locale.ENGLISH): NameStringCombinableArbitrary =
         object : BaseStringCombinableArbitrary(), NameStringCombinableArbitrary {
-            private val faker = Faker(locale)
+            private val faker: Faker
+                get() = FakerPool.get(locale)
 
             override fun fullName(): String = faker.name().fullName()
             override fun firstName(): String = faker.name().firstName()
@@ -41,7 +42,8 @@ object DataFakerStringArbitrary {
     @JvmStatic
     fun address(locale: Locale = Locale.ENGLISH): AddressStringCombinableArbitrary =
         object : BaseStringCombinableArbitrary(), AddressStringCombinableArbitrary {
-            private val faker = Faker(locale)
+            private val faker: Faker
+                get() = FakerPool.get(locale)
 
             override fun city(): String = faker.address().city()
             override fun streetName(): String = faker.address().streetName()
@@ -60,7 +62,8 @@ object DataFakerStringArbitrary {
     @JvmStatic
     fun internet(locale: Locale = Locale.ENGLISH): InternetStringCombinableArbitrary =
         object : BaseStringCombinableArbitrary(), InternetStringCombinableArbitrary {
-            private val faker = Faker(locale)
+            private val faker: Faker
+                get() = FakerPool.get(locale)
 
             override fun emailAddress(): String = faker.internet().emailAddress()
             override fun domainName(): String = faker.internet().domainName()
@@ -78,7 +81,8 @@ object DataFakerStringArbitrary {
     @JvmStatic
     fun phoneNumber(locale: Locale = Locale.ENGLISH): PhoneStringCombinableArbitrary =
         object : BaseStringCombinableArbitrary(), PhoneStringCombinableArbitrary {
-            private val faker = Faker(locale)
+            private val faker: Faker
+                get() = FakerPool.get(locale)
 
             override fun phoneNumber(): String = faker.phoneNumber().phoneNumber()
             override fun cellPhone(): String = faker.phoneNumber().cellPhone()
@@ -93,7 +97,8 @@ object DataFakerStringArbitrary {
     @JvmStatic
     fun finance(locale: Locale = Locale.ENGLISH): FinanceStringCombinableArbitrary =
         object : BaseStringCombinableArbitrary(), FinanceStringCombinableArbitrary {
-            private val faker = Faker(locale)
+            private val faker: Faker
+                get() = FakerPool.get(locale)
 
             override fun creditCard(): String = faker.finance().creditCard()
             override fun iban(): String = faker.finance().iban()
@@ -0,0 +1,62 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.datafaker.arbitrary
+
+import com.navercorp.fixturemonkey.api.random.Randoms
+import net.datafaker.Faker
+import java.util.*
+
+/**
+ * Provides a [Faker] per locale, it is shared across introspections.
+ * Faker is not thread-safe, each thread has its own instances.
+ *
+ * The Faker uses the random of [Randoms], its output is reproducible for the same seed.
+ */
+internal object FakerPool {
+    private val fakersByLocale: ThreadLocal<MutableMap<Locale, Faker>> = ThreadLocal.withInitial { HashMap() }
+
+    fun get(locale: Locale): Faker = fakersByLocale.get().getOrPut(locale) { Faker(locale, RandomsRandom) }
+
+    /**
+     * A [Random] delegating to [Randoms.current] of the calling thread.
+     */
+    private object RandomsRandom : Random() {
+        override fun next(bits: Int): Int = Randoms.current().nextInt() ushr (32 - bits)
+
+        override fun nextInt(): Int = Randoms.current().nextInt()
+
+        override fun nextInt(bound: Int): Int = Randoms.current().nextInt(bound)
+
+        override fun nextLong(): Long = Randoms.current().nextLong()
+
+        override fun nextBoolean(): Boolean = Randoms.current().nextBoolean()
+
+        override fun nextFloat(): Float = Randoms.current().nextFloat()
+
+        override fun nextDouble(): Double = Randoms.current().nextDouble()
+
+        override fun nextGaussian(): Double = Randoms.current().nextGaussian()
+
+        override fun nextBytes(bytes: ByteArray) = Randoms.current().nextBytes(bytes)
+
+        override fun setSeed(seed: Long) {
+            // the seed is managed by Randoms
+        }
+    }
+}
@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.jackson.introspector;
 
 import static com.navercorp.fixturemonkey.jackson.property.JacksonAnnotations.getJacksonAnnotation;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -27,23 +28,31 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
@@ -60,103 +69,197 @@ public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntros
 	public static final JacksonObjectArbitraryIntrospector INSTANCE = new JacksonObjectArbitraryIntrospector(
 		FixtureMonkeyJackson.defaultObjectMapper()
 	);
+	private static final ConcurrentLruCache<Property, JsonObjectMetadata> JSON_OBJECT_METADATA =
+		new ConcurrentLruCache<>(2048);
+	private static final ConcurrentLruCache<Property, JsonPropertyMetadata> JSON_PROPERTY_METADATA =
+		new ConcurrentLruCache<>(2048);
 
 	private final ObjectMapper objectMapper;
+	private final boolean tokenBuffer;
+	private final ObjectWriter valueWriter;
+	private final ConcurrentLruCache<JavaType, ObjectReader> readers = new ConcurrentLruCache<>(2048);
 
 	public JacksonObjectArbitraryIntrospector(ObjectMapper objectMapper) {
+		this(objectMapper, false);
+	}
+
+	/**
+	 * Creates an introspector which generates an object by deserializing the generated property values.
+	 *
+	 * @param objectMapper the object mapper to deserialize with
+	 * @param tokenBuffer  if true, the property values are written into a {@link TokenBuffer}
+	 *                     and deserialized once, otherwise they are put into a {@link Map}
+	 *                     and converted by {@link ObjectMapper#convertValue(Object, JavaType)}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public JacksonObjectArbitraryIntrospector(ObjectMapper objectMapper, boolean tokenBuffer) {
 		this.objectMapper = objectMapper;
+		this.tokenBuffer = tokenBuffer;
+		this.valueWriter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
 		Property property = context.getResolvedProperty();
-		TypeFactory typeFactory = TypeFactory.defaultInstance();
-		JavaType type = typeFactory.constructType(new JacksonTypeReference<Object>() {
-			@Override
-			public Type getType() {
-				return property.getType();
-			}
-		});
+		JsonObjectMetadata objectMetadata = JSON_OBJECT_METADATA.computeIfAbsent(property, JsonObjectMetadata::new);
+		CombinableArbitrary<Object> jsonValue;
+		if (tokenBuffer) {
+			jsonValue = CombinableArbitrary.objectBuilder()
+				.properties(context.getCombinableArbitrariesByArbitraryProperty())
+				.buildWithValues(values -> combineAsTokenBuffer(objectMetadata, values));
+
+			ObjectReader reader = readers.computeIfAbsent(
+				objectMetadata.getType(),
+				type -> objectMapper.readerFor(type).without(DeserializationFeature.UNWRAP_ROOT_VALUE)
+			);
+			return new ArbitraryIntrospectorResult(
+				new JacksonCombinableArbitrary<>(jsonValue, buffer -> deserialize(reader, (TokenBuffer)buffer))
+			);
+		}
+
+		jsonValue = CombinableArbitrary.objectBuilder()
+			.properties(context.getCombinableArbitrariesByArbitraryProperty())
+			.buildWithValues(values -> combineAsMap(objectMetadata, values));
 
 		return new ArbitraryIntrospectorResult(
 			new JacksonCombinableArbitrary<>(
-				CombinableArbitrary.objectBuilder()
-					.properties(context.getCombinableArbitrariesByArbitraryProperty())
-					.build(combineAsJson(property)),
-				map -> objectMapper.convertValue(map, type)
+				jsonValue,
+				map -> objectMapper.convertValue(map, objectMetadata.getType())
 			)
 		);
 	}
 
 	@SuppressWarnings("unchecked")
-	private Function<Map<ArbitraryProperty, Object>, Object> combineAsJson(Property property) {
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> map = initializeMap(property);
-
-			propertyValuesByArbitraryProperty.entrySet()
-				.stream()
-				.filter(it -> isJacksonSerializableProperty(it.getKey().getObjectProperty().getProperty()))
-				.forEach(
-					entry -> {
-						ArbitraryProperty arbitraryProperty = entry.getKey();
-						Object value = entry.getValue();
-
-						String resolvePropertyName = arbitraryProperty.getObjectProperty()
-							.getResolvedPropertyName();
-
-						if (value != null) {
-							Object jsonFormatted = arbitraryProperty.getObjectProperty()
-								.getProperty()
-								.getAnnotation(JsonFormat.class)
-								.map(it -> format(value, it))
-								.orElse(value);
-
-							JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property,
-								JsonTypeInfo.class);
-							if (jsonTypeInfo == null) {
-								map.put(resolvePropertyName, jsonFormatted);
-							} else {
-								if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-									String typeIdentifier = getJsonTypeInfoIdentifier(
-										jsonTypeInfo,
-										property
-									);
-
-									Map<String, Object> typeJson =
-										(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
-									typeJson.put(resolvePropertyName, jsonFormatted);
-									map.put(typeIdentifier, typeJson);
-								}
-							}
-						}
-					}
+	private Object combineAsMap(JsonObjectMetadata objectMetadata, CombinedPropertyValues values) {
+		Map<String, Object> map = new HashMap<>();
+
+		JsonTypeInfo jsonTypeInfo = objectMetadata.getJsonTypeInfo();
+		if (jsonTypeInfo != null && jsonTypeInfo.include() != As.WRAPPER_OBJECT) {
+			map.put(objectMetadata.getTypeInfoPropertyName(), objectMetadata.getTypeIdentifier());
+		}
+
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.getValue(i);
+			if (value == null) {
+				continue;
+			}
+
+			ObjectProperty objectProperty = values.getProperty(i).getObjectProperty();
+			JsonPropertyMetadata propertyMetadata = getJsonPropertyMetadata(objectProperty.getProperty());
+			if (!propertyMetadata.isSerializable()) {
+				continue;
+			}
+
+			String resolvePropertyName = objectProperty.getResolvedPropertyName();
+			Object jsonFormatted = propertyMetadata.format(value);
+			if (jsonTypeInfo == null) {
+				map.put(resolvePropertyName, jsonFormatted);
+			} else if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
+				String typeIdentifier = objectMetadata.getTypeIdentifier();
+
+				Map<String, Object> typeJson =
+					(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
+				typeJson.put(resolvePropertyName, jsonFormatted);
+				map.put(typeIdentifier, typeJson);
+			}
+		}
+		return map;
+	}
+
+	private TokenBuffer combineAsTokenBuffer(JsonObjectMetadata objectMetadata, CombinedPropertyValues values) {
+		TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+		if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+			buffer = buffer.forceUseOfBigDecimal(true);
+		}
+
+		try {
+			buffer.writeStartObject();
+			JsonTypeInfo jsonTypeInfo = objectMetadata.getJsonTypeInfo();
+			if (jsonTypeInfo == null) {
+				writeProperties(buffer, values);
+			} else if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
+				if (hasSerializableValue(values)) {
+					buffer.writeFieldName(objectMetadata.getTypeIdentifier());
+					buffer.writeStartObject();
+					writeProperties(buffer, values);
+					buffer.writeEndObject();
+				}
+			} else {
+				buffer.writeStringField(
+					objectMetadata.getTypeInfoPropertyName(),
+					objectMetadata.getTypeIdentifier()
 				);
-			return map;
-		};
+			}
+			buffer.writeEndObject();
+		} catch (IOException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
+		return buffer;
 	}
 
-	private Map<String, Object> initializeMap(Property property) {
-		Map<String, Object> defaultMap = new HashMap<>();
+	private void writeProperties(TokenBuffer buffer, CombinedPropertyValues values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.getValue(i);
+			if (value == null) {
+				continue;
+			}
+
+			ObjectProperty objectProperty = values.getProperty(i).getObjectProperty();
+			JsonPropertyMetadata propertyMetadata = getJsonPropertyMetadata(objectProperty.getProperty());
+			if (!propertyMetadata.isSerializable()) {
+				continue;
+			}
 
-		JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
-		if (jsonTypeInfo == null || jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-			return defaultMap;
+			buffer.writeFieldName(objectProperty.getResolvedPropertyName());
+			writeValue(buffer, propertyMetadata.format(value));
 		}
+	}
 
-		String jsonTypeInfoValue = getJsonTypeInfoIdentifier(jsonTypeInfo, property);
-		String jsonTypeInfoPropertyName = getJsonTypeInfoPropertyName(jsonTypeInfo);
+	private void writeValue(TokenBuffer buffer, Object value) throws IOException {
+		if (value instanceof TokenBuffer) {
+			((TokenBuffer)value).serialize(buffer);
+		} else if (value instanceof String) {
+			buffer.writeString((String)value);
+		} else if (value instanceof Integer) {
+			buffer.writeNumber((Integer)value);
+		} else if (value instanceof Long) {
+			buffer.writeNumber((Long)value);
+		} else if (value instanceof Boolean) {
+			buffer.writeBoolean((Boolean)value);
+		} else {
+			valueWriter.writeValue(buffer, value);
+		}
+	}
+
+	private static boolean hasSerializableValue(CombinedPropertyValues values) {
+		for (int i = 0; i < values.size(); i++) {
+			if (values.getValue(i) != null
+				&& getJsonPropertyMetadata(values.getProperty(i).getObjectProperty().getProperty()).isSerializable()) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-		defaultMap.put(jsonTypeInfoPropertyName, jsonTypeInfoValue);
-		return defaultMap;
+	private static Object deserialize(ObjectReader reader, TokenBuffer buffer) {
+		try (JsonParser parser = buffer.asParser()) {
+			return reader.readValue(parser);
+		} catch (IOException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
 	}
 
-	private String getJsonTypeInfoPropertyName(JsonTypeInfo jsonTypeInfo) {
+	private static JsonPropertyMetadata getJsonPropertyMetadata(Property property) {
+		return JSON_PROPERTY_METADATA.computeIfAbsent(property, JsonPropertyMetadata::new);
+	}
+
+	private static String getJsonTypeInfoPropertyName(JsonTypeInfo jsonTypeInfo) {
 		return "".equals(jsonTypeInfo.property())
 			? jsonTypeInfo.use().getDefaultPropertyName()
 			: jsonTypeInfo.property();
 	}
 
-	private String getJsonTypeInfoIdentifier(
+	private static String getJsonTypeInfoIdentifier(
 		JsonTypeInfo jsonTypeInfo,
 		Property property
 	) {
@@ -182,26 +285,7 @@ public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntros
 		return jsonTypeInfoValue;
 	}
 
-	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
-			.withZone(ZoneId.systemDefault());
-
-		if (object instanceof TemporalAccessor) {
-			TemporalAccessor temporalAccessor = (TemporalAccessor)object;
-			return dateTimeFormatter.format(temporalAccessor);
-		} else if (object instanceof Date) {
-			TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
-				.atZone(ZoneId.systemDefault())
-				.toLocalDate();
-			return dateTimeFormatter.format(dateTemporalAccessor);
-		} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
-			return ((Enum<?>)object).ordinal();
-		} else {
-			return object;
-		}
-	}
-
-	private boolean isJacksonSerializableProperty(Property property) {
+	private static boolean isJacksonSerializableProperty(Property property) {
 		if (property instanceof CompositeProperty) {
 			CompositeProperty compositeProperty = (CompositeProperty)property;
 			return isJacksonSerializableProperty(compositeProperty.getPrimaryProperty())
@@ -212,4 +296,101 @@ public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntros
 			|| property instanceof PropertyDescriptorProperty
 			|| property instanceof ConstructorProperty;
 	}
+
+	/**
+	 * The metadata of an object property which is computed once,
+	 * the identifier of {@link JsonTypeInfo} is resolved when it is used.
+	 */
+	private static final class JsonObjectMetadata {
+		private final Property property;
+		private final JavaType type;
+		@Nullable
+		private final JsonTypeInfo jsonTypeInfo;
+		@Nullable
+		private volatile String typeIdentifier;
+
+		private JsonObjectMetadata(Property property) {
+			this.property = property;
+			this.type = TypeFactory.defaultInstance().constructType(new JacksonTypeReference<Object>() {
+				@Override
+				public Type getType() {
+					return property.getType();
+				}
+			});
+			this.jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
+		}
+
+		public JavaType getType() {
+			return type;
+		}
+
+		@Nullable
+		public JsonTypeInfo getJsonTypeInfo() {
+			return jsonTypeInfo;
+		}
+
+		public String getTypeInfoPropertyName() {
+			return getJsonTypeInfoPropertyName(jsonTypeInfo);
+		}
+
+		public String getTypeIdentifier() {
+			String typeIdentifier = this.typeIdentifier;
+			if (typeIdentifier == null) {
+				typeIdentifier = getJsonTypeInfoIdentifier(jsonTypeInfo, property);
+				this.typeIdentifier = typeIdentifier;
+			}
+			return typeIdentifier;
+		}
+	}
+
+	/**
+	 * The metadata of a child property which is computed once instead of per sample.
+	 */
+	private static final class JsonPropertyMetadata {
+		private final boolean serializable;
+		@Nullable
+		private final JsonFormat jsonFormat;
+		@Nullable
+		private DateTimeFormatter dateTimeFormatter;
+
+		private JsonPropertyMetadata(Property property) {
+			this.serializable = isJacksonSerializableProperty(property);
+			this.jsonFormat = property.getAnnotation(JsonFormat.class).orElse(null);
+		}
+
+		public boolean isSerializable() {
+			return serializable;
+		}
+
+		public Object format(Object object) {
+			if (jsonFormat == null) {
+				return object;
+			}
+
+			DateTimeFormatter dateTimeFormatter = getDateTimeFormatter(jsonFormat);
+			if (object instanceof TemporalAccessor) {
+				TemporalAccessor temporalAccessor = (TemporalAccessor)object;
+				return dateTimeFormatter.format(temporalAccessor);
+			} else if (object instanceof Date) {
+				TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
+					.atZone(ZoneId.systemDefault())
+					.toLocalDate();
+				return dateTimeFormatter.format(dateTemporalAccessor);
+			} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
+				return ((Enum<?>)object).ordinal();
+			} else {
+				return object;
+			}
+		}
+
+		private DateTimeFormatter getDateTimeFormatter(JsonFormat jsonFormat) {
+			DateTimeFormatter dateTimeFormatter = this.dateTimeFormatter;
+			if (dateTimeFormatter == null) {
+				dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
+					.withZone(ZoneId.systemDefault());
+				this.dateTimeFormatter = dateTimeFormatter;
+			}
+			return dateTimeFormatter;
+		}
+	}
 }
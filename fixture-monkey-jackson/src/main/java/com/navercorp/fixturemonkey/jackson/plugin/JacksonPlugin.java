@@ -58,6 +58,7 @@ public final class JacksonPlugin implements Plugin {
 	private final ObjectMapper objectMapper;
 	private final List<Matcher> matchers = new ArrayList<>();
 	private boolean defaultOptions = true;
+	private boolean tokenBuffer = false;
 
 	public JacksonPlugin(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
@@ -82,19 +83,33 @@ public final class JacksonPlugin implements Plugin {
 		return this;
 	}
 
+	/**
+	 * Writes the generated property values of an object into a TokenBuffer instead of a Map before deserializing.
+	 *
+	 * @see JacksonObjectArbitraryIntrospector#JacksonObjectArbitraryIntrospector(ObjectMapper, boolean)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public JacksonPlugin tokenBuffer(boolean tokenBuffer) {
+		this.tokenBuffer = tokenBuffer;
+		return this;
+	}
+
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
 		if (!this.matchers.isEmpty()) {
 			Matcher matcher = property -> matchers.stream().anyMatch(it -> it.match(property));
 
 			optionsBuilder
-				.insertFirstArbitraryIntrospector(matcher, new JacksonObjectArbitraryIntrospector(objectMapper))
+				.insertFirstArbitraryIntrospector(
+					matcher,
+					new JacksonObjectArbitraryIntrospector(objectMapper, tokenBuffer)
+				)
 				.insertFirstPropertyNameResolver(matcher, new JacksonPropertyNameResolver());
 		}
 
 		if (this.defaultOptions) {
 			optionsBuilder
-				.objectIntrospector(it -> new JacksonObjectArbitraryIntrospector(objectMapper))
+				.objectIntrospector(it -> new JacksonObjectArbitraryIntrospector(objectMapper, tokenBuffer))
 				.defaultPropertyNameResolver(new JacksonPropertyNameResolver())
 				.containerIntrospector(container -> new MatchArbitraryIntrospector(
 					Arrays.asList(
@@ -26,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Date;
@@ -37,11 +38,17 @@ import net.jqwik.api.Example;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import lombok.Value;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.random.RandomContext;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.customizer.InnerSpec;
 import com.navercorp.fixturemonkey.jackson.plugin.JacksonPlugin;
@@ -51,6 +58,11 @@ class FixtureMonkeyJacksonTest {
 		.plugin(new JacksonPlugin())
 		.defaultNotNull(true)
 		.build();
+	private static final FixtureMonkey TOKEN_BUFFER_SUT = FixtureMonkey.builder()
+		.plugin(new JacksonPlugin().tokenBuffer(true))
+		.defaultNotNull(true)
+		.build();
+	private static final long SEED = 12345L;
 
 	@Example
 	void jsonFormat() {
@@ -126,6 +138,79 @@ class FixtureMonkeyJacksonTest {
 		then(actual).isNotNull();
 	}
 
+	@Example
+	void jsonFormatWithTokenBuffer() {
+		JsonFormatSpec actual = TOKEN_BUFFER_SUT.giveMeOne(JsonFormatSpec.class);
+
+		then(actual.getJsonEnum()).isNotNull();
+		then(actual.getDate().toInstant().atOffset(ZoneOffset.UTC).toLocalTime()).isEqualTo(LocalTime.MIDNIGHT);
+		then(actual.getLocalDate()).isNotNull();
+		then(actual.getLocalTime().getNano()).isZero();
+		then(actual.getLocalDateTime().getNano()).isZero();
+		then(actual.getInstant().getNano()).isZero();
+		then(actual.getZonedDateTime().getNano()).isZero();
+		then(actual.getOffsetDateTime().getNano()).isZero();
+	}
+
+	@Example
+	void jsonFormatWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonFormatSpec expected = randomContext.call(() -> SUT.giveMeOne(JsonFormatSpec.class));
+
+		JsonFormatSpec actual = randomContext.call(() -> TOKEN_BUFFER_SUT.giveMeOne(JsonFormatSpec.class));
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Example
+	void jsonTypeInfoWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonTypeInfoSpec expected = randomContext.call(() -> SUT.giveMeOne(JsonTypeInfoSpec.class));
+
+		JsonTypeInfoSpec actual = randomContext.call(() -> TOKEN_BUFFER_SUT.giveMeOne(JsonTypeInfoSpec.class));
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Example
+	void jsonTypeInfoWrapperObjectWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonTypeInfoWrapperObjectSpec expected = randomContext.call(
+			() -> SUT.giveMeOne(JsonTypeInfoWrapperObjectSpec.class)
+		);
+
+		JsonTypeInfoWrapperObjectSpec actual = randomContext.call(
+			() -> TOKEN_BUFFER_SUT.giveMeOne(JsonTypeInfoWrapperObjectSpec.class)
+		);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Example
+	void sampleNestedWithTokenBuffer() {
+		String actual = TOKEN_BUFFER_SUT.giveMeBuilder(NestedStringValue.class)
+			.set("value.innerValue", "test")
+			.sample()
+			.getValue()
+			.getInnerValue();
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Example
+	void sampleListNestedElementWithTokenBuffer() {
+		StringValue actual = TOKEN_BUFFER_SUT.giveMeBuilder(new TypeReference<List<List<StringValue>>>() {
+			})
+			.size("$", 1)
+			.size("$[0]", 1)
+			.sample()
+			.get(0)
+			.get(0);
+
+		then(actual).isInstanceOf(StringValue.class);
+		then(actual).isNotNull();
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -157,6 +242,40 @@ class FixtureMonkeyJacksonTest {
 		ONE, TWO, THREE
 	}
 
+	@Value
+	public static class JsonTypeInfoSpec {
+		@JsonTypeInfo(use = Id.NAME)
+		@JsonSubTypes({
+			@JsonSubTypes.Type(value = TypeA.class, name = "TypeA"),
+			@JsonSubTypes.Type(value = TypeB.class, name = "typeB")
+		})
+		TypeInterface value;
+	}
+
+	@Value
+	public static class JsonTypeInfoWrapperObjectSpec {
+		@JsonTypeInfo(use = Id.NAME, include = As.WRAPPER_OBJECT)
+		@JsonSubTypes({
+			@JsonSubTypes.Type(value = TypeA.class, name = "TypeA"),
+			@JsonSubTypes.Type(value = TypeB.class, name = "typeB")
+		})
+		TypeInterface value;
+	}
+
+	public interface TypeInterface {
+	}
+
+	@Value
+	public static class TypeA implements TypeInterface {
+		String value;
+	}
+
+	@Value
+	@JsonTypeName("typeB")
+	public static class TypeB implements TypeInterface {
+		int value;
+	}
+
 	@Value
 	public static class JsonNodeWrapperClass {
 		JsonNode value;
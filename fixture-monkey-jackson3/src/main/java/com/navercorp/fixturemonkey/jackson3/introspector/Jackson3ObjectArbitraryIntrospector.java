@@ -27,10 +27,10 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -38,13 +38,24 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.type.TypeFactory;
+import tools.jackson.databind.util.TokenBuffer;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
@@ -61,103 +72,198 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 	public static final Jackson3ObjectArbitraryIntrospector INSTANCE = new Jackson3ObjectArbitraryIntrospector(
 		FixtureMonkeyJackson3.defaultJsonMapper()
 	);
+	private static final TypeFactory TYPE_FACTORY = TypeFactory.createDefaultInstance();
+	private static final ConcurrentLruCache<Property, JsonObjectMetadata> JSON_OBJECT_METADATA =
+		new ConcurrentLruCache<>(2048);
+	private static final ConcurrentLruCache<Property, JsonPropertyMetadata> JSON_PROPERTY_METADATA =
+		new ConcurrentLruCache<>(2048);
 
 	private final ObjectMapper objectMapper;
+	private final boolean tokenBuffer;
+	private final ObjectWriter valueWriter;
+	private final ConcurrentLruCache<JavaType, ObjectReader> readers = new ConcurrentLruCache<>(2048);
 
 	public Jackson3ObjectArbitraryIntrospector(ObjectMapper objectMapper) {
+		this(objectMapper, false);
+	}
+
+	/**
+	 * Creates an introspector which generates an object by deserializing the generated property values.
+	 *
+	 * @param objectMapper the object mapper to deserialize with
+	 * @param tokenBuffer  if true, the property values are written into a {@link TokenBuffer}
+	 *                     and deserialized once, otherwise they are put into a {@link Map}
+	 *                     and converted by {@link ObjectMapper#convertValue(Object, JavaType)}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public Jackson3ObjectArbitraryIntrospector(ObjectMapper objectMapper, boolean tokenBuffer) {
 		this.objectMapper = objectMapper;
+		this.tokenBuffer = tokenBuffer;
+		this.valueWriter = objectMapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
 		Property property = context.getResolvedProperty();
-		TypeFactory typeFactory = TypeFactory.createDefaultInstance();
-		JavaType type = typeFactory.constructType(new Jackson3TypeReference<>() {
-			@Override
-			public Type getType() {
-				return property.getType();
-			}
-		});
+		JsonObjectMetadata objectMetadata = JSON_OBJECT_METADATA.computeIfAbsent(property, JsonObjectMetadata::new);
+		CombinableArbitrary<Object> jsonValue;
+		if (tokenBuffer) {
+			jsonValue = CombinableArbitrary.objectBuilder()
+				.properties(context.getCombinableArbitrariesByArbitraryProperty())
+				.buildWithValues(values -> combineAsTokenBuffer(objectMetadata, values));
+
+			ObjectReader reader = readers.computeIfAbsent(
+				objectMetadata.getType(),
+				type -> objectMapper.readerFor(type).without(DeserializationFeature.UNWRAP_ROOT_VALUE)
+			);
+			return new ArbitraryIntrospectorResult(
+				new Jackson3CombinableArbitrary<>(jsonValue, buffer -> deserialize(reader, (TokenBuffer)buffer))
+			);
+		}
+
+		jsonValue = CombinableArbitrary.objectBuilder()
+			.properties(context.getCombinableArbitrariesByArbitraryProperty())
+			.buildWithValues(values -> combineAsMap(objectMetadata, values));
 
 		return new ArbitraryIntrospectorResult(
 			new Jackson3CombinableArbitrary<>(
-				CombinableArbitrary.objectBuilder()
-					.properties(context.getCombinableArbitrariesByArbitraryProperty())
-					.build(combineAsJson(property)),
-				map -> objectMapper.convertValue(map, type)
+				jsonValue,
+				map -> objectMapper.convertValue(map, objectMetadata.getType())
 			)
 		);
 	}
 
 	@SuppressWarnings("unchecked")
-	private Function<Map<ArbitraryProperty, Object>, Object> combineAsJson(Property property) {
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> map = initializeMap(property);
-
-			propertyValuesByArbitraryProperty.entrySet()
-				.stream()
-				.filter(it -> isJacksonSerializableProperty(it.getKey().getObjectProperty().getProperty()))
-				.forEach(
-					entry -> {
-						ArbitraryProperty arbitraryProperty = entry.getKey();
-						Object value = entry.getValue();
-
-						String resolvePropertyName = arbitraryProperty.getObjectProperty()
-							.getResolvedPropertyName();
-
-						if (value != null) {
-							Object jsonFormatted = arbitraryProperty.getObjectProperty()
-								.getProperty()
-								.getAnnotation(JsonFormat.class)
-								.map(it -> format(value, it))
-								.orElse(value);
-
-							JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property,
-								JsonTypeInfo.class);
-							if (jsonTypeInfo == null) {
-								map.put(resolvePropertyName, jsonFormatted);
-							} else {
-								if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-									String typeIdentifier = getJsonTypeInfoIdentifier(
-										jsonTypeInfo,
-										property
-									);
-
-									Map<String, Object> typeJson =
-										(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
-									typeJson.put(resolvePropertyName, jsonFormatted);
-									map.put(typeIdentifier, typeJson);
-								}
-							}
-						}
-					}
+	private Object combineAsMap(JsonObjectMetadata objectMetadata, CombinedPropertyValues values) {
+		Map<String, Object> map = new HashMap<>();
+
+		JsonTypeInfo jsonTypeInfo = objectMetadata.getJsonTypeInfo();
+		if (jsonTypeInfo != null && jsonTypeInfo.include() != As.WRAPPER_OBJECT) {
+			map.put(objectMetadata.getTypeInfoPropertyName(), objectMetadata.getTypeIdentifier());
+		}
+
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.getValue(i);
+			if (value == null) {
+				continue;
+			}
+
+			ObjectProperty objectProperty = values.getProperty(i).getObjectProperty();
+			JsonPropertyMetadata propertyMetadata = getJsonPropertyMetadata(objectProperty.getProperty());
+			if (!propertyMetadata.isSerializable()) {
+				continue;
+			}
+
+			String resolvePropertyName = objectProperty.getResolvedPropertyName();
+			Object jsonFormatted = propertyMetadata.format(value);
+			if (jsonTypeInfo == null) {
+				map.put(resolvePropertyName, jsonFormatted);
+			} else if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
+				String typeIdentifier = objectMetadata.getTypeIdentifier();
+
+				Map<String, Object> typeJson =
+					(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
+				typeJson.put(resolvePropertyName, jsonFormatted);
+				map.put(typeIdentifier, typeJson);
+			}
+		}
+		return map;
+	}
+
+	private TokenBuffer combineAsTokenBuffer(JsonObjectMetadata objectMetadata, CombinedPropertyValues values) {
+		TokenBuffer buffer = new TokenBuffer(ObjectWriteContext.empty(), false);
+		if (objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+			buffer = buffer.forceUseOfBigDecimal(true);
+		}
+
+		try {
+			buffer.writeStartObject();
+			JsonTypeInfo jsonTypeInfo = objectMetadata.getJsonTypeInfo();
+			if (jsonTypeInfo == null) {
+				writeProperties(buffer, values);
+			} else if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
+				if (hasSerializableValue(values)) {
+					buffer.writeName(objectMetadata.getTypeIdentifier());
+					buffer.writeStartObject();
+					writeProperties(buffer, values);
+					buffer.writeEndObject();
+				}
+			} else {
+				buffer.writeStringProperty(
+					objectMetadata.getTypeInfoPropertyName(),
+					objectMetadata.getTypeIdentifier()
 				);
-			return map;
-		};
+			}
+			buffer.writeEndObject();
+		} catch (JacksonException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
+		return buffer;
 	}
 
-	private Map<String, Object> initializeMap(Property property) {
-		Map<String, Object> defaultMap = new HashMap<>();
+	private void writeProperties(TokenBuffer buffer, CombinedPropertyValues values) {
+		for (int i = 0; i < values.size(); i++) {
+			Object value = values.getValue(i);
+			if (value == null) {
+				continue;
+			}
+
+			ObjectProperty objectProperty = values.getProperty(i).getObjectProperty();
+			JsonPropertyMetadata propertyMetadata = getJsonPropertyMetadata(objectProperty.getProperty());
+			if (!propertyMetadata.isSerializable()) {
+				continue;
+			}
 
-		JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
-		if (jsonTypeInfo == null || jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-			return defaultMap;
+			buffer.writeName(objectProperty.getResolvedPropertyName());
+			writeValue(buffer, propertyMetadata.format(value));
 		}
+	}
 
-		String jsonTypeInfoValue = getJsonTypeInfoIdentifier(jsonTypeInfo, property);
-		String jsonTypeInfoPropertyName = getJsonTypeInfoPropertyName(jsonTypeInfo);
+	private void writeValue(TokenBuffer buffer, Object value) {
+		if (value instanceof TokenBuffer tokenBufferValue) {
+			tokenBufferValue.serialize(buffer);
+		} else if (value instanceof String stringValue) {
+			buffer.writeString(stringValue);
+		} else if (value instanceof Integer integerValue) {
+			buffer.writeNumber(integerValue);
+		} else if (value instanceof Long longValue) {
+			buffer.writeNumber(longValue);
+		} else if (value instanceof Boolean booleanValue) {
+			buffer.writeBoolean(booleanValue);
+		} else {
+			valueWriter.writeValue(buffer, value);
+		}
+	}
+
+	private static boolean hasSerializableValue(CombinedPropertyValues values) {
+		for (int i = 0; i < values.size(); i++) {
+			if (values.getValue(i) != null
+				&& getJsonPropertyMetadata(values.getProperty(i).getObjectProperty().getProperty()).isSerializable()) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-		defaultMap.put(jsonTypeInfoPropertyName, jsonTypeInfoValue);
-		return defaultMap;
+	private static Object deserialize(ObjectReader reader, TokenBuffer buffer) {
+		try (JsonParser parser = buffer.asParser(ObjectReadContext.empty())) {
+			return reader.readValue(parser);
+		} catch (JacksonException ex) {
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
 	}
 
-	private String getJsonTypeInfoPropertyName(JsonTypeInfo jsonTypeInfo) {
+	private static JsonPropertyMetadata getJsonPropertyMetadata(Property property) {
+		return JSON_PROPERTY_METADATA.computeIfAbsent(property, JsonPropertyMetadata::new);
+	}
+
+	private static String getJsonTypeInfoPropertyName(JsonTypeInfo jsonTypeInfo) {
 		return "".equals(jsonTypeInfo.property())
 			? jsonTypeInfo.use().getDefaultPropertyName()
 			: jsonTypeInfo.property();
 	}
 
-	private String getJsonTypeInfoIdentifier(
+	private static String getJsonTypeInfoIdentifier(
 		JsonTypeInfo jsonTypeInfo,
 		Property property
 	) {
@@ -183,25 +289,7 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 		return jsonTypeInfoValue;
 	}
 
-	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
-			.withZone(ZoneId.systemDefault());
-
-		if (object instanceof TemporalAccessor temporalAccessor) {
-			return dateTimeFormatter.format(temporalAccessor);
-		} else if (object instanceof Date) {
-			TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
-				.atZone(ZoneId.systemDefault())
-				.toLocalDate();
-			return dateTimeFormatter.format(dateTemporalAccessor);
-		} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
-			return ((Enum<?>)object).ordinal();
-		} else {
-			return object;
-		}
-	}
-
-	private boolean isJacksonSerializableProperty(Property property) {
+	private static boolean isJacksonSerializableProperty(Property property) {
 		if (property instanceof CompositeProperty compositeProperty) {
 			return isJacksonSerializableProperty(compositeProperty.getPrimaryProperty())
 				|| isJacksonSerializableProperty(compositeProperty.getSecondaryProperty());
@@ -211,4 +299,100 @@ public final class Jackson3ObjectArbitraryIntrospector implements ArbitraryIntro
 			|| property instanceof PropertyDescriptorProperty
 			|| property instanceof ConstructorProperty;
 	}
+
+	/**
+	 * The metadata of an object property which is computed once,
+	 * the identifier of {@link JsonTypeInfo} is resolved when it is used.
+	 */
+	private static final class JsonObjectMetadata {
+		private final Property property;
+		private final JavaType type;
+		@Nullable
+		private final JsonTypeInfo jsonTypeInfo;
+		@Nullable
+		private volatile String typeIdentifier;
+
+		private JsonObjectMetadata(Property property) {
+			this.property = property;
+			this.type = TYPE_FACTORY.constructType(new Jackson3TypeReference<>() {
+				@Override
+				public Type getType() {
+					return property.getType();
+				}
+			});
+			this.jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
+		}
+
+		public JavaType getType() {
+			return type;
+		}
+
+		@Nullable
+		public JsonTypeInfo getJsonTypeInfo() {
+			return jsonTypeInfo;
+		}
+
+		public String getTypeInfoPropertyName() {
+			return getJsonTypeInfoPropertyName(jsonTypeInfo);
+		}
+
+		public String getTypeIdentifier() {
+			String typeIdentifier = this.typeIdentifier;
+			if (typeIdentifier == null) {
+				typeIdentifier = getJsonTypeInfoIdentifier(jsonTypeInfo, property);
+				this.typeIdentifier = typeIdentifier;
+			}
+			return typeIdentifier;
+		}
+	}
+
+	/**
+	 * The metadata of a child property which is computed once instead of per sample.
+	 */
+	private static final class JsonPropertyMetadata {
+		private final boolean serializable;
+		@Nullable
+		private final JsonFormat jsonFormat;
+		@Nullable
+		private DateTimeFormatter dateTimeFormatter;
+
+		private JsonPropertyMetadata(Property property) {
+			this.serializable = isJacksonSerializableProperty(property);
+			this.jsonFormat = property.getAnnotation(JsonFormat.class).orElse(null);
+		}
+
+		public boolean isSerializable() {
+			return serializable;
+		}
+
+		public Object format(Object object) {
+			if (jsonFormat == null) {
+				return object;
+			}
+
+			DateTimeFormatter dateTimeFormatter = getDateTimeFormatter(jsonFormat);
+			if (object instanceof TemporalAccessor temporalAccessor) {
+				return dateTimeFormatter.format(temporalAccessor);
+			} else if (object instanceof Date) {
+				TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
+					.atZone(ZoneId.systemDefault())
+					.toLocalDate();
+				return dateTimeFormatter.format(dateTemporalAccessor);
+			} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
+				return ((Enum<?>)object).ordinal();
+			} else {
+				return object;
+			}
+		}
+
+		private DateTimeFormatter getDateTimeFormatter(JsonFormat jsonFormat) {
+			DateTimeFormatter dateTimeFormatter = this.dateTimeFormatter;
+			if (dateTimeFormatter == null) {
+				dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern())
+					.withZone(ZoneId.systemDefault());
+				this.dateTimeFormatter = dateTimeFormatter;
+			}
+			return dateTimeFormatter;
+		}
+	}
 }
@@ -59,6 +59,7 @@ public final class Jackson3Plugin implements Plugin {
 	private final ObjectMapper objectMapper;
 	private final List<Matcher> matchers = new ArrayList<>();
 	private boolean defaultOptions = true;
+	private boolean tokenBuffer = false;
 
 	public Jackson3Plugin(ObjectMapper objectMapper) {
 		this.objectMapper = objectMapper;
@@ -83,19 +84,32 @@ public final class Jackson3Plugin implements Plugin {
 		return this;
 	}
 
+	/**
+	 * Writes the generated property values of an object into a TokenBuffer instead of a Map before deserializing.
+	 *
+	 * @see Jackson3ObjectArbitraryIntrospector#Jackson3ObjectArbitraryIntrospector(ObjectMapper, boolean)
+	 */
+	public Jackson3Plugin tokenBuffer(boolean tokenBuffer) {
+		this.tokenBuffer = tokenBuffer;
+		return this;
+	}
+
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
 		if (!this.matchers.isEmpty()) {
 			Matcher matcher = property -> matchers.stream().anyMatch(it -> it.match(property));
 
 			optionsBuilder
-				.insertFirstArbitraryIntrospector(matcher, new Jackson3ObjectArbitraryIntrospector(objectMapper))
+				.insertFirstArbitraryIntrospector(
+					matcher,
+					new Jackson3ObjectArbitraryIntrospector(objectMapper, tokenBuffer)
+				)
 				.insertFirstPropertyNameResolver(matcher, new Jackson3PropertyNameResolver());
 		}
 
 		if (this.defaultOptions) {
 			optionsBuilder
-				.objectIntrospector(it -> new Jackson3ObjectArbitraryIntrospector(objectMapper))
+				.objectIntrospector(it -> new Jackson3ObjectArbitraryIntrospector(objectMapper, tokenBuffer))
 				.defaultPropertyNameResolver(new Jackson3PropertyNameResolver())
 				.containerIntrospector(container -> new MatchArbitraryIntrospector(
 					Arrays.asList(
@@ -26,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Date;
@@ -36,11 +37,17 @@ import net.jqwik.api.Property;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 
 import lombok.Value;
 import tools.jackson.databind.JsonNode;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.random.RandomContext;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.customizer.InnerSpec;
 import com.navercorp.fixturemonkey.jackson3.plugin.Jackson3Plugin;
@@ -50,6 +57,11 @@ class FixtureMonkeyJackson3Test {
 		.plugin(new Jackson3Plugin())
 		.defaultNotNull(true)
 		.build();
+	private static final FixtureMonkey TOKEN_BUFFER_SUT = FixtureMonkey.builder()
+		.plugin(new Jackson3Plugin().tokenBuffer(true))
+		.defaultNotNull(true)
+		.build();
+	private static final long SEED = 12345L;
 
 	@Property
 	void jsonFormat() {
@@ -125,6 +137,79 @@ class FixtureMonkeyJackson3Test {
 		then(actual).isNotNull();
 	}
 
+	@Property
+	void jsonFormatWithTokenBuffer() {
+		JsonFormatSpec actual = TOKEN_BUFFER_SUT.giveMeOne(JsonFormatSpec.class);
+
+		then(actual.getJsonEnum()).isNotNull();
+		then(actual.getDate().toInstant().atOffset(ZoneOffset.UTC).toLocalTime()).isEqualTo(LocalTime.MIDNIGHT);
+		then(actual.getLocalDate()).isNotNull();
+		then(actual.getLocalTime().getNano()).isZero();
+		then(actual.getLocalDateTime().getNano()).isZero();
+		then(actual.getInstant().getNano()).isZero();
+		then(actual.getZonedDateTime().getNano()).isZero();
+		then(actual.getOffsetDateTime().getNano()).isZero();
+	}
+
+	@Property
+	void jsonFormatWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonFormatSpec expected = randomContext.call(() -> SUT.giveMeOne(JsonFormatSpec.class));
+
+		JsonFormatSpec actual = randomContext.call(() -> TOKEN_BUFFER_SUT.giveMeOne(JsonFormatSpec.class));
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void jsonTypeInfoWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonTypeInfoSpec expected = randomContext.call(() -> SUT.giveMeOne(JsonTypeInfoSpec.class));
+
+		JsonTypeInfoSpec actual = randomContext.call(() -> TOKEN_BUFFER_SUT.giveMeOne(JsonTypeInfoSpec.class));
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void jsonTypeInfoWrapperObjectWithTokenBufferSameAsMap() {
+		RandomContext randomContext = RandomContext.of(SEED);
+		JsonTypeInfoWrapperObjectSpec expected = randomContext.call(
+			() -> SUT.giveMeOne(JsonTypeInfoWrapperObjectSpec.class)
+		);
+
+		JsonTypeInfoWrapperObjectSpec actual = randomContext.call(
+			() -> TOKEN_BUFFER_SUT.giveMeOne(JsonTypeInfoWrapperObjectSpec.class)
+		);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property
+	void sampleNestedWithTokenBuffer() {
+		String actual = TOKEN_BUFFER_SUT.giveMeBuilder(NestedStringValue.class)
+			.set("value.innerValue", "test")
+			.sample()
+			.getValue()
+			.getInnerValue();
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Property
+	void sampleListNestedElementWithTokenBuffer() {
+		StringValue actual = TOKEN_BUFFER_SUT.giveMeBuilder(new TypeReference<List<List<StringValue>>>() {
+			})
+			.size("$", 1)
+			.size("$[0]", 1)
+			.sample()
+			.get(0)
+			.get(0);
+
+		then(actual).isInstanceOf(StringValue.class);
+		then(actual).isNotNull();
+	}
+
 	@Value
 	public static class JsonFormatSpec {
 		@JsonFormat(shape = Shape.NUMBER)
@@ -156,6 +241,40 @@ class FixtureMonkeyJackson3Test {
 		ONE, TWO, THREE
 	}
 
+	@Value
+	public static class JsonTypeInfoSpec {
+		@JsonTypeInfo(use = Id.NAME)
+		@JsonSubTypes({
+			@JsonSubTypes.Type(value = TypeA.class, name = "TypeA"),
+			@JsonSubTypes.Type(value = TypeB.class, name = "typeB")
+		})
+		TypeInterface value;
+	}
+
+	@Value
+	public static class JsonTypeInfoWrapperObjectSpec {
+		@JsonTypeInfo(use = Id.NAME, include = As.WRAPPER_OBJECT)
+		@JsonSubTypes({
+			@JsonSubTypes.Type(value = TypeA.class, name = "TypeA"),
+			@JsonSubTypes.Type(value = TypeB.class, name = "typeB")
+		})
+		TypeInterface value;
+	}
+
+	public interface TypeInterface {
+	}
+
+	@Value
+	public static class TypeA implements TypeInterface {
+		String value;
+	}
+
+	@Value
+	@JsonTypeName("typeB")
+	public static class TypeB implements TypeInterface {
+		int value;
+	}
+
 	@Value
 	public static class JsonNodeWrapperClass {
 		JsonNode value;
@@ -61,6 +61,7 @@ import com.navercorp.fixturemonkey.jakarta.validation.spec.ShortIntrospectorSpec
 import com.navercorp.fixturemonkey.jakarta.validation.spec.StringIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.TimeFutureIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.TimePastIntrospectorSpec;
+import com.navercorp.fixturemonkey.jakarta.validation.validator.JakartaArbitraryValidator;
 
 class JakartaValidationFixtureMonkeyTest {
 	private static final FixtureMonkey SUT = FixtureMonkey.builder()
@@ -510,4 +511,20 @@ class JakartaValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Example
+	void sampleIncrementalValidation() {
+		JakartaArbitraryValidator validator = new JakartaArbitraryValidator(true);
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new JakartaValidationPlugin())
+			.arbitraryValidator(validator)
+			.defaultNotNull(true)
+			.build();
+
+		StringIntrospectorSpec actual = sut.giveMeOne(StringIntrospectorSpec.class);
+
+		then(actual.getNotBlank()).isNotBlank();
+		then(actual.getNotEmpty()).isNotEmpty();
+		then(validator.getPropertyValidationCount()).isPositive();
+	}
 }
@@ -18,7 +18,9 @@
 
 package com.navercorp.fixturemonkey.javax.validation.validator;
 
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import javax.validation.ConstraintViolation;
@@ -31,15 +33,34 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
-import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.api.validator.IncrementalArbitraryValidator;
 
 @API(since = "0.5.6", status = Status.MAINTAINED)
-public final class JavaxArbitraryValidator implements ArbitraryValidator {
+public final class JavaxArbitraryValidator implements IncrementalArbitraryValidator {
+	private static final Logger LOGGER = LoggerFactory.getLogger(JavaxArbitraryValidator.class);
+
+	private final boolean incremental;
+	private final LongAdder propertyValidationCount = new LongAdder();
+	private final LongAdder propertyViolationCount = new LongAdder();
 	private @Nullable Validator validator;
 
 	public JavaxArbitraryValidator() {
+		this(false);
+	}
+
+	/**
+	 * Creates a validator.
+	 *
+	 * @param incremental validates each property while combining if true,
+	 *                    it regenerates only the property violating the constraints.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public JavaxArbitraryValidator(boolean incremental) {
+		this.incremental = incremental;
 		try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
 			this.validator = factory.getValidator();
 		} catch (Exception e) {
@@ -65,4 +86,52 @@ public final class JavaxArbitraryValidator implements ArbitraryValidator {
 			}
 		}
 	}
+
+	@Override
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	@Override
+	public void validateProperty(Class<?> declaringType, String propertyName, @Nullable Object value) {
+		if (this.validator == null) {
+			return;
+		}
+
+		Set<? extends ConstraintViolation<?>> violations;
+		try {
+			violations = this.validator.validateValue(declaringType, propertyName, value);
+		} catch (IllegalArgumentException ex) {
+			// the property is not a bean property of the declaring type, it is validated with the whole object.
+			LOGGER.debug(
+				String.format(
+					"Property \"%s\" of \"%s\" is not validated incrementally.",
+					propertyName,
+					declaringType.getName()
+				),
+				ex
+			);
+			return;
+		}
+		propertyValidationCount.increment();
+
+		if (!violations.isEmpty()) {
+			propertyViolationCount.increment();
+			throw new ValidationFailedException(
+				"DefaultArbitraryValidator ConstraintViolations. type: " + declaringType
+					+ ", property: " + propertyName,
+				Collections.singleton(propertyName)
+			);
+		}
+	}
+
+	@Override
+	public long getPropertyValidationCount() {
+		return propertyValidationCount.sum();
+	}
+
+	@Override
+	public long getPropertyViolationCount() {
+		return propertyViolationCount.sum();
+	}
 }
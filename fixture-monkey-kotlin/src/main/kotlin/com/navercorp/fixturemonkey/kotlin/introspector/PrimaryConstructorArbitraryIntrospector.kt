@@ -28,6 +28,7 @@ import com.navercorp.fixturemonkey.api.property.PropertyGenerator
 import com.navercorp.fixturemonkey.api.type.Types
 import com.navercorp.fixturemonkey.kotlin.property.KotlinConstructorParameterPropertyGenerator
 import com.navercorp.fixturemonkey.kotlin.type.actualType
+import com.navercorp.fixturemonkey.kotlin.type.cachedConstructorInvoker
 import com.navercorp.fixturemonkey.kotlin.type.cachedKotlin
 import com.navercorp.fixturemonkey.kotlin.type.isKotlinLambda
 import com.navercorp.fixturemonkey.kotlin.type.isKotlinType
@@ -36,7 +37,6 @@ import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.MAINTAINED
 import org.slf4j.LoggerFactory
 import java.lang.reflect.Modifier
-import kotlin.reflect.KParameter
 
 @API(since = "0.4.0", status = MAINTAINED)
 class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
@@ -59,22 +59,19 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
             return ArbitraryIntrospectorResult.NOT_INTROSPECTED
         }
 
+        val constructorInvoker = constructor.cachedConstructorInvoker()
+        val parameterNames = constructorInvoker.parameterNames
+
         return ArbitraryIntrospectorResult(
             CombinableArbitrary.objectBuilder()
                 .properties(context.combinableArbitrariesByArbitraryProperty)
-                .build {
-                    val arbitrariesByPropertyName: Map<String?, Any?> =
-                        it.mapKeys { map -> map.key.objectProperty.property.name }
-                    val generatedByParameters = mutableMapOf<KParameter, Any?>()
-
-                    for (parameter in constructor.parameters) {
-                        val resolvedArbitrary = arbitrariesByPropertyName[parameter.name]
-                        if (resolvedArbitrary != null || !parameter.isOptional || parameter.type.isMarkedNullable) {
-                            generatedByParameters[parameter] = resolvedArbitrary
-                        }
+                .buildWithValues { combinedPropertyValues ->
+                    val arguments = arrayOfNulls<Any?>(parameterNames.size)
+                    for (index in parameterNames.indices) {
+                        arguments[index] = parameterNames[index]?.let { combinedPropertyValues.getByPropertyName(it) }
                     }
 
-                    constructor.callBy(generatedByParameters)
+                    constructorInvoker.newInstance(arguments)
                 },
         )
     }
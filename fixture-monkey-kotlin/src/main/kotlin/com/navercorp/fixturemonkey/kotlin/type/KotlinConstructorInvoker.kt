@@ -0,0 +1,145 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.type
+
+import com.navercorp.fixturemonkey.api.type.Accessors
+import com.navercorp.fixturemonkey.api.type.Accessors.ConstructorInvoker
+import kotlin.jvm.internal.DefaultConstructorMarker
+import kotlin.reflect.KClass
+import kotlin.reflect.KFunction
+import kotlin.reflect.KParameter
+import kotlin.reflect.jvm.javaConstructor
+
+/**
+ * Invokes a Kotlin constructor through its underlying Java constructor instead of [KFunction.callBy].
+ * An argument is regarded as absent if it is null and its parameter is optional and not nullable,
+ * the synthetic `$default` constructor is called with the bitmask of absent arguments.
+ * It falls back to [KFunction.callBy] if the constructor could not be called directly,
+ * for example, the constructor of an inner class or a constructor with value class parameters.
+ */
+internal class KotlinConstructorInvoker(private val constructor: KFunction<*>) {
+    val parameterNames: Array<String?> = constructor.parameters.map { it.name }.toTypedArray()
+
+    private val parameterSize = parameterNames.size
+    private val maskSize = (parameterSize + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+    private val absentIndexes: IntArray = constructor.parameters
+        .filter { it.isOptional && !it.type.isMarkedNullable }
+        .map { it.index }
+        .toIntArray()
+    private val absentValues: Array<Any?> = arrayOfNulls(parameterSize)
+    private val invoker: ConstructorInvoker?
+    private val defaultInvoker: ConstructorInvoker?
+
+    init {
+        val javaConstructor = if (isDirectlyInvocable(constructor)) constructor.javaConstructor else null
+        if (javaConstructor == null || javaConstructor.parameterCount != parameterSize) {
+            invoker = null
+            defaultInvoker = null
+        } else {
+            val parameterTypes = javaConstructor.parameterTypes
+            for (index in absentIndexes) {
+                absentValues[index] = DEFAULT_PRIMITIVE_VALUES[parameterTypes[index]]
+            }
+
+            invoker = Accessors.getConstructorInvoker(javaConstructor)
+            defaultInvoker = if (absentIndexes.isEmpty()) {
+                null
+            } else {
+                try {
+                    val defaultConstructor = javaConstructor.declaringClass.getDeclaredConstructor(
+                        *parameterTypes,
+                        *Array<Class<*>>(maskSize) { Int::class.javaPrimitiveType!! },
+                        DefaultConstructorMarker::class.java,
+                    )
+                    Accessors.getConstructorInvoker(defaultConstructor)
+                } catch (ex: NoSuchMethodException) {
+                    null
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance. The arguments are ordered by the parameters of the constructor,
+     * the absent arguments in the given array are replaced with the placeholders of the `$default` constructor.
+     */
+    fun newInstance(arguments: Array<Any?>): Any? {
+        if (invoker == null) {
+            return callBy(arguments)
+        }
+
+        var masks: IntArray? = null
+        for (index in absentIndexes) {
+            if (arguments[index] != null) {
+                continue
+            }
+
+            if (masks == null) {
+                if (defaultInvoker == null) {
+                    return callBy(arguments)
+                }
+                masks = IntArray(maskSize)
+            }
+            masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or (1 shl (index % Int.SIZE_BITS))
+            arguments[index] = absentValues[index]
+        }
+
+        if (masks == null) {
+            return invoker.newInstance(*arguments)
+        }
+
+        val defaultArguments = arguments.copyOf(parameterSize + maskSize + 1)
+        for (maskIndex in masks.indices) {
+            defaultArguments[parameterSize + maskIndex] = masks[maskIndex]
+        }
+        return defaultInvoker!!.newInstance(*defaultArguments)
+    }
+
+    private fun callBy(arguments: Array<Any?>): Any? {
+        val generatedByParameters = mutableMapOf<KParameter, Any?>()
+        for (parameter in constructor.parameters) {
+            val argument = arguments[parameter.index]
+            if (argument != null || !parameter.isOptional || parameter.type.isMarkedNullable) {
+                generatedByParameters[parameter] = argument
+            }
+        }
+        return constructor.callBy(generatedByParameters)
+    }
+
+    companion object {
+        private val DEFAULT_PRIMITIVE_VALUES: Map<Class<*>, Any> = mapOf(
+            Boolean::class.javaPrimitiveType!! to false,
+            Byte::class.javaPrimitiveType!! to 0.toByte(),
+            Short::class.javaPrimitiveType!! to 0.toShort(),
+            Char::class.javaPrimitiveType!! to 0.toChar(),
+            Int::class.javaPrimitiveType!! to 0,
+            Long::class.javaPrimitiveType!! to 0L,
+            Float::class.javaPrimitiveType!! to 0.0f,
+            Double::class.javaPrimitiveType!! to 0.0,
+        )
+
+        private fun isDirectlyInvocable(constructor: KFunction<*>): Boolean {
+            val declaringClass = constructor.returnType.classifier as? KClass<*> ?: return false
+            return !declaringClass.isValue &&
+                constructor.parameters.all {
+                    it.kind == KParameter.Kind.VALUE && (it.type.classifier as? KClass<*>)?.isValue != true
+                }
+        }
+    }
+}
@@ -31,6 +31,7 @@ private val CONSTRUCTORS = ConcurrentLruCache<KClass<*>, Collection<KFunction<*>
 private val KOTLIN_TYPES = ConcurrentLruCache<Class<*>, KClass<*>>(2048)
 private val MEMBER_FUNCTIONS = ConcurrentLruCache<KClass<*>, Collection<KFunction<*>>>(2048)
 private val CONSTRUCTOR_CACHE = ConcurrentLruCache<Class<*>, KFunction<*>>(2048)
+private val CONSTRUCTOR_INVOKERS = ConcurrentLruCache<KFunction<*>, KotlinConstructorInvoker>(2048)
 
 fun Class<*>.declaredKotlinConstructors(): Collection<KFunction<*>> =
     CONSTRUCTORS.computeIfAbsent(this.cachedKotlin()) { it.constructors }
@@ -50,3 +51,6 @@ internal fun Class<*>.kotlinPrimaryConstructor(): KFunction<*> =
         val kotlinClass = Reflection.createKotlinClass(this) as KClass<*>
         requireNotNull(kotlinClass.primaryConstructor) { "No kotlin primary constructor provided for $kotlinClass" }
     }.apply { isAccessible = true }
+
+internal fun KFunction<*>.cachedConstructorInvoker(): KotlinConstructorInvoker =
+    CONSTRUCTOR_INVOKERS.computeIfAbsent(this) { KotlinConstructorInvoker(it) }
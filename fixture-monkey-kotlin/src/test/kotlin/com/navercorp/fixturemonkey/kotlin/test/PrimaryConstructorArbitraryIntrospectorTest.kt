@@ -70,6 +70,17 @@ class PrimaryConstructorArbitraryIntrospectorTest {
         then(actual).isNotEqualTo("default_value")
     }
 
+    @Example
+    fun sampleDefaultValueWhenSetNull() {
+        // when
+        val actual = sut.giveMeBuilder<DefaultValue>()
+            .setNull("stringValue")
+            .sample()
+            .stringValue
+
+        then(actual).isEqualTo("default_value")
+    }
+
     @Example
     fun sampleDuration() {
         // when
@@ -0,0 +1,74 @@
+package com.navercorp.fixturemonkey.tests.concurrent;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.ConstructorPropertiesArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+class ParallelGenerationTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.objectIntrospector(ConstructorPropertiesArbitraryIntrospector.INSTANCE)
+		.build();
+	private static final long SEED = 12345L;
+
+	private long previousSeed;
+
+	@BeforeEach
+	void saveSeed() {
+		previousSeed = Randoms.currentSeed();
+	}
+
+	@AfterEach
+	void restoreSeed() {
+		Randoms.newGlobalSeed(previousSeed);
+	}
+
+	@Test
+	void giveMeParallel() {
+		List<JavaObject> actual = SUT.giveMeParallel(JavaObject.class, 100);
+
+		then(actual).hasSize(100);
+	}
+
+	@Test
+	void giveMeParallelReturnsSameResultRegardlessOfParallelism() {
+		ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+		ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+		try {
+			Randoms.newGlobalSeed(SEED);
+			List<JavaObject> expected = SUT.giveMeParallel(JavaObject.class, 100, singleThreadPool);
+
+			Randoms.newGlobalSeed(SEED);
+			List<JavaObject> actual = SUT.giveMeParallel(JavaObject.class, 100, multiThreadPool);
+
+			then(actual).isEqualTo(expected);
+		} finally {
+			singleThreadPool.shutdown();
+			multiThreadPool.shutdown();
+		}
+	}
+
+	@Test
+	void giveMeParallelZeroSize() {
+		List<JavaObject> actual = SUT.giveMeParallel(JavaObject.class, 0);
+
+		then(actual).isEmpty();
+	}
+
+	public record JavaObject(
+		String value,
+		int number,
+		Map<String, String> map
+	) {
+
+	}
+}
@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.tests.java;
 
 import static com.navercorp.fixturemonkey.tests.TestEnvironment.TEST_COUNT;
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 
@@ -228,4 +229,24 @@ class ContainerTypeTest {
 			})
 		);
 	}
+
+	@Test
+	void sampleContainerSizeDiffersForEachSample() {
+		Set<Integer> actual = SUT.giveMe(ContainerObject.class, 100).stream()
+			.map(it -> it.getList().size())
+			.collect(toSet());
+
+		then(actual).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void sampleContainerSizeAfterSampleWithSize() {
+		SUT.giveMeBuilder(ContainerObject.class)
+			.size("list", 5)
+			.sample();
+
+		List<ContainerObject> actual = SUT.giveMe(ContainerObject.class, 100);
+
+		then(actual).anyMatch(it -> it.getList().size() != 5);
+	}
 }
@@ -4,7 +4,9 @@ import static com.navercorp.fixturemonkey.tests.TestEnvironment.TEST_COUNT;
 import static org.assertj.core.api.BDDAssertions.then;
 
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 
+import com.navercorp.fixturemonkey.api.random.RandomContext;
 import com.navercorp.fixturemonkey.datafaker.arbitrary.DataFakerStringArbitrary;
 
 class DataFakerArbitraryTest {
@@ -80,4 +82,12 @@ class DataFakerArbitraryTest {
 		String value = DataFakerStringArbitrary.finance().creditCard();
 		then(value).isNotBlank();
 	}
+
+	@Test
+	void fullNameSameSeed() {
+		String expected = RandomContext.of(12345L).call(() -> DataFakerStringArbitrary.name().fullName());
+		String actual = RandomContext.of(12345L).call(() -> DataFakerStringArbitrary.name().fullName());
+
+		then(actual).isEqualTo(expected);
+	}
 }
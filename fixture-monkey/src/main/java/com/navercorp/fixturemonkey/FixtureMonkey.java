@@ -20,10 +20,17 @@ package com.navercorp.fixturemonkey;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -40,10 +47,10 @@ import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.random.RandomContext;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
-import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
 import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.builder.JavaTypeDefaultTypeArbitraryBuilder;
 import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
@@ -52,6 +59,7 @@ import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.RegisteredArbitraryBuilderIndex;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class FixtureMonkey {
@@ -60,6 +68,7 @@ public final class FixtureMonkey {
 	private final MonkeyContext monkeyContext;
 	private final MonkeyManipulatorFactory monkeyManipulatorFactory;
 	private final MonkeyExpressionFactory monkeyExpressionFactory;
+	private final RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex;
 
 	public FixtureMonkey(
 		FixtureMonkeyOptions fixtureMonkeyOptions,
@@ -76,8 +85,11 @@ public final class FixtureMonkey {
 		this.monkeyContext = MonkeyContext.builder(fixtureMonkeyOptions).build();
 		this.monkeyManipulatorFactory = monkeyManipulatorFactory;
 		this.monkeyExpressionFactory = monkeyExpressionFactory;
+		this.registeredArbitraryBuilderIndex =
+			new RegisteredArbitraryBuilderIndex(monkeyContext.getRegisteredArbitraryBuilders());
 		initializeRegisteredArbitraryBuilders(registeredArbitraryBuildersWithPriority);
 		initializeNamedArbitraryBuilderMap(registeredPriorityMatchersByName);
+		this.registeredArbitraryBuilderIndex.initialize();
 	}
 
 	public static FixtureMonkeyBuilder builder() {
@@ -98,16 +110,7 @@ public final class FixtureMonkey {
 		TreeRootProperty rootProperty = new RootProperty(new TypeParameterProperty(type.getAnnotatedType()));
 
 		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standByContexts =
-			monkeyContext.getRegisteredArbitraryBuilders().stream()
-				.filter(it -> it.match(rootProperty))
-				.map(it ->
-					new PriorityMatcherOperator<>(
-						it.getMatcher(),
-						((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
-						it.getPriority()
-					)
-				)
-				.collect(toList());
+			registeredArbitraryBuilderIndex.findStandbyContexts(rootProperty);
 
 		ArbitraryBuilderContext newActiveBuilderContext =
 			ArbitraryBuilderContext.newBuilderContext(monkeyContext);
@@ -117,7 +120,8 @@ public final class FixtureMonkey {
 			new ArbitraryResolver(
 				manipulatorOptimizer,
 				monkeyManipulatorFactory,
-				monkeyContext
+				monkeyContext,
+				registeredArbitraryBuilderIndex
 			),
 			monkeyManipulatorFactory,
 			monkeyExpressionFactory,
@@ -140,7 +144,8 @@ public final class FixtureMonkey {
 			new ArbitraryResolver(
 				manipulatorOptimizer,
 				monkeyManipulatorFactory,
-				monkeyContext
+				monkeyContext,
+				registeredArbitraryBuilderIndex
 			),
 			monkeyManipulatorFactory,
 			monkeyExpressionFactory,
@@ -187,6 +192,54 @@ public final class FixtureMonkey {
 		return this.giveMe(typeReference).limit(size).collect(toList());
 	}
 
+	/**
+	 * Generates a list of the given size in parallel with the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @see #giveMeParallel(TypeReference, int, Executor)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size) {
+		return this.giveMeParallel(type, size, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Generates a list of the given size in parallel with the given executor.
+	 *
+	 * @see #giveMeParallel(TypeReference, int, Executor)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, Executor executor) {
+		return this.generateParallel(() -> this.giveMeBuilder(type).sample(), size, executor);
+	}
+
+	/**
+	 * Generates a list of the given size in parallel with the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @see #giveMeParallel(TypeReference, int, Executor)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size) {
+		return this.giveMeParallel(typeReference, size, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Generates a list of the given size in parallel with the given executor.
+	 * The elements are split into shards, each shard is generated by a task running on the executor.
+	 * <p>
+	 * Each element is generated with its own {@link RandomContext} split from the calling thread by its index.
+	 * The result is deterministic for a given seed, it does not depend on the number of threads of the executor.
+	 * The calling thread only advances its random state once per call.
+	 *
+	 * @param typeReference the type of the elements
+	 * @param size          the size of the list to generate
+	 * @param executor      the executor to run the shards
+	 * @return the generated list in the order of indexes
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size, Executor executor) {
+		return this.generateParallel(() -> this.giveMeBuilder(typeReference).sample(), size, executor);
+	}
+
 	@SuppressWarnings("return")
 	public <T> @NonNull T giveMeOne(Class<T> type) {
 		return this.giveMe(type, 1).get(0);
@@ -205,6 +258,52 @@ public final class FixtureMonkey {
 		return this.giveMeBuilder(typeReference).build();
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> List<T> generateParallel(Supplier<T> sampler, int size, Executor executor) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size should not be negative. size: " + size);
+		}
+
+		if (size == 0) {
+			return new ArrayList<>();
+		}
+
+		RandomContext randomContext = RandomContext.fork();
+		int parallelism = executor instanceof ForkJoinPool
+			? ((ForkJoinPool)executor).getParallelism()
+			: Runtime.getRuntime().availableProcessors();
+		int shardCount = Math.max(1, Math.min(size, parallelism));
+		int shardSize = (size + shardCount - 1) / shardCount;
+
+		Object[] elements = new Object[size];
+		CompletableFuture<?>[] shards = new CompletableFuture<?>[(size + shardSize - 1) / shardSize];
+		for (int start = 0; start < size; start += shardSize) {
+			int from = start;
+			int to = Math.min(size, start + shardSize);
+			shards[start / shardSize] = CompletableFuture.runAsync(() -> {
+				for (int index = from; index < to; index++) {
+					elements[index] = randomContext.split(index).call(sampler);
+				}
+			}, executor);
+		}
+
+		// join does not block a worker of ForkJoinPool without compensating it, unlike Future#get
+		try {
+			CompletableFuture.allOf(shards).join();
+		} catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException)cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error)cause;
+			}
+			throw new IllegalStateException("Parallel generation is failed.", cause);
+		}
+
+		return new ArrayList<>((List<T>)Arrays.asList(elements));
+	}
+
 	private void initializeRegisteredArbitraryBuilders(
 		List<PriorityMatcherOperator<Function<FixtureMonkey,
 			? extends ArbitraryBuilder<?>>>> registeredArbitraryBuildersWithPriority
@@ -522,6 +522,19 @@ public final class FixtureMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the minimum number of elements of a container whose element nodes are generated only when accessed.
+	 * It is {@link FixtureMonkeyOptions#DEFAULT_VIRTUAL_ELEMENT_NODE_THRESHOLD} by default.
+	 *
+	 * @param virtualElementNodeThreshold the minimum number of elements, {@link Integer#MAX_VALUE} disables it
+	 * @return this
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public FixtureMonkeyBuilder virtualElementNodeThreshold(int virtualElementNodeThreshold) {
+		fixtureMonkeyOptionsBuilder.virtualElementNodeThreshold(virtualElementNodeThreshold);
+		return this;
+	}
+
 	public FixtureMonkeyBuilder javaConstraintGenerator(JavaConstraintGenerator javaConstraintGenerator) {
 		fixtureMonkeyOptionsBuilder.javaConstraintGenerator(javaConstraintGenerator);
 		return this;
@@ -619,10 +632,6 @@ public final class FixtureMonkeyBuilder {
 	private PropertyNameResolver newCompositePropertyNameResolver(
 		FixtureMonkeyOptions fixtureMonkeyOptions
 	) {
-		return property -> fixtureMonkeyOptions.getPropertyNameResolvers().stream()
-			.filter(it -> it.getMatcher().match(property))
-			.findFirst()
-			.map(it -> it.getOperator().resolve(property))
-			.orElseGet(() -> fixtureMonkeyOptions.getDefaultPropertyNameResolver().resolve(property));
+		return property -> fixtureMonkeyOptions.getPropertyNameResolver(property).resolve(property);
 	}
 }
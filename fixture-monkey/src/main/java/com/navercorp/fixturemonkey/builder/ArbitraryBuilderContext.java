@@ -35,6 +35,7 @@ import org.jspecify.annotations.Nullable;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.container.PersistentList;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
@@ -64,10 +65,14 @@ import com.navercorp.fixturemonkey.tree.ObjectTree;
  */
 @API(since = "0.4.0", status = Status.INTERNAL)
 public final class ArbitraryBuilderContext {
-	private final List<ArbitraryManipulator> manipulators;
-	private final List<ContainerInfoManipulator> containerInfoManipulators;
-	private final Map<Class<?>, List<Property>> propertyConfigurers;
-	private final Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorsByType;
+	/*
+	 * The collections are never mutated, they are replaced when a manipulator or a configuration is added.
+	 * The copies of a context share them until one of the copies changes.
+	 */
+	private PersistentList<ArbitraryManipulator> manipulators;
+	private PersistentList<ContainerInfoManipulator> containerInfoManipulators;
+	private Map<Class<?>, List<Property>> propertyConfigurers;
+	private Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorsByType;
 	private final MonkeyContext monkeyContext;
 
 	@Nullable
@@ -82,8 +87,8 @@ public final class ArbitraryBuilderContext {
 	private CombinableArbitrary<?> fixedCombinableArbitrary;
 
 	private ArbitraryBuilderContext(
-		List<ArbitraryManipulator> manipulators,
-		List<ContainerInfoManipulator> containerInfoManipulators,
+		PersistentList<ArbitraryManipulator> manipulators,
+		PersistentList<ContainerInfoManipulator> containerInfoManipulators,
 		Map<Class<?>, List<Property>> propertyConfigurers,
 		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorsByType,
 		@Nullable FixedState fixedState,
@@ -106,25 +111,25 @@ public final class ArbitraryBuilderContext {
 	@Deprecated
 	public static ArbitraryBuilderContext newBuilderContext(MonkeyContext monkeyContext) {
 		return new ArbitraryBuilderContext(
-			new ArrayList<>(),
-			new ArrayList<>(),
-			new HashMap<>(),
-			new HashMap<>(),
+			PersistentList.empty(),
+			PersistentList.empty(),
+			Collections.emptyMap(),
+			Collections.emptyMap(),
 			null, null,
 			monkeyContext
 		);
 	}
 
+	/**
+	 * Copies the context in constant time, the copied context shares the collections with this context.
+	 * The {@link ContainerInfoManipulator}s are copied when they are fixed by {@link #fixContainerInfoManipulators()}.
+	 */
 	public ArbitraryBuilderContext copy() {
-		List<ContainerInfoManipulator> copiedContainerInfoManipulators = this.containerInfoManipulators.stream()
-			.map(ContainerInfoManipulator::copy)
-			.collect(Collectors.toList());
-
 		ArbitraryBuilderContext copiedContext = new ArbitraryBuilderContext(
-			new ArrayList<>(this.manipulators),
-			copiedContainerInfoManipulators,
-			new HashMap<>(propertyConfigurers),
-			new HashMap<>(arbitraryIntrospectorsByType),
+			manipulators,
+			containerInfoManipulators,
+			propertyConfigurers,
+			arbitraryIntrospectorsByType,
 			fixedState,
 			fixedCombinableArbitrary,
 			monkeyContext
@@ -137,35 +142,54 @@ public final class ArbitraryBuilderContext {
 	}
 
 	public void addManipulator(ArbitraryManipulator arbitraryManipulator) {
-		this.manipulators.add(arbitraryManipulator);
+		this.manipulators = this.manipulators.add(arbitraryManipulator);
 	}
 
 	public void addManipulators(Collection<ArbitraryManipulator> arbitraryManipulators) {
-		this.manipulators.addAll(arbitraryManipulators);
+		this.manipulators = this.manipulators.addAll(arbitraryManipulators);
 	}
 
 	public List<ArbitraryManipulator> getManipulators() {
-		return Collections.unmodifiableList(manipulators);
+		return manipulators.asList();
 	}
 
 	public void addContainerInfoManipulator(ContainerInfoManipulator containerInfo) {
-		this.containerInfoManipulators.add(containerInfo);
+		this.containerInfoManipulators = this.containerInfoManipulators.add(containerInfo);
 	}
 
 	public void addContainerInfoManipulators(List<ContainerInfoManipulator> containerInfoManipulators) {
-		this.containerInfoManipulators.addAll(containerInfoManipulators);
+		this.containerInfoManipulators = this.containerInfoManipulators.addAll(containerInfoManipulators);
 	}
 
 	public List<TreeNodeManipulator> getContainerInfoManipulators() {
-		return Collections.unmodifiableList(containerInfoManipulators);
+		return Collections.unmodifiableList(containerInfoManipulators.asList());
+	}
+
+	/**
+	 * Fixes the size of the containers.
+	 * The {@link ContainerInfoManipulator}s may be shared with the copied contexts, they are fixed after copied.
+	 */
+	public void fixContainerInfoManipulators() {
+		PersistentList<ContainerInfoManipulator> fixedContainerInfoManipulators = PersistentList.empty();
+		for (ContainerInfoManipulator containerInfoManipulator : containerInfoManipulators.asList()) {
+			ContainerInfoManipulator fixedContainerInfoManipulator = containerInfoManipulator.copy();
+			fixedContainerInfoManipulator.fixed();
+			fixedContainerInfoManipulators = fixedContainerInfoManipulators.add(fixedContainerInfoManipulator);
+		}
+		this.containerInfoManipulators = fixedContainerInfoManipulators;
 	}
 
 	public void putPropertyConfigurer(Class<?> type, List<Property> propertyConfigurer) {
-		this.propertyConfigurers.put(type, propertyConfigurer);
+		Map<Class<?>, List<Property>> propertyConfigurers = new HashMap<>(this.propertyConfigurers);
+		propertyConfigurers.put(type, propertyConfigurer);
+		this.propertyConfigurers = Collections.unmodifiableMap(propertyConfigurers);
 	}
 
 	public void putArbitraryIntrospector(Class<?> type, ArbitraryIntrospector arbitraryIntrospector) {
-		this.arbitraryIntrospectorsByType.put(type, arbitraryIntrospector);
+		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorsByType =
+			new HashMap<>(this.arbitraryIntrospectorsByType);
+		arbitraryIntrospectorsByType.put(type, arbitraryIntrospector);
+		this.arbitraryIntrospectorsByType = Collections.unmodifiableMap(arbitraryIntrospectorsByType);
 	}
 
 	public Map<Class<?>, ArbitraryIntrospector> getArbitraryIntrospectorsByType() {
@@ -272,16 +296,17 @@ public final class ArbitraryBuilderContext {
 				fixtureMonkeyOptions.getDefaultArbitraryGenerator(),
 				fixtureMonkeyOptions.getDefaultPropertyGenerator()
 			),
-			fixtureMonkeyOptions.getObjectPropertyGenerators(),
+			fixtureMonkeyOptions.getObjectPropertyGeneratorTable(),
 			fixtureMonkeyOptions.getDefaultObjectPropertyGenerator(),
-			fixtureMonkeyOptions.getContainerPropertyGenerators(),
-			fixtureMonkeyOptions.getPropertyNameResolvers(),
+			fixtureMonkeyOptions.getContainerPropertyGeneratorTable(),
+			fixtureMonkeyOptions.getPropertyNameResolverTable(),
 			fixtureMonkeyOptions.getDefaultPropertyNameResolver(),
-			fixtureMonkeyOptions.getCandidateConcretePropertyResolvers(),
-			fixtureMonkeyOptions.getArbitraryContainerInfoGenerators(),
+			fixtureMonkeyOptions.getCandidateConcretePropertyResolverTable(),
+			fixtureMonkeyOptions.getArbitraryContainerInfoGeneratorTable(),
 			fixtureMonkeyOptions.getDefaultArbitraryContainerInfoGenerator(),
-			fixtureMonkeyOptions.getNullInjectGenerators(),
-			fixtureMonkeyOptions.getDefaultNullInjectGenerator()
+			fixtureMonkeyOptions.getNullInjectGeneratorTable(),
+			fixtureMonkeyOptions.getDefaultNullInjectGenerator(),
+			fixtureMonkeyOptions.getVirtualElementNodeThreshold()
 		);
 	}
 
@@ -63,7 +63,6 @@ import com.navercorp.fixturemonkey.api.property.PropertySelector;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
-import com.navercorp.fixturemonkey.api.tree.TreeNodeManipulator;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -262,7 +261,7 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 
 	@Override
 	public ArbitraryBuilder<T> fixed() {
-		this.activeContext.getContainerInfoManipulators().forEach(TreeNodeManipulator::fixed);
+		this.activeContext.fixContainerInfoManipulators();
 
 		this.activeContext.markFixed();
 		return this;
@@ -270,7 +269,7 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 
 	@Override
 	public ArbitraryBuilder<T> thenApply(BiConsumer<T, ArbitraryBuilder<T>> biConsumer) {
-		this.activeContext.getContainerInfoManipulators().forEach(TreeNodeManipulator::fixed);
+		this.activeContext.fixContainerInfoManipulators();
 
 		ArbitraryBuilder<T> appliedBuilder = this.copy();
 
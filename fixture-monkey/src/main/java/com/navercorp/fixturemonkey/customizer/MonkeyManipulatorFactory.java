@@ -21,8 +21,6 @@ package com.navercorp.fixturemonkey.customizer;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -43,9 +41,7 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
-import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.customizer.InnerSpecState.ManipulatorHolderSet;
@@ -144,8 +140,15 @@ public final class MonkeyManipulatorFactory {
 		);
 	}
 
-	public List<ArbitraryManipulator> newRegisteredArbitraryManipulators( // TODO: Fragmented registered
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
+	/**
+	 * Creates the manipulators of the registered contexts resolved by the given function for each property.
+	 *
+	 * @param registeredContextResolver resolves the registered context of a property, null if not registered
+	 * @param nodesByType               the nodes to manipulate by their properties
+	 * @return the manipulators of the registered contexts
+	 */
+	public List<ArbitraryManipulator> newRegisteredArbitraryManipulators(
+		Function<Property, ArbitraryBuilderContext> registeredContextResolver,
 		Map<Property, List<ObjectNode>> nodesByType
 	) {
 		List<ArbitraryManipulator> manipulators = new ArrayList<>();
@@ -154,10 +157,7 @@ public final class MonkeyManipulatorFactory {
 			Property property = nodeByType.getKey();
 			List<ObjectNode> objectNodes = nodeByType.getValue();
 
-			ArbitraryBuilderContext activeContext = findRegisteredArbitraryBuilderContext(
-				standbyContexts,
-				property
-			);
+			ArbitraryBuilderContext activeContext = registeredContextResolver.apply(property);
 
 			if (activeContext == null) {
 				continue;
@@ -177,43 +177,6 @@ public final class MonkeyManipulatorFactory {
 		return manipulators;
 	}
 
-	private @Nullable ArbitraryBuilderContext findRegisteredArbitraryBuilderContext(
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
-		Property property
-	) {
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> priorityOperators = standbyContexts
-			.stream()
-			.filter(it -> it.match(property))
-			.sorted(Comparator.comparingInt(PriorityMatcherOperator::getPriority))
-			.collect(toList());
-
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> highestPriorityOperators
-			= getHighestPriorityOperators(priorityOperators);
-
-		if (highestPriorityOperators.size() > 1) {
-			Collections.shuffle(highestPriorityOperators, Randoms.current());
-		}
-
-		return highestPriorityOperators.stream()
-			.findFirst()
-			.map(MatcherOperator::getOperator)
-			.orElse(null);
-	}
-
-	private List<PriorityMatcherOperator<ArbitraryBuilderContext>> getHighestPriorityOperators(
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> priorityOperators
-	) {
-		if (priorityOperators.isEmpty()) {
-			return priorityOperators;
-		}
-
-		int highestPriority = priorityOperators.get(0).getPriority();
-
-		return priorityOperators.stream()
-			.filter(it -> it.getPriority() == highestPriority)
-			.collect(toList());
-	}
-
 	public ManipulatorSet newManipulatorSet(ManipulatorHolderSet manipulatorHolderSet) {
 		int baseSequence = sequence.getAndIncrement();
 
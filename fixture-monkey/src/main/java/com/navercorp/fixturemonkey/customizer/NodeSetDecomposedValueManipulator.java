@@ -171,6 +171,15 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 			return;
 		}
 
+		List<? extends TypeDefinition> typeDefinitions = objectNode.getTreeProperty().getTypeDefinitions();
+		for (TypeDefinition typeDefinition : typeDefinitions) {
+			Class<?> actualConcreteType = Types.getActualType(typeDefinition.getResolvedProperty().getType());
+			if (isAssignable(value.getClass(), actualConcreteType)
+				&& isAssignable(actualConcreteType, value.getClass())) {
+				objectNode.setResolvedTypeDefinition(typeDefinition);
+			}
+		}
+
 		objectNode.expand();
 		List<ObjectNode> children = nullSafe(objectNode.getChildren()).asList();
 		if (children.isEmpty() || Types.getActualType(objectNode.getResolvedProperty().getType()).isInterface()) {
@@ -182,20 +191,12 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 		}
 
 		objectNode.forceExpand();
-		List<? extends TypeDefinition> typeDefinitions = objectNode.getTreeProperty().getTypeDefinitions();
 		for (TypeDefinition typeDefinition : typeDefinitions) {
 			Class<?> actualConcreteType = Types.getActualType(typeDefinition.getResolvedProperty().getType());
 			if (isAssignable(
 				value.getClass(),
 				actualConcreteType
 			)) {
-				if (isAssignable(
-					actualConcreteType,
-					value.getClass()
-				)) {
-					objectNode.setResolvedTypeDefinition(typeDefinition);
-				}
-
 				for (ObjectNode child : nullSafe(objectNode.getChildren()).asList()) {
 					if (!typeDefinition.getResolvedProperty().equals(child.getResolvedParentProperty())) {
 						continue;
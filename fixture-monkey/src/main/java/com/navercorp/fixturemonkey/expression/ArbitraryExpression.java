@@ -25,6 +25,7 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -44,6 +45,14 @@ import com.navercorp.fixturemonkey.tree.StartNodePredicate;
 public final class ArbitraryExpression implements MonkeyExpression, Comparable<ArbitraryExpression> {
 	private final List<Exp> expList;
 
+	/*
+	 * The expression is immutable, the resolvers and the predicates are built once.
+	 */
+	@Nullable
+	private volatile NodeResolver nodeResolver;
+	@Nullable
+	private volatile List<NextNodePredicate> nextNodePredicates;
+
 	private ArbitraryExpression(List<Exp> expList) {
 		this.expList = expList;
 	}
@@ -131,8 +140,27 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 			.collect(Collectors.joining("."));
 	}
 
-	@SuppressWarnings("return")
 	public NodeResolver toNodeResolver() {
+		NodeResolver nodeResolver = this.nodeResolver;
+		if (nodeResolver == null) {
+			nodeResolver = newNodeResolver();
+			this.nodeResolver = nodeResolver;
+		}
+		return nodeResolver;
+	}
+
+	@Override
+	public List<NextNodePredicate> toNextNodePredicate() {
+		List<NextNodePredicate> nextNodePredicates = this.nextNodePredicates;
+		if (nextNodePredicates == null) {
+			nextNodePredicates = Collections.unmodifiableList(newNextNodePredicates());
+			this.nextNodePredicates = nextNodePredicates;
+		}
+		return new ArrayList<>(nextNodePredicates);
+	}
+
+	@SuppressWarnings("return")
+	private NodeResolver newNodeResolver() {
 		NodeResolver nodeResolver = null;
 
 		for (Exp exp : expList) {
@@ -145,8 +173,7 @@ public final class ArbitraryExpression implements MonkeyExpression, Comparable<A
 		return nodeResolver;
 	}
 
-	@Override
-	public List<NextNodePredicate> toNextNodePredicate() {
+	private List<NextNodePredicate> newNextNodePredicates() {
 		List<NextNodePredicate> nextNodePredicates = new ArrayList<>();
 		nextNodePredicates.add(StartNodePredicate.INSTANCE);
 		for (Exp exp : expList) {
@@ -18,9 +18,26 @@
 
 package com.navercorp.fixturemonkey.expression;
 
+import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+
+/**
+ * It parses an expression into {@link ArbitraryExpression}.
+ * The parsed expressions are immutable, they are cached by the string expression.
+ */
 public final class ArbitraryExpressionFactory implements MonkeyExpressionFactory {
+	private static final int DEFAULT_EXPRESSION_CACHE_SIZE = 2048;
+	private static final ArbitraryExpression HEAD_EXPRESSION = ArbitraryExpression.from(HEAD_NAME);
+
+	private final ConcurrentLruCache<String, ArbitraryExpression> expressions =
+		new ConcurrentLruCache<>(DEFAULT_EXPRESSION_CACHE_SIZE);
+
 	@Override
 	public MonkeyExpression from(String expression) {
-		return ArbitraryExpression.from(expression);
+		if (HEAD_NAME.equals(expression)) {
+			return HEAD_EXPRESSION;
+		}
+		return expressions.computeIfAbsent(expression, ArbitraryExpression::from);
 	}
 }
@@ -22,14 +22,19 @@ import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.tree.ApplyStrictModeResolver;
 import com.navercorp.fixturemonkey.tree.NextNodePredicate;
 import com.navercorp.fixturemonkey.tree.NodeResolver;
 
 public final class StrictModeMonkeyExpressionFactory implements MonkeyExpressionFactory {
+	private static final int DEFAULT_EXPRESSION_CACHE_SIZE = 2048;
+
 	private final MonkeyExpressionFactory delegate;
 	private final PropertyNameResolver propertyNameResolver;
+	private final ConcurrentLruCache<ExpressionKey, MonkeyExpression> expressions =
+		new ConcurrentLruCache<>(DEFAULT_EXPRESSION_CACHE_SIZE);
 
 	public StrictModeMonkeyExpressionFactory(
 		MonkeyExpressionFactory delegate, PropertyNameResolver propertyNameResolver
@@ -45,14 +50,45 @@ public final class StrictModeMonkeyExpressionFactory implements MonkeyExpression
 
 	@Override
 	public MonkeyExpression from(String expression, @Nullable Class<?> rootClass) {
-		MonkeyExpression monkeyExpression = delegate.from(expression);
-		return new StrictModeMonkeyExpression(monkeyExpression, rootClass, propertyNameResolver);
+		return expressions.computeIfAbsent(
+			new ExpressionKey(expression, rootClass),
+			key -> new StrictModeMonkeyExpression(delegate.from(expression), rootClass, propertyNameResolver)
+		);
+	}
+
+	private static final class ExpressionKey {
+		private final String expression;
+		@Nullable
+		private final Class<?> rootClass;
+
+		private ExpressionKey(String expression, @Nullable Class<?> rootClass) {
+			this.expression = expression;
+			this.rootClass = rootClass;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			ExpressionKey that = (ExpressionKey)obj;
+			return expression.equals(that.expression) && rootClass == that.rootClass;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * expression.hashCode() + System.identityHashCode(rootClass);
+		}
 	}
 
 	private static final class StrictModeMonkeyExpression implements MonkeyExpression {
 		private final MonkeyExpression delegate;
 		private final @Nullable Class<?> rootClass;
 		private final PropertyNameResolver propertyNameResolver;
+		private final NodeResolver nodeResolver;
 
 		public StrictModeMonkeyExpression(
 			MonkeyExpression delegate, @Nullable Class<?> rootClass, PropertyNameResolver propertyNameResolver
@@ -60,11 +96,12 @@ public final class StrictModeMonkeyExpressionFactory implements MonkeyExpression
 			this.delegate = delegate;
 			this.rootClass = rootClass;
 			this.propertyNameResolver = propertyNameResolver;
+			this.nodeResolver = new ApplyStrictModeResolver(delegate.toNodeResolver());
 		}
 
 		@Override
 		public NodeResolver toNodeResolver() {
-			return new ApplyStrictModeResolver(delegate.toNodeResolver());
+			return nodeResolver;
 		}
 
 		@Override
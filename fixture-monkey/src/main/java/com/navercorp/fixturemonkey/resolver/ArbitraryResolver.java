@@ -18,15 +18,10 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
-import static com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator.FIELD_PROPERTY_GENERATOR;
-
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,8 +37,8 @@ import com.navercorp.fixturemonkey.api.matcher.TreeMatcherOperator;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.tree.TraverseContext;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
-import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
 import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.customizer.MonkeyManipulatorFactory;
 import com.navercorp.fixturemonkey.tree.ObjectNode;
@@ -54,15 +49,32 @@ public final class ArbitraryResolver {
 	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final MonkeyManipulatorFactory monkeyManipulatorFactory;
 	private final MonkeyContext monkeyContext;
+	private final RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex;
 
 	public ArbitraryResolver(
 		ManipulatorOptimizer manipulatorOptimizer,
 		MonkeyManipulatorFactory monkeyManipulatorFactory,
 		MonkeyContext monkeyContext
+	) {
+		this(
+			manipulatorOptimizer,
+			monkeyManipulatorFactory,
+			monkeyContext,
+			new RegisteredArbitraryBuilderIndex(monkeyContext.getRegisteredArbitraryBuilders())
+		);
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public ArbitraryResolver(
+		ManipulatorOptimizer manipulatorOptimizer,
+		MonkeyManipulatorFactory monkeyManipulatorFactory,
+		MonkeyContext monkeyContext,
+		RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex
 	) {
 		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.monkeyManipulatorFactory = monkeyManipulatorFactory;
 		this.monkeyContext = monkeyContext;
+		this.registeredArbitraryBuilderIndex = registeredArbitraryBuilderIndex;
 	}
 
 	public CombinableArbitrary<?> resolve(
@@ -78,31 +90,25 @@ public final class ArbitraryResolver {
 			rootProperty,
 			() -> {
 				// TODO: Fragmented registered
-				Set<Property> inferredProperties = inferPossibleProperties(
-					rootProperty,
-					new CycleDetector()
-				);
+				ArbitraryBuilderContext inferredContext =
+					registeredArbitraryBuilderIndex.findInferredContext(rootProperty);
 
-				Map<Class<?>, List<Property>> registeredPropertyConfigurer =
-					monkeyContext.getRegisteredArbitraryBuilders().stream()
-						.filter(it -> inferredProperties.stream().anyMatch(it::match))
-						.map(it -> ((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext())
-						.map(ArbitraryBuilderContext::getPropertyConfigurers)
-						.findFirst() // registered are stored in reverse order, so we take the first one
-						.orElse(Collections.emptyMap());
-
-				Map<Class<?>, ArbitraryIntrospector> registeredIntrospectors =
-					monkeyContext.getRegisteredArbitraryBuilders().stream()
-						.filter(it -> inferredProperties.stream().anyMatch(it::match))
-						.map(it -> ((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext())
-						.map(ArbitraryBuilderContext::getArbitraryIntrospectorsByType)
-						.findFirst() // registered are stored in reverse order, so we take the first one
-						.orElse(Collections.emptyMap());
+				Map<Class<?>, List<Property>> registeredPropertyConfigurer = inferredContext == null
+					? Collections.emptyMap()
+					: inferredContext.getPropertyConfigurers();
+
+				Map<Class<?>, ArbitraryIntrospector> registeredIntrospectors = inferredContext == null
+					? Collections.emptyMap()
+					: inferredContext.getArbitraryIntrospectorsByType();
+
+				TraverseContext traverseContext =
+					activeContext.newTraverseContext(rootProperty, registeredPropertyConfigurer);
 
 				ObjectTree objectTree = new ObjectTree(
 					rootProperty,
 					activeContext.newGenerateFixtureContext(registeredIntrospectors),
-					activeContext.newTraverseContext(rootProperty, registeredPropertyConfigurer)
+					traverseContext,
+					monkeyContext.getTemplateRootNode(rootProperty, traverseContext)
 				);
 
 				fixtureMonkeyOptions.getBuilderContextInitializers().stream()
@@ -121,23 +127,16 @@ public final class ArbitraryResolver {
 
 				List<ArbitraryManipulator> registeredRootManipulators =
 					monkeyManipulatorFactory.newRegisteredArbitraryManipulators(
-						standbyContexts,
+						property -> registeredArbitraryBuilderIndex.findRegisteredRootContext(
+							rootProperty,
+							standbyContexts
+						),
 						rootNodesByProperty
 					);
 
-				List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredPropertyArbitraryBuilderContexts =
-					monkeyContext.getRegisteredArbitraryBuilders()
-						.stream()
-						.map(it -> new PriorityMatcherOperator<>(
-							it.getMatcher(),
-							((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
-							it.getPriority()
-						))
-						.collect(Collectors.toList());
-
 				List<ArbitraryManipulator> registeredPropertyManipulators =
 					monkeyManipulatorFactory.newRegisteredArbitraryManipulators(
-						registeredPropertyArbitraryBuilderContexts,
+						registeredArbitraryBuilderIndex::findRegisteredContext,
 						objectTree.getMetadata().getNodesByProperty()
 					);
 
@@ -163,58 +162,4 @@ public final class ArbitraryResolver {
 			activeContext::isValidOnly
 		);
 	}
-
-	/**
-	 * Infers all possible properties from the given root property without cycles.
-	 *
-	 * <p>All properties means the nodes in the object tree that can be generated from the given root property.
-	 * This method specifically uses {@link com.navercorp.fixturemonkey.api.property.FieldPropertyGenerator}
-	 * to generate field-based properties because regardless of how objects are created
-	 * (constructor, factory method, builder pattern, etc.), the ultimate goal is to populate
-	 * the fields of those objects with test data.
-	 *
-	 * <p>The generated properties by {@code fieldPropertyGenerator} are cached to avoid redundant generation
-	 * when creating {@link ObjectNode} instances, improving performance during object tree construction.
-	 */
-	private Set<Property> inferPossibleProperties(Property property, CycleDetector cycleDetector) {
-		Set<Property> collectedProperties = new HashSet<>();
-
-		cycleDetector.checkCycle(
-			property,
-			p -> {
-				collectedProperties.add(p);
-				Set<Property> leafChildProperties = FIELD_PROPERTY_GENERATOR.generateChildProperties(p)
-					.stream()
-					.flatMap(it -> inferPossibleProperties(it, cycleDetector).stream())
-					.collect(Collectors.toSet());
-				collectedProperties.addAll(leafChildProperties);
-			}
-		);
-
-		return collectedProperties;
-	}
-
-	private static final class CycleDetector {
-		private final Set<Property> properties;
-
-		public CycleDetector() {
-			this.properties = new HashSet<>();
-		}
-
-		private void checkCycle(
-			Property property,
-			Consumer<Property> action
-		) {
-			if (properties.contains(property)) {
-				return;
-			}
-
-			properties.add(property);
-			try {
-				action.accept(property);
-			} finally {
-				properties.remove(property);
-			}
-		}
-	}
 }
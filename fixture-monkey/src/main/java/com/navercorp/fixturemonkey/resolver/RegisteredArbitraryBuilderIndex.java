@@ -0,0 +1,297 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator.FIELD_PROPERTY_GENERATOR;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.ObjectBuilder;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.context.MonkeyContext;
+import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
+import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
+
+/**
+ * An index of the registered {@link ArbitraryBuilderContext}s of a {@link MonkeyContext}.
+ * <p>
+ * The registered builders are added while the {@link com.navercorp.fixturemonkey.FixtureMonkey} is constructed.
+ * Until {@link #initialize()} is called, every lookup scans the registered builders as they are.
+ * After that, the registered builders are regarded as immutable and the lookups are memoized
+ * by the root property and by the property, so that a lookup for each sample is a map hit.
+ * <p>
+ * It is for internal use only.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class RegisteredArbitraryBuilderIndex {
+	private static final int DEFAULT_CACHE_SIZE = 2048;
+
+	private final List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders;
+	private final ConcurrentLruCache<Property, List<PriorityMatcherOperator<ArbitraryBuilderContext>>>
+		standbyContextsByRootProperty = new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentLruCache<Property, Optional<ArbitraryBuilderContext>>
+		inferredContextByRootProperty = new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentLruCache<Property, List<ArbitraryBuilderContext>>
+		highestPriorityContextsByProperty = new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+	private final ConcurrentLruCache<Property, List<ArbitraryBuilderContext>>
+		highestPriorityContextsByRootProperty = new ConcurrentLruCache<>(DEFAULT_CACHE_SIZE);
+
+	@Nullable
+	private volatile List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts = null;
+
+	public RegisteredArbitraryBuilderIndex(
+		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders
+	) {
+		this.registeredArbitraryBuilders = registeredArbitraryBuilders;
+	}
+
+	/**
+	 * Marks the registration is done. The lookups are memoized afterward.
+	 */
+	public void initialize() {
+		this.registeredContexts = Collections.unmodifiableList(toRegisteredContexts(registeredArbitraryBuilders));
+	}
+
+	/**
+	 * Returns the registered contexts matching the root property in the registered order.
+	 */
+	public List<PriorityMatcherOperator<ArbitraryBuilderContext>> findStandbyContexts(TreeRootProperty rootProperty) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts = this.registeredContexts;
+		if (registeredContexts == null) {
+			return filterMatched(toRegisteredContexts(registeredArbitraryBuilders), rootProperty);
+		}
+
+		return standbyContextsByRootProperty.computeIfAbsent(
+			rootProperty.getDelgatedProperty(),
+			property -> Collections.unmodifiableList(filterMatched(registeredContexts, rootProperty))
+		);
+	}
+
+	/**
+	 * Returns the first registered context matching any property which could be generated from the root property.
+	 * Its property configurers and introspectors are applied to the whole tree.
+	 */
+	@Nullable
+	public ArbitraryBuilderContext findInferredContext(TreeRootProperty rootProperty) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts = this.registeredContexts;
+		if (registeredContexts == null) {
+			return inferContext(toRegisteredContexts(registeredArbitraryBuilders), rootProperty);
+		}
+
+		return inferredContextByRootProperty.computeIfAbsent(
+			rootProperty.getDelgatedProperty(),
+			property -> Optional.ofNullable(inferContext(registeredContexts, rootProperty))
+		).orElse(null);
+	}
+
+	/**
+	 * Returns the registered context of the highest priority matching the property.
+	 * If there are several contexts of the highest priority, one of them is chosen randomly.
+	 */
+	@Nullable
+	public ArbitraryBuilderContext findRegisteredContext(Property property) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts = this.registeredContexts;
+		List<ArbitraryBuilderContext> highestPriorityContexts;
+		if (registeredContexts == null) {
+			highestPriorityContexts = findHighestPriorityContexts(
+				toRegisteredContexts(registeredArbitraryBuilders),
+				property
+			);
+		} else {
+			highestPriorityContexts = highestPriorityContextsByProperty.computeIfAbsent(
+				property,
+				it -> Collections.unmodifiableList(findHighestPriorityContexts(registeredContexts, it))
+			);
+		}
+
+		return chooseRegisteredContext(highestPriorityContexts);
+	}
+
+	/**
+	 * Returns the standby context of the highest priority matching the root property.
+	 * The standby contexts found by {@link #findStandbyContexts(TreeRootProperty)} are memoized
+	 * by the delegated property of the root, any other standby contexts are looked up as they are.
+	 * If there are several contexts of the highest priority, one of them is chosen randomly.
+	 */
+	@Nullable
+	public ArbitraryBuilderContext findRegisteredRootContext(
+		TreeRootProperty rootProperty,
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts
+	) {
+		if (standbyContexts.isEmpty()) {
+			return null;
+		}
+
+		List<ArbitraryBuilderContext> highestPriorityContexts;
+		if (this.registeredContexts != null && standbyContexts == findStandbyContexts(rootProperty)) {
+			highestPriorityContexts = highestPriorityContextsByRootProperty.computeIfAbsent(
+				rootProperty.getDelgatedProperty(),
+				property -> Collections.unmodifiableList(findHighestPriorityContexts(standbyContexts, rootProperty))
+			);
+		} else {
+			highestPriorityContexts = findHighestPriorityContexts(standbyContexts, rootProperty);
+		}
+
+		return chooseRegisteredContext(highestPriorityContexts);
+	}
+
+	@Nullable
+	private static ArbitraryBuilderContext chooseRegisteredContext(
+		List<ArbitraryBuilderContext> highestPriorityContexts
+	) {
+		if (highestPriorityContexts.isEmpty()) {
+			return null;
+		}
+
+		if (highestPriorityContexts.size() == 1) {
+			return highestPriorityContexts.get(0);
+		}
+
+		List<ArbitraryBuilderContext> shuffled = new ArrayList<>(highestPriorityContexts);
+		Collections.shuffle(shuffled, Randoms.current());
+		return shuffled.get(0);
+	}
+
+	private static List<PriorityMatcherOperator<ArbitraryBuilderContext>> toRegisteredContexts(
+		List<PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders
+	) {
+		return registeredArbitraryBuilders.stream()
+			.map(it -> new PriorityMatcherOperator<>(
+				it.getMatcher(),
+				((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
+				it.getPriority()
+			))
+			.collect(toList());
+	}
+
+	private static List<PriorityMatcherOperator<ArbitraryBuilderContext>> filterMatched(
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts,
+		Property property
+	) {
+		return registeredContexts.stream()
+			.filter(it -> it.match(property))
+			.collect(toList());
+	}
+
+	@Nullable
+	private static ArbitraryBuilderContext inferContext(
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts,
+		TreeRootProperty rootProperty
+	) {
+		if (registeredContexts.isEmpty()) {
+			return null;
+		}
+
+		Set<Property> inferredProperties = inferPossibleProperties(rootProperty, new CycleDetector());
+
+		return registeredContexts.stream()
+			.filter(it -> inferredProperties.stream().anyMatch(it::match))
+			.map(PriorityMatcherOperator::getOperator)
+			.findFirst() // registered are stored in reverse order, so we take the first one
+			.orElse(null);
+	}
+
+	private static List<ArbitraryBuilderContext> findHighestPriorityContexts(
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredContexts,
+		Property property
+	) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> priorityOperators = registeredContexts.stream()
+			.filter(it -> it.match(property))
+			.sorted(Comparator.comparingInt(PriorityMatcherOperator::getPriority))
+			.collect(toList());
+
+		if (priorityOperators.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		int highestPriority = priorityOperators.get(0).getPriority();
+		return priorityOperators.stream()
+			.filter(it -> it.getPriority() == highestPriority)
+			.map(PriorityMatcherOperator::getOperator)
+			.collect(toList());
+	}
+
+	/**
+	 * Infers all possible properties from the given root property without cycles.
+	 *
+	 * <p>All properties means the nodes in the object tree that can be generated from the given root property.
+	 * This method specifically uses {@link com.navercorp.fixturemonkey.api.property.FieldPropertyGenerator}
+	 * to generate field-based properties because regardless of how objects are created
+	 * (constructor, factory method, builder pattern, etc.), the ultimate goal is to populate
+	 * the fields of those objects with test data.
+	 */
+	private static Set<Property> inferPossibleProperties(Property property, CycleDetector cycleDetector) {
+		Set<Property> collectedProperties = new HashSet<>();
+
+		cycleDetector.checkCycle(
+			property,
+			p -> {
+				collectedProperties.add(p);
+				Set<Property> leafChildProperties = FIELD_PROPERTY_GENERATOR.generateChildProperties(p)
+					.stream()
+					.flatMap(it -> inferPossibleProperties(it, cycleDetector).stream())
+					.collect(Collectors.toSet());
+				collectedProperties.addAll(leafChildProperties);
+			}
+		);
+
+		return collectedProperties;
+	}
+
+	private static final class CycleDetector {
+		private final Set<Property> properties;
+
+		public CycleDetector() {
+			this.properties = new HashSet<>();
+		}
+
+		private void checkCycle(
+			Property property,
+			Consumer<Property> action
+		) {
+			if (properties.contains(property)) {
+				return;
+			}
+
+			properties.add(property);
+			try {
+				action.accept(property);
+			} finally {
+				properties.remove(property);
+			}
+		}
+	}
+}
@@ -35,6 +35,10 @@ public final class ContainerElementPredicate implements NextNodePredicate {
 		this.sequence = sequence;
 	}
 
+	int getSequence() {
+		return sequence;
+	}
+
 	@Override
 	public boolean test(ObjectProperty currentObjectProperty) {
 		Property property = currentObjectProperty.getProperty();
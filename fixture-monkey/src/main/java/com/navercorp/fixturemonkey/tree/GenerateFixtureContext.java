@@ -35,6 +35,7 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinedPropertyValues;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
@@ -43,15 +44,22 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContex
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.CompositeArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.IntrospectedArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.generator.ValidateArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.PropertyPath;
 import com.navercorp.fixturemonkey.api.tree.TraverseNode;
 import com.navercorp.fixturemonkey.api.tree.TraverseNodeContext;
 import com.navercorp.fixturemonkey.api.tree.TraverseNodeMetadata;
+import com.navercorp.fixturemonkey.api.tree.TreeProperty;
+import com.navercorp.fixturemonkey.api.tree.VirtualNodeList;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
+import com.navercorp.fixturemonkey.api.validator.IncrementalArbitraryValidator;
 import com.navercorp.fixturemonkey.customizer.NodeManipulator;
 
 /**
@@ -148,9 +156,26 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		this.arbitrary = arbitrary;
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked", "dereference.of.nullable"})
 	public CombinableArbitrary<?> generate(@Nullable ArbitraryGeneratorContext parentContext) {
+		return generate(parentContext, null);
+	}
+
+	/**
+	 * Generates the arbitrary of the node at the given path.
+	 * It is for the virtual element nodes which are not materialized, the template node generates each element.
+	 * The arbitrary generated at the given path is not cached, it belongs to one element.
+	 *
+	 * @param parentContext the context of the parent node
+	 * @param propertyPath  the path of the generated property, {@code null} if it is the path of the node
+	 * @return the arbitrary of the node
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked", "dereference.of.nullable"})
+	private CombinableArbitrary<?> generate(
+		@Nullable ArbitraryGeneratorContext parentContext,
+		@Nullable PropertyPath propertyPath
+	) {
 		FixtureMonkeyOptions fixtureMonkeyOptions = monkeyContext.getFixtureMonkeyOptions();
+		boolean cacheable = propertyPath == null && this.cacheable();
 
 		CombinableArbitrary<?> generated;
 		if (this.getArbitrary() != null) {
@@ -160,10 +185,11 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 			CombinableArbitrary<?> cached = monkeyContext.getCachedArbitrary(
 				objectNode.getMetadata().getOriginalProperty());
 
-			if (this.cacheable() && cached != null) {
+			if (cacheable && cached != null) {
 				generated = cached;
 			} else {
-				ArbitraryGeneratorContext childArbitraryGeneratorContext = this.generateContext(parentContext);
+				ArbitraryGeneratorContext childArbitraryGeneratorContext =
+					this.generateContext(parentContext, propertyPath);
 				ArbitraryIntrospector arbitraryIntrospector = arbitraryIntrospectorConfigurer.get(
 					Types.getActualType(objectNode.getMetadata().getOriginalProperty().getType())
 				);
@@ -177,7 +203,7 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 					generated = customizer.apply(generated);
 				}
 
-				if (this.cacheable()) {
+				if (cacheable) {
 					monkeyContext.putCachedArbitrary(
 						objectNode.getMetadata().getOriginalProperty(),
 						generated
@@ -191,9 +217,48 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 			generated = generated.filter(fixtureMonkeyOptions.getGenerateMaxTries(), predicate);
 		}
 
+		if (validOnly.get() && this.getArbitrary() == null && !this.manipulated()) {
+			generated = validatePropertyIncrementally(generated);
+		}
+
 		return generated;
 	}
 
+	/**
+	 * Validates the generated value of the property as soon as it is combined,
+	 * if the {@link IncrementalArbitraryValidator} is incremental.
+	 * It regenerates only this property if it violates the constraints.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private CombinableArbitrary<?> validatePropertyIncrementally(CombinableArbitrary<?> generated) {
+		FixtureMonkeyOptions fixtureMonkeyOptions = monkeyContext.getFixtureMonkeyOptions();
+		ArbitraryValidator arbitraryValidator = fixtureMonkeyOptions.getDefaultArbitraryValidator();
+		if (!(arbitraryValidator instanceof IncrementalArbitraryValidator)
+			|| !((IncrementalArbitraryValidator)arbitraryValidator).isIncremental()) {
+			return generated;
+		}
+
+		ObjectNode parentNode = objectNode.getParent();
+		Property resolvedParentProperty = objectNode.getMetadata().getResolvedParentProperty();
+		String propertyName = objectNode.getMetadata().getOriginalProperty().getName();
+		if (parentNode == null
+			|| parentNode.getMetadata().getTreeProperty().isContainer()
+			|| resolvedParentProperty == null
+			|| propertyName == null) {
+			return generated;
+		}
+
+		IncrementalArbitraryValidator incrementalArbitraryValidator = (IncrementalArbitraryValidator)arbitraryValidator;
+		Class<?> declaringType = Types.getActualType(resolvedParentProperty.getType());
+		return generated.filter(
+			fixtureMonkeyOptions.getGenerateMaxTries(),
+			(Predicate)value -> {
+				incrementalArbitraryValidator.validateProperty(declaringType, propertyName, value);
+				return true;
+			}
+		);
+	}
+
 	private ArbitraryGenerator getArbitraryGenerator(@Nullable ArbitraryIntrospector arbitraryIntrospector) {
 		FixtureMonkeyOptions fixtureMonkeyOptions = monkeyContext.getFixtureMonkeyOptions();
 		ArbitraryGenerator arbitraryGenerator = fixtureMonkeyOptions.getDefaultArbitraryGenerator();
@@ -222,9 +287,16 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		return arbitraryGenerator;
 	}
 
-	@SuppressWarnings("dereference.of.nullable")
 	public ArbitraryGeneratorContext generateContext(
 		@Nullable ArbitraryGeneratorContext parentContext
+	) {
+		return generateContext(parentContext, null);
+	}
+
+	@SuppressWarnings({"unchecked", "dereference.of.nullable"})
+	private ArbitraryGeneratorContext generateContext(
+		@Nullable ArbitraryGeneratorContext parentContext,
+		@Nullable PropertyPath propertyPath
 	) {
 		Map<ArbitraryProperty, ObjectNode> childNodesByArbitraryProperty = new HashMap<>();
 		List<ArbitraryProperty> childrenProperties = new ArrayList<>();
@@ -234,19 +306,31 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 				.toArbitraryProperty(objectNode.getMetadata().getNullInject());
 		Property resolvedParentProperty = objectNode.getMetadata().getResolvedTypeDefinition().getResolvedProperty();
 		objectNode.expand();
-		List<ObjectNode> children = nullSafe(objectNode.getChildren()).asList().stream()
-			.filter(it -> Types.isAssignable(
-				Types.getActualType(resolvedParentProperty.getType()),
-				Types.getActualType(it.getMetadata().getResolvedParentProperty().getType()))
-			)
-			.collect(Collectors.toList());
-
-		for (ObjectNode childNode : children) {
-			TraverseNodeMetadata childNodeMetadata = childNode.getMetadata();
-			ArbitraryProperty childArbitraryProperty =
-				childNodeMetadata.getTreeProperty().toArbitraryProperty(childNodeMetadata.getNullInject());
-			childNodesByArbitraryProperty.put(childArbitraryProperty, childNode);
-			childrenProperties.add(childArbitraryProperty);
+		List<ObjectNode> allChildren = nullSafe(objectNode.getChildren()).asList();
+		ObjectNode virtualTemplateNode = allChildren instanceof VirtualNodeList
+			? ((VirtualNodeList<ObjectNode>)allChildren).getTemplate()
+			: null;
+		if (virtualTemplateNode != null) {
+			addVirtualChildren(
+				(VirtualNodeList<ObjectNode>)allChildren,
+				childNodesByArbitraryProperty,
+				childrenProperties
+			);
+		} else {
+			List<ObjectNode> children = allChildren.stream()
+				.filter(it -> Types.isAssignable(
+					Types.getActualType(resolvedParentProperty.getType()),
+					Types.getActualType(it.getMetadata().getResolvedParentProperty().getType()))
+				)
+				.collect(Collectors.toList());
+
+			for (ObjectNode childNode : children) {
+				TraverseNodeMetadata childNodeMetadata = childNode.getMetadata();
+				ArbitraryProperty childArbitraryProperty =
+					childNodeMetadata.getTreeProperty().toArbitraryProperty(childNodeMetadata.getNullInject());
+				childNodesByArbitraryProperty.put(childArbitraryProperty, childNode);
+				childrenProperties.add(childArbitraryProperty);
+			}
 		}
 
 		MonkeyGeneratorContext monkeyGeneratorContext = monkeyContext.newGeneratorContext(
@@ -256,10 +340,17 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		ArbitraryGeneratorLoggingContext loggingContext = new ArbitraryGeneratorLoggingContext(
 			fixtureMonkeyOptions.isEnableLoggingFail());
 
+		// the slots of the elements of a container are not reused, their number could differ for each sample
+		TreeProperty treeProperty = objectNode.getMetadata().getTreeProperty();
+		CombinedPropertyValues.Slots childSlots = treeProperty.isContainer()
+			? null
+			: treeProperty.getChildSlots(childrenProperties);
+
 		return new ArbitraryGeneratorContext(
 			resolvedParentProperty,
 			arbitraryProperty,
 			childrenProperties,
+			childSlots,
 			parentContext,
 			(currentContext, prop) -> {
 				ObjectNode node = childNodesByArbitraryProperty.get(prop);
@@ -267,9 +358,18 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 					return CombinableArbitrary.NOT_GENERATED;
 				}
 
+				if (node == virtualTemplateNode) {
+					// the template generates each element not materialized at the path of the element
+					return node.getObjectNodeContext().generate(
+						currentContext,
+						PropertyPath.of(prop.getObjectProperty().getProperty(), currentContext.getPropertyPath())
+					);
+				}
 				return node.getObjectNodeContext().generate(currentContext);
 			},
-			objectNode.getMetadata().getLazyPropertyPath(),
+			propertyPath != null
+				? LazyArbitrary.lazy(() -> propertyPath)
+				: resolveLazyPropertyPath(parentContext),
 			monkeyGeneratorContext,
 			fixtureMonkeyOptions.getGenerateUniqueMaxTries(),
 			arbitraryProperty.getNullInject(),
@@ -277,6 +377,67 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		);
 	}
 
+	/**
+	 * Returns the path of the node, it follows the path of the parent context.
+	 * The descendants of the virtual element template are generated under the path of each element.
+	 */
+	@SuppressWarnings("dereference.of.nullable")
+	private LazyArbitrary<PropertyPath> resolveLazyPropertyPath(@Nullable ArbitraryGeneratorContext parentContext) {
+		LazyArbitrary<PropertyPath> nodePropertyPath = objectNode.getMetadata().getLazyPropertyPath();
+		ObjectNode parentNode = objectNode.getParent();
+		if (parentContext == null || parentNode == null) {
+			return nodePropertyPath;
+		}
+
+		return LazyArbitrary.lazy(() -> {
+			PropertyPath parentPropertyPath = parentContext.getPropertyPath();
+			if (parentPropertyPath.equals(parentNode.getMetadata().getLazyPropertyPath().getValue())) {
+				return nodePropertyPath.getValue();
+			}
+			return PropertyPath.of(
+				objectNode.getMetadata().getResolvedTypeDefinition().getResolvedProperty(),
+				parentPropertyPath
+			);
+		});
+	}
+
+	/**
+	 * Adds the element nodes of the container of which nodes are virtual.
+	 * The elements which are not materialized are generated by the template node.
+	 */
+	private static void addVirtualChildren(
+		VirtualNodeList<ObjectNode> virtualChildren,
+		Map<ArbitraryProperty, ObjectNode> childNodesByArbitraryProperty,
+		List<ArbitraryProperty> childrenProperties
+	) {
+		ObjectNode templateNode = virtualChildren.getTemplate();
+		TraverseNodeMetadata templateMetadata = templateNode.getMetadata();
+		ArbitraryProperty templateArbitraryProperty =
+			templateMetadata.getTreeProperty().toArbitraryProperty(templateMetadata.getNullInject());
+		PropertyNameResolver propertyNameResolver =
+			templateArbitraryProperty.getObjectProperty().getPropertyNameResolver();
+
+		for (int index = 0; index < virtualChildren.size(); index++) {
+			ObjectNode childNode = virtualChildren.getMaterialized(index);
+			ArbitraryProperty childArbitraryProperty;
+			if (childNode != null) {
+				TraverseNodeMetadata childNodeMetadata = childNode.getMetadata();
+				childArbitraryProperty =
+					childNodeMetadata.getTreeProperty().toArbitraryProperty(childNodeMetadata.getNullInject());
+			} else {
+				childNode = templateNode;
+				childArbitraryProperty = new ArbitraryProperty(
+					new ObjectProperty(virtualChildren.getElementProperty(index), propertyNameResolver, index),
+					templateArbitraryProperty.isContainer(),
+					templateArbitraryProperty.getNullInject(),
+					templateArbitraryProperty.getConcreteTypeDefinitions()
+				);
+			}
+			childNodesByArbitraryProperty.put(childArbitraryProperty, childNode);
+			childrenProperties.add(childArbitraryProperty);
+		}
+	}
+
 	@Override
 	public void setTraverseNode(TraverseNode objectNode) {
 		this.objectNode = (ObjectNode)objectNode;
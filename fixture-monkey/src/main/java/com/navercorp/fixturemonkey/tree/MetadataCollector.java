@@ -21,6 +21,7 @@ package com.navercorp.fixturemonkey.tree;
 import static com.navercorp.fixturemonkey.api.type.Types.nullSafe;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -34,6 +35,7 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.tree.VirtualNodeList;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 final class MetadataCollector {
@@ -49,7 +51,7 @@ final class MetadataCollector {
 
 	public ObjectTreeMetadata collect() {
 		rootNode.expand();
-		List<ObjectNode> objectNodes = nullSafe(rootNode.getChildren()).asList();
+		List<ObjectNode> objectNodes = getCollectingChildren(rootNode);
 		for (ObjectNode child : objectNodes) {
 			collect(child);
 		}
@@ -65,7 +67,7 @@ final class MetadataCollector {
 		annotations.addAll(property.getAnnotations());
 
 		node.expand();
-		List<ObjectNode> children = nullSafe(node.getChildren()).asList();
+		List<ObjectNode> children = getCollectingChildren(node);
 		for (ObjectNode child : children) {
 			collect(child);
 		}
@@ -78,4 +80,20 @@ final class MetadataCollector {
 		);
 	}
 
+	/**
+	 * The virtual element nodes which are not materialized are represented by their template node.
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<ObjectNode> getCollectingChildren(ObjectNode node) {
+		List<ObjectNode> children = nullSafe(node.getChildren()).asList();
+		if (!(children instanceof VirtualNodeList)) {
+			return children;
+		}
+
+		VirtualNodeList<ObjectNode> virtualChildren = (VirtualNodeList<ObjectNode>)children;
+		List<ObjectNode> collectingChildren = new ArrayList<>();
+		collectingChildren.add(virtualChildren.getTemplate());
+		collectingChildren.addAll(virtualChildren.getMaterializedNodes());
+		return collectingChildren;
+	}
 }
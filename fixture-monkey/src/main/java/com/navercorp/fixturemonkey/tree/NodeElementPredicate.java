@@ -31,6 +31,10 @@ public final class NodeElementPredicate implements NextNodePredicate {
 		this.index = index;
 	}
 
+	int getIndex() {
+		return index;
+	}
+
 	@Override
 	public boolean test(ObjectProperty currentObjectProperty) {
 		Integer elementIndex = currentObjectProperty.getElementIndex();
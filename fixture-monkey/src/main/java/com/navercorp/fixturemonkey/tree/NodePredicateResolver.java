@@ -17,9 +17,11 @@
  */
 package com.navercorp.fixturemonkey.tree;
 
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 import static com.navercorp.fixturemonkey.api.type.Types.nullSafe;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +32,7 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.property.SingleElementProperty;
+import com.navercorp.fixturemonkey.api.tree.VirtualNodeList;
 
 /**
  * A {@link NodeResolver} that resolves the next nodes by the given {@link NextNodePredicate}.
@@ -58,9 +61,11 @@ public final class NodePredicateResolver implements NodeResolver {
 		}
 
 		nextNode.expand();
-		List<ObjectNode> resolved = nextNode.getChildren().asList().stream()
-			.filter(it -> nextNodePredicate.test(it.getArbitraryProperty().getObjectProperty()))
-			.collect(Collectors.toList());
+		List<ObjectNode> resolved = resolveChildren(nextNode);
+		if (resolved.isEmpty() && nextNode.expandAllTypeDefinitions()) {
+			// the predicate may target the child nodes of the other candidates, not the resolved one
+			resolved = resolveChildren(nextNode);
+		}
 
 		nextNode.setNullInject(NOT_NULL_INJECT);
 		for (ObjectNode node : resolved) {
@@ -87,6 +92,40 @@ public final class NodePredicateResolver implements NodeResolver {
 		return Objects.hash(nextNodePredicate);
 	}
 
+	@SuppressWarnings("dereference.of.nullable")
+	private List<ObjectNode> resolveChildren(ObjectNode nextNode) {
+		List<ObjectNode> children = nextNode.getChildren().asList();
+		Integer targetIndex = getTargetIndex();
+		if (children instanceof VirtualNodeList && targetIndex != null) {
+			// materializes only the targeted element, the sequence of the virtual element node is its index
+			if (targetIndex < 0 || targetIndex >= children.size()) {
+				return new ArrayList<>();
+			}
+
+			ObjectNode targetNode = children.get(targetIndex);
+			if (nextNodePredicate.test(targetNode.getArbitraryProperty().getObjectProperty())) {
+				return new ArrayList<>(Collections.singletonList(targetNode));
+			}
+		}
+
+		return children.stream()
+			.filter(it -> nextNodePredicate.test(it.getArbitraryProperty().getObjectProperty()))
+			.collect(Collectors.toList());
+	}
+
+	@Nullable
+	private Integer getTargetIndex() {
+		if (nextNodePredicate instanceof ContainerElementPredicate) {
+			int sequence = ((ContainerElementPredicate)nextNodePredicate).getSequence();
+			return sequence == NO_OR_ALL_INDEX_INTEGER_VALUE ? null : sequence;
+		}
+
+		if (nextNodePredicate instanceof NodeElementPredicate) {
+			return ((NodeElementPredicate)nextNodePredicate).getIndex();
+		}
+		return null;
+	}
+
 	public ObjectNode resolveStartNode(ObjectNode startNode) {
 		ObjectNode resultNode = getChildNodeIfWrapped(startNode);
 		resultNode.setNullInject(NOT_NULL_INJECT);
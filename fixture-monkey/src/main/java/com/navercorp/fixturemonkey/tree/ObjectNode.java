@@ -42,6 +42,7 @@ import com.navercorp.fixturemonkey.api.tree.TraverseNode;
 import com.navercorp.fixturemonkey.api.tree.TraverseNodeMetadata;
 import com.navercorp.fixturemonkey.api.tree.TreeNodeManipulator;
 import com.navercorp.fixturemonkey.api.tree.TreeProperty;
+import com.navercorp.fixturemonkey.api.tree.VirtualNodeList;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class ObjectNode implements TraverseNode, TraverseNodeMetadata {
@@ -61,6 +62,11 @@ public final class ObjectNode implements TraverseNode, TraverseNodeMetadata {
 
 	public void setChildren(List<ObjectNode> newChildren) {
 		this.children = newChildren;
+		if (newChildren instanceof VirtualNodeList) {
+			// the parent of a virtual node is set on materializing
+			return;
+		}
+
 		for (ObjectNode child : this.children) {
 			child.setParent(this);
 		}
@@ -76,36 +82,30 @@ public final class ObjectNode implements TraverseNode, TraverseNodeMetadata {
 			return false;
 		}
 
-		this.setChildren(
-			nullSafe(this.traverseNode.getChildren()).asList().stream()
-				.map(it -> new ObjectNode(it, generateFixtureContext.newChildNodeContext()))
-				.collect(Collectors.toList())
-		);
+		this.setChildren(this.mergeWithNewChildren(this.newChildren()));
+		return true;
+	}
+
+	@Override
+	public boolean expandAllTypeDefinitions() {
+		if (!this.traverseNode.expandAllTypeDefinitions() && this.children != null) {
+			return false;
+		}
+
+		this.setChildren(this.mergeWithNewChildren(this.newChildren()));
 		return true;
 	}
 
 	@Override
 	public void forceExpand() {
 		this.traverseNode.forceExpand();
-		this.setChildren(
-			this.mergeWithNewChildren(
-				nullSafe(this.traverseNode.getChildren()).asList().stream()
-					.map(it -> new ObjectNode(it, generateFixtureContext.newChildNodeContext()))
-					.collect(Collectors.toList())
-			)
-		);
+		this.setChildren(this.mergeWithNewChildren(this.newChildren()));
 	}
 
 	@Override
 	public void forceExpand(TypeDefinition typeDefinition) {
 		this.traverseNode.forceExpand(typeDefinition);
-		this.setChildren(
-			this.mergeWithNewChildren(
-				nullSafe(this.traverseNode.getChildren()).asList().stream()
-					.map(it -> new ObjectNode(it, generateFixtureContext.newChildNodeContext()))
-					.collect(Collectors.toList())
-			)
-		);
+		this.setChildren(this.mergeWithNewChildren(this.newChildren()));
 	}
 
 	@Override
@@ -201,11 +201,33 @@ public final class ObjectNode implements TraverseNode, TraverseNodeMetadata {
 		return generateFixtureContext;
 	}
 
+	@SuppressWarnings("unchecked")
+	private List<ObjectNode> newChildren() {
+		List<TraverseNode> traverseChildren = nullSafe(this.traverseNode.getChildren()).asList();
+		if (traverseChildren instanceof VirtualNodeList) {
+			return ((VirtualNodeList<TraverseNode>)traverseChildren).map(this::newChild);
+		}
+
+		return traverseChildren.stream()
+			.map(this::newChild)
+			.collect(Collectors.toList());
+	}
+
+	private ObjectNode newChild(TraverseNode traverseNode) {
+		ObjectNode child = new ObjectNode(traverseNode, generateFixtureContext.newChildNodeContext());
+		child.setParent(this);
+		return child;
+	}
+
 	private List<ObjectNode> mergeWithNewChildren(List<ObjectNode> newChildren) {
 		if (this.children == null) {
 			return newChildren;
 		}
 
+		if (this.children instanceof VirtualNodeList || newChildren instanceof VirtualNodeList) {
+			return VirtualNodeList.merge(this.children, newChildren);
+		}
+
 		boolean shrinkChildNodes = this.children.size() > newChildren.size();
 		if (shrinkChildNodes) {
 			return this.children.subList(0, newChildren.size());
@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
@@ -40,10 +41,28 @@ public final class ObjectTree {
 		GenerateFixtureContext generateFixtureContext,
 		TraverseContext traverseContext
 	) {
-		this.rootNode = new ObjectNode(
-			DefaultTraverseNode.generateRootNode(rootProperty, traverseContext),
-			generateFixtureContext
-		);
+		this(rootProperty, generateFixtureContext, traverseContext, null);
+	}
+
+	/**
+	 * Generates the tree by instantiating the given template if it exists.
+	 * Instantiating a template only re-resolves the nodes that may differ for each sample,
+	 * such as the container nodes and the resolved type of the polymorphic nodes.
+	 *
+	 * @param templateRootNode the root node of the template generated by
+	 *                         {@link DefaultTraverseNode#generateTemplateRootNode}
+	 */
+	public ObjectTree(
+		TreeRootProperty rootProperty,
+		GenerateFixtureContext generateFixtureContext,
+		TraverseContext traverseContext,
+		@Nullable DefaultTraverseNode templateRootNode
+	) {
+		DefaultTraverseNode rootTraverseNode = templateRootNode != null
+			? DefaultTraverseNode.instantiateRootNode(templateRootNode, rootProperty, traverseContext)
+			: DefaultTraverseNode.generateRootNode(rootProperty, traverseContext);
+
+		this.rootNode = new ObjectNode(rootTraverseNode, generateFixtureContext);
 		MetadataCollector metadataCollector = new MetadataCollector(rootNode);
 		this.metadata = metadataCollector.collect();
 		this.generateFixtureContext = this.rootNode.getObjectNodeContext();
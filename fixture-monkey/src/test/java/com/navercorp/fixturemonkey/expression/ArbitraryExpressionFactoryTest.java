@@ -0,0 +1,56 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.expression;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.tree.NextNodePredicate;
+
+class ArbitraryExpressionFactoryTest {
+	@Test
+	void fromCached() {
+		ArbitraryExpressionFactory sut = new ArbitraryExpressionFactory();
+
+		MonkeyExpression actual = sut.from("values[0].name");
+
+		then(actual).isSameAs(sut.from("values[0].name"));
+		then(actual.toNodeResolver()).isSameAs(actual.toNodeResolver());
+	}
+
+	@Test
+	void fromHead() {
+		MonkeyExpression actual = new ArbitraryExpressionFactory().from("$");
+
+		then(actual).isSameAs(new ArbitraryExpressionFactory().from("$"));
+	}
+
+	@Test
+	void toNextNodePredicateNotShared() {
+		MonkeyExpression expression = new ArbitraryExpressionFactory().from("values[0].name");
+		List<NextNodePredicate> predicates = expression.toNextNodePredicate();
+
+		predicates.clear();
+
+		then(expression.toNextNodePredicate()).hasSize(4);
+	}
+}
@@ -22,8 +22,11 @@ package com.navercorp.fixturemonkey.test;
 import java.beans.ConstructorProperties;
 import java.lang.reflect.AnnotatedType;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import net.jqwik.api.Arbitraries;
@@ -37,6 +40,7 @@ import lombok.Setter;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -52,6 +56,7 @@ import com.navercorp.fixturemonkey.api.property.ElementProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.api.validator.IncrementalArbitraryValidator;
 import com.navercorp.fixturemonkey.buildergroup.ArbitraryBuilderGroup;
 import com.navercorp.fixturemonkey.customizer.InnerSpec;
 import com.navercorp.fixturemonkey.resolver.ArbitraryBuilderCandidateFactory;
@@ -412,6 +417,18 @@ class FixtureMonkeyOptionsAdditionalTestSpecs {
 		private String value;
 	}
 
+	@Data
+	public static class GetterInterfaceWithFirst implements GetterInterface {
+		private String value;
+		private String first;
+	}
+
+	@Data
+	public static class GetterInterfaceWithSecond implements GetterInterface {
+		private String value;
+		private String second;
+	}
+
 	public static class UniqueArbitraryGenerator implements ArbitraryGenerator {
 		private static final Set<Object> UNIQUE = new HashSet<>();
 
@@ -435,4 +452,62 @@ class FixtureMonkeyOptionsAdditionalTestSpecs {
 				);
 		}
 	}
+
+	@Data
+	public static class TwoStringValue {
+		private String first;
+		private String second;
+	}
+
+	public static class RejectFirstValueIncrementalValidator implements IncrementalArbitraryValidator {
+		private final String rejectedPropertyName;
+		private final Map<String, List<Object>> validatedValuesByPropertyName = new HashMap<>();
+		private long propertyValidationCount = 0;
+		private long propertyViolationCount = 0;
+
+		public RejectFirstValueIncrementalValidator(String rejectedPropertyName) {
+			this.rejectedPropertyName = rejectedPropertyName;
+		}
+
+		@Override
+		public void validate(Object arbitrary) {
+		}
+
+		@Override
+		public boolean isIncremental() {
+			return true;
+		}
+
+		@Override
+		public void validateProperty(Class<?> declaringType, String propertyName, Object value) {
+			List<Object> validatedValues = validatedValuesByPropertyName.computeIfAbsent(
+				propertyName,
+				it -> new ArrayList<>()
+			);
+			validatedValues.add(value);
+			propertyValidationCount++;
+
+			if (rejectedPropertyName.equals(propertyName) && validatedValues.size() == 1) {
+				propertyViolationCount++;
+				throw new ValidationFailedException(
+					"rejected the first value of " + propertyName,
+					Collections.singleton(propertyName)
+				);
+			}
+		}
+
+		@Override
+		public long getPropertyValidationCount() {
+			return propertyValidationCount;
+		}
+
+		@Override
+		public long getPropertyViolationCount() {
+			return propertyViolationCount;
+		}
+
+		public List<Object> getValidatedValues(String propertyName) {
+			return validatedValuesByPropertyName.getOrDefault(propertyName, Collections.emptyList());
+		}
+	}
 }
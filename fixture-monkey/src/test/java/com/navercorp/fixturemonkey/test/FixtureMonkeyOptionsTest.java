@@ -91,15 +91,19 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetterInterface;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetterInterfaceImplementation;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetterInterfaceImplementation2;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetterInterfaceWithFirst;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.GetterInterfaceWithSecond;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.NestedListStringObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.Pair;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.PairContainerPropertyGenerator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.PairInterface;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.PairIntrospector;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.RegisterGroup;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.RejectFirstValueIncrementalValidator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.SelfRecursiveAbstractValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.SelfRecursiveImplementationValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.SimpleObjectChild;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.TwoStringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.UniqueArbitraryGenerator;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.Interface;
@@ -682,6 +686,22 @@ class FixtureMonkeyOptionsTest {
 			.isExactlyInstanceOf(IllegalArgumentException.class);
 	}
 
+	@Example
+	void incrementalArbitraryValidatorRegeneratesViolatedPropertyOnly() {
+		RejectFirstValueIncrementalValidator validator = new RejectFirstValueIncrementalValidator("second");
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.arbitraryValidator(validator)
+			.defaultNotNull(true)
+			.build();
+
+		TwoStringValue actual = sut.giveMeOne(TwoStringValue.class);
+
+		then(validator.getValidatedValues("first")).containsExactly(actual.getFirst());
+		then(validator.getValidatedValues("second")).hasSize(2);
+		then(validator.getValidatedValues("second").get(1)).isEqualTo(actual.getSecond());
+		then(validator.getPropertyViolationCount()).isEqualTo(1);
+	}
+
 	@Example
 	void defaultNotNull() {
 		FixtureMonkey sut = FixtureMonkey.builder()
@@ -857,6 +877,20 @@ class FixtureMonkeyOptionsTest {
 		then(actual).isEqualTo("test");
 	}
 
+	@Example
+	void registerFieldWithPriorityRepeatedly() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(String.class, monkey -> monkey.giveMeBuilder("test2"), 2)
+			.register(String.class, monkey -> monkey.giveMeBuilder("test"), 1)
+			.build();
+
+		List<String> actual = sut.giveMe(SimpleObject.class, 3).stream()
+			.map(SimpleObject::getStr)
+			.collect(Collectors.toList());
+
+		then(actual).containsOnly("test");
+	}
+
 
 	@Example
 	void nullableElement() {
@@ -1304,6 +1338,28 @@ class FixtureMonkeyOptionsTest {
 		then(actual).isIn(1, "fixed");
 	}
 
+	@Example
+	void interfaceImplementsResolvedForEachSample() {
+		// given
+		List<Class<? extends GetFixedValue>> implementations = new ArrayList<>();
+		implementations.add(GetIntegerFixedValue.class);
+		implementations.add(GetStringFixedValue.class);
+
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(
+				new InterfacePlugin()
+					.interfaceImplements(GetFixedValue.class, implementations)
+			)
+			.build();
+
+		// when
+		Set<Class<?>> actual = sut.giveMe(GetFixedValue.class, 100).stream()
+			.map(Object::getClass)
+			.collect(Collectors.toSet());
+
+		then(actual).containsExactlyInAnyOrder(GetIntegerFixedValue.class, GetStringFixedValue.class);
+	}
+
 	@Example
 	void sampleGenericInterface() {
 		// given
@@ -1571,6 +1627,35 @@ class FixtureMonkeyOptionsTest {
 		then(actual).isEqualTo("expected");
 	}
 
+	@Example
+	void strictModeSetFieldOfNotResolvedImplementation() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.useExpressionStrictMode()
+			.plugin(
+				new InterfacePlugin()
+					.interfaceImplements(
+						GetterInterface.class,
+						Arrays.asList(
+							GetterInterfaceWithFirst.class,
+							GetterInterfaceWithSecond.class
+						)
+					)
+			)
+			.build();
+
+		List<GetterInterface> actual = sut.giveMeBuilder(GetterInterface.class)
+			.set("second", "expected")
+			.sampleList(30);
+
+		then(actual)
+			.filteredOn(GetterInterfaceWithSecond.class::isInstance)
+			.map(it -> ((GetterInterfaceWithSecond)it).getSecond())
+			.containsOnly("expected");
+		then(actual)
+			.extracting(Object::getClass)
+			.contains(GetterInterfaceWithFirst.class, GetterInterfaceWithSecond.class);
+	}
+
 	@Example
 	void sampleWithMonkeyStringArbitrary() {
 		FixtureMonkey sut = FixtureMonkey.builder()
@@ -1746,4 +1831,70 @@ class FixtureMonkeyOptionsTest {
 
 		then(actual).isEqualTo(expected);
 	}
+
+	@Example
+	void virtualElementNodeThreshold() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.virtualElementNodeThreshold(10)
+			.build();
+
+		// when
+		List<String> actual = sut.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.size("$", 100)
+			.set("$[50]", "expected")
+			.sample();
+
+		then(actual).hasSize(100);
+		then(actual.get(50)).isEqualTo("expected");
+	}
+
+	@Example
+	void virtualElementNodeThresholdResolvesInterfaceForEachElement() {
+		// given
+		List<Class<? extends GetFixedValue>> implementations = new ArrayList<>();
+		implementations.add(GetIntegerFixedValue.class);
+		implementations.add(GetStringFixedValue.class);
+
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.virtualElementNodeThreshold(10)
+			.plugin(
+				new InterfacePlugin()
+					.interfaceImplements(GetFixedValue.class, implementations)
+			)
+			.build();
+
+		// when
+		Set<Class<?>> actual = sut.giveMeBuilder(new TypeReference<List<GetFixedValue>>() {
+			})
+			.size("$", 100)
+			.sample()
+			.stream()
+			.filter(Objects::nonNull)
+			.map(Object::getClass)
+			.collect(Collectors.toSet());
+
+		then(actual).containsExactlyInAnyOrder(GetIntegerFixedValue.class, GetStringFixedValue.class);
+	}
+
+	@Example
+	void virtualElementNodeThresholdResolvesNestedContainerSizeForEachElement() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.virtualElementNodeThreshold(10)
+			.build();
+
+		// when
+		Set<Integer> actual = sut.giveMeBuilder(new TypeReference<List<List<String>>>() {
+			})
+			.size("$", 100)
+			.sample()
+			.stream()
+			.filter(Objects::nonNull)
+			.map(List::size)
+			.collect(Collectors.toSet());
+
+		then(actual).hasSizeGreaterThan(1);
+	}
 }
@@ -73,6 +73,7 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.RecursiveLeftObje
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SelfRecursiveListObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SelfRecursiveObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SelfRecursiveSupplierObject;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SetStringObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SimpleObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StaticFieldObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringAndInt;
@@ -1462,6 +1463,68 @@ class FixtureMonkeyTest {
 		then(actual).hasSize(200);
 	}
 
+	@Example
+	void sampleLargeList() {
+		// when
+		List<SimpleObject> actual = SUT.giveMeBuilder(new TypeReference<List<SimpleObject>>() {
+			})
+			.size("$", 5000)
+			.set("$[4000].str", "expected")
+			.sample();
+
+		then(actual).hasSize(5000);
+		then(actual.get(4000).getStr()).isEqualTo("expected");
+		then(actual).doesNotContainNull();
+	}
+
+	@Example
+	void sampleLargeListElementsNotAllEqual() {
+		// when
+		List<SimpleObject> actual = SUT.giveMeBuilder(new TypeReference<List<SimpleObject>>() {
+			})
+			.size("$", 5000)
+			.sample();
+
+		then(new HashSet<>(actual)).hasSizeGreaterThan(1);
+	}
+
+	@Example
+	void sampleLargeUniqueSet() {
+		// when
+		Set<StringValue> actual = SUT.giveMeBuilder(new TypeReference<Set<StringValue>>() {
+			})
+			.size("$", 2000)
+			.sample();
+
+		then(actual).hasSize(2000);
+	}
+
+	@Example
+	void sampleLargeListNestedUniqueSet() {
+		// when
+		List<SetStringObject> actual = SUT.giveMeBuilder(new TypeReference<List<SetStringObject>>() {
+			})
+			.size("$", 2000)
+			.setNotNull("$[*].values")
+			.size("$[*].values", 3)
+			.sample();
+
+		then(actual).hasSize(2000);
+		then(actual).allSatisfy(it -> then(it.getValues()).hasSize(3));
+	}
+
+	@Example
+	void sampleLargeListElementSetAll() {
+		// when
+		List<String> actual = SUT.giveMeBuilder(new TypeReference<List<String>>() {
+			})
+			.size("$", 2000)
+			.set("$[*]", "expected")
+			.sample();
+
+		then(actual).hasSize(2000).containsOnly("expected");
+	}
+
 	@Example
 	void sampleUniqueMap() {
 		// when
@@ -1491,6 +1554,49 @@ class FixtureMonkeyTest {
 		then(actual).hasSize(2);
 	}
 
+	@Example
+	void sampleEnumSetOfEnumSize() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.build();
+
+		List<Set<TwoEnum>> actual = sut.giveMeBuilder(new TypeReference<Set<TwoEnum>>() {
+			})
+			.size("$", 2)
+			.sampleList(10);
+
+		then(actual).allSatisfy(it -> then(it).containsExactlyInAnyOrder(TwoEnum.ONE, TwoEnum.TWO));
+	}
+
+	@Example
+	void sampleBooleanSetOfBooleanSize() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.build();
+
+		List<Set<Boolean>> actual = sut.giveMeBuilder(new TypeReference<Set<Boolean>>() {
+			})
+			.size("$", 2)
+			.sampleList(10);
+
+		then(actual).allSatisfy(it -> then(it).containsExactlyInAnyOrder(true, false));
+	}
+
+	@Example
+	void sizeBooleanSetGreaterThanBooleanSizeThrows() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.build();
+
+		thenThrownBy(() ->
+			sut.giveMeBuilder(new TypeReference<Set<Boolean>>() {
+				})
+				.size("$", 3)
+				.sample()
+		).isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("could not be generated");
+	}
+
 	@Example
 	void sizeEnumMapGreaterThanEnumSizeNotThrows() {
 		Map<TwoEnum, String> actual = SUT.giveMeBuilder(new TypeReference<Map<TwoEnum, String>>() {
@@ -44,6 +44,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -151,6 +152,11 @@ class FixtureMonkeyTestSpecs {
 		private List<String> values;
 	}
 
+	@Data
+	public static class SetStringObject {
+		private Set<String> values;
+	}
+
 	@Data
 	public static class NestedStringList {
 		private List<StringValue> values;